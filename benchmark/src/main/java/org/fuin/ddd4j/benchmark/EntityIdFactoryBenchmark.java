@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.benchmark;
+
+import org.fuin.ddd4j.core.EntityId;
+import org.fuin.ddd4j.core.JandexEntityIdFactory;
+import org.fuin.objects4j.common.HasPublicStaticIsValidMethodValidator;
+import org.fuin.objects4j.common.HasPublicStaticValueOfMethodValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the {@link JandexEntityIdFactory} with the reflection based functions of objects4j that were used before and with a direct
+ * call of the static method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityIdFactoryBenchmark {
+
+    private final String type = OrderId.TYPE.asString();
+
+    private final String id = UUID.randomUUID().toString();
+
+    private JandexEntityIdFactory factory;
+
+    private Function<String, EntityId> reflectionValueOf;
+
+    private Function<String, Boolean> reflectionIsValid;
+
+    @Setup
+    public void setup() throws URISyntaxException {
+        factory = new JandexEntityIdFactory(new File(OrderId.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        reflectionValueOf = HasPublicStaticValueOfMethodValidator.findFunction(OrderId.class, "valueOf", String.class);
+        reflectionIsValid = HasPublicStaticIsValidMethodValidator.findFunction(OrderId.class, "isValid", String.class);
+        if (!factory.containsType(type)) {
+            throw new IllegalStateException("Type not found: " + type);
+        }
+    }
+
+    @Benchmark
+    public EntityId valueOfDirect() {
+        return OrderId.valueOf(id);
+    }
+
+    @Benchmark
+    public EntityId valueOfReflection() {
+        return reflectionValueOf.apply(id);
+    }
+
+    @Benchmark
+    public EntityId valueOfFactory() {
+        return factory.createEntityId(type, id);
+    }
+
+    @Benchmark
+    public boolean isValidDirect() {
+        return OrderId.isValid(id);
+    }
+
+    @Benchmark
+    public Boolean isValidReflection() {
+        return reflectionIsValid.apply(id);
+    }
+
+    @Benchmark
+    public boolean isValidFactory() {
+        return factory.isValid(type, id);
+    }
+
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.benchmark;
+
+import org.fuin.ddd4j.core.AggregateRootUuid;
+import org.fuin.ddd4j.core.Ddd4JUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single pass UUID parser of {@link Ddd4JUtils} with the regular expression plus {@link UUID#fromString(String)} that
+ * {@link AggregateRootUuid} and the generated identifiers used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidParseBenchmark {
+
+    /** Expression previously used by {@link AggregateRootUuid#isValid(String)}. */
+    private static final Pattern PATTERN = Pattern
+            .compile("\\{?\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}\\}?");
+
+    private final String id = UUID.randomUUID().toString();
+
+    @Benchmark
+    public boolean isValidPattern() {
+        return id.length() == 36 && PATTERN.matcher(id).matches();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return AggregateRootUuid.isValid(id);
+    }
+
+    @Benchmark
+    public UUID parsePatternAndFromString() {
+        if (id.length() != 36 || !PATTERN.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid UUID: " + id);
+        }
+        return UUID.fromString(id);
+    }
+
+    @Benchmark
+    public UUID parseFromString() {
+        return UUID.fromString(id);
+    }
+
+    @Benchmark
+    public UUID parse() {
+        final UUID uuid = Ddd4JUtils.parseUuid(id);
+        if (uuid == null) {
+            throw new IllegalArgumentException("Invalid UUID: " + id);
+        }
+        return uuid;
+    }
+
+}
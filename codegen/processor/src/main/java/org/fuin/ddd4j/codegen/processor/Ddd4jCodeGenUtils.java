@@ -15,6 +15,18 @@ package org.fuin.ddd4j.codegen.processor;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 /**
@@ -62,4 +74,43 @@ final class Ddd4jCodeGenUtils {
         }
     }
 
+    /**
+     * Writes a <code>META-INF/services</code> file to the class output. Names from an already existing file (for example from a previous
+     * incremental compilation) are kept.
+     *
+     * @param processingEnv
+     *            Processing environment.
+     * @param serviceFile
+     *            Path of the service file like <code>META-INF/services/a.b.MyService</code>.
+     * @param classNames
+     *            Fully qualified names of the service implementations.
+     */
+    public static void writeServiceFile(final ProcessingEnvironment processingEnv, final String serviceFile, final Set<String> classNames) {
+        final Set<String> names = new TreeSet<>(classNames);
+        try {
+            final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            try (final Reader reader = existing.openReader(true); final BufferedReader in = new BufferedReader(reader)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        names.add(line.trim());
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            // No existing file from a previous (incremental) compilation
+        }
+        try {
+            final FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            try (final Writer writer = new OutputStreamWriter(fileObject.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final String name : names) {
+                    writer.write(name);
+                    writer.write("\n");
+                }
+            }
+        } catch (final IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + serviceFile + ": " + ex);
+        }
+    }
+
 }
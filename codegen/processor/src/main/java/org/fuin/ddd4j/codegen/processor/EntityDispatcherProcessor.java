@@ -0,0 +1,280 @@
+/**
+ * Copyright (C) 2020 Michael Schnell. All rights reserved. http://www.fuin.org/
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Affero General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.fuin.ddd4j.codegen.processor;
+
+import com.google.auto.service.AutoService;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.createVelocityEngine;
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.runWithContextClassLoader;
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.writeServiceFile;
+
+/**
+ * Generates an <code>EntityDispatcher</code> for every concrete aggregate root or entity class that has methods annotated with
+ * <code>ApplyEvent</code> or <code>ChildEntityLocator</code>. The generated class uses a switch on the event or identifier class name and
+ * calls the annotated methods directly. All generated classes are registered in
+ * <code>META-INF/services/org.fuin.ddd4j.core.EntityDispatcher</code>, so the aggregate root picks them up automatically. Classes with
+ * annotated methods that cannot be called from a generated class in the same package (for example private methods) are skipped and
+ * will use the reflection based dispatcher at runtime.
+ */
+@SupportedAnnotationTypes({
+        EntityDispatcherProcessor.APPLY_EVENT,
+        EntityDispatcherProcessor.CHILD_ENTITY_LOCATOR
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+@AutoService(Processor.class)
+public final class EntityDispatcherProcessor extends AbstractProcessor {
+
+    static final String APPLY_EVENT = "org.fuin.ddd4j.core.ApplyEvent";
+
+    static final String CHILD_ENTITY_LOCATOR = "org.fuin.ddd4j.core.ChildEntityLocator";
+
+    static final String ENTITY_DISPATCHER = "org.fuin.ddd4j.core.EntityDispatcher";
+
+    static final String CLASS_NAME_SUFFIX = "_EntityDispatcher";
+
+    private static final String ABSTRACT_AGGREGATE_ROOT = "org.fuin.ddd4j.core.AbstractAggregateRoot";
+
+    private static final String ABSTRACT_ENTITY = "org.fuin.ddd4j.core.AbstractEntity";
+
+    private static final String ENTITY = "org.fuin.ddd4j.core.Entity";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + ENTITY_DISPATCHER;
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            if (!generated.isEmpty()) {
+                writeServiceFile(processingEnv, SERVICE_FILE, generated);
+            }
+            return false;
+        }
+
+        for (final Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement typeElement && isConcreteEntity(typeElement)) {
+                final String dispatcherName = typeElement.getQualifiedName() + CLASS_NAME_SUFFIX;
+                if (!generated.contains(dispatcherName) && generateCode(typeElement, dispatcherName)) {
+                    generated.add(dispatcherName);
+                }
+            }
+        }
+        return false;
+
+    }
+
+    private boolean isConcreteEntity(final TypeElement typeElement) {
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                || !(typeElement.getEnclosingElement() instanceof PackageElement)) {
+            return false;
+        }
+        return isSubclassOf(typeElement, ABSTRACT_AGGREGATE_ROOT) || isSubclassOf(typeElement, ABSTRACT_ENTITY);
+    }
+
+    private boolean isSubclassOf(final TypeElement typeElement, final String parentName) {
+        final TypeElement parent = processingEnv.getElementUtils().getTypeElement(parentName);
+        if (parent == null) {
+            return false;
+        }
+        final TypeMirror erasedParent = processingEnv.getTypeUtils().erasure(parent.asType());
+        return processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(typeElement.asType()), erasedParent);
+    }
+
+    private boolean generateCode(final TypeElement entity, final String dispatcherName) {
+
+        final String packageName = ((PackageElement) entity.getEnclosingElement()).getQualifiedName().toString();
+        final Map<String, Map<String, String>> handlers = new LinkedHashMap<>();
+        final Map<String, Map<String, String>> locators = new LinkedHashMap<>();
+        final boolean ok = collectMethods(entity, packageName, handlers, locators);
+        if (!ok || (handlers.isEmpty() && locators.isEmpty())) {
+            return false;
+        }
+
+        return runWithContextClassLoader(() -> {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generating code for: " + dispatcherName);
+            try {
+                final JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(dispatcherName, entity);
+                try (final Writer writer = fileObject.openWriter()) {
+                    final VelocityEngine ve = createVelocityEngine();
+                    final VelocityContext context = new VelocityContext();
+                    context.put("package", packageName);
+                    context.put("class", entity.getSimpleName() + CLASS_NAME_SUFFIX);
+                    context.put("entityClass", entity.getQualifiedName().toString());
+                    context.put("entityType", typeWithWildcards(entity));
+                    context.put("handlers", new ArrayList<>(handlers.values()));
+                    context.put("locators", new ArrayList<>(locators.values()));
+                    final Template template = ve.getTemplate("EntityDispatcher.java");
+                    template.merge(context, writer);
+                }
+                return true;
+            } catch (final Exception ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write source for: " + dispatcherName + " - " + ex,
+                        entity);
+                return false;
+            }
+        }, getClass().getClassLoader());
+
+    }
+
+    /**
+     * Collects the annotated methods from the class and its parents. Methods of a sub class are found before the ones of the parent class
+     * and the first method for an argument type wins. This is the same order as used by the reflection based dispatcher.
+     */
+    private boolean collectMethods(final TypeElement entity, final String packageName, final Map<String, Map<String, String>> handlers,
+                                   final Map<String, Map<String, String>> locators) {
+
+        TypeElement current = entity;
+        while (current != null && !current.getQualifiedName().contentEquals(ABSTRACT_AGGREGATE_ROOT)
+                && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (final Element element : current.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    final ExecutableElement method = (ExecutableElement) element;
+                    if (hasAnnotation(method, APPLY_EVENT)) {
+                        if (!addMethod(entity, packageName, current, method, handlers)) {
+                            return false;
+                        }
+                    } else if (hasAnnotation(method, CHILD_ENTITY_LOCATOR)) {
+                        if (!returnsEntity(method)) {
+                            return skip(entity, "Method '" + method + "' in '" + current + "' does not return an entity");
+                        }
+                        if (!addMethod(entity, packageName, current, method, locators)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            current = superClass(current);
+        }
+        return true;
+
+    }
+
+    private boolean addMethod(final TypeElement entity, final String packageName, final TypeElement declaring,
+                              final ExecutableElement method, final Map<String, Map<String, String>> methods) {
+
+        if (method.getParameters().size() != 1) {
+            // Ignored by the reflection based dispatcher as well
+            return true;
+        }
+        final TypeMirror paramType = method.getParameters().get(0).asType();
+        if (paramType.getKind() != TypeKind.DECLARED) {
+            return skip(entity, "Parameter of method '" + method + "' in '" + declaring + "' is not a class");
+        }
+        final TypeElement paramElement = (TypeElement) ((DeclaredType) paramType).asElement();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(paramElement).toString();
+        if (methods.containsKey(binaryName)) {
+            return true;
+        }
+        if (!accessible(method, declaring, packageName) || !accessible(paramElement, packageName)) {
+            return skip(entity, "Method '" + method + "' in '" + declaring + "' is not accessible from package '" + packageName + "'");
+        }
+        final Map<String, String> map = new HashMap<>();
+        map.put("name", binaryName);
+        map.put("type", typeWithWildcards(paramElement));
+        map.put("method", method.getSimpleName().toString());
+        map.put("receiver", method.getModifiers().contains(Modifier.STATIC) ? declaring.getQualifiedName().toString() : "target");
+        methods.put(binaryName, Collections.unmodifiableMap(map));
+        return true;
+
+    }
+
+    private boolean returnsEntity(final ExecutableElement method) {
+        final TypeElement entity = processingEnv.getElementUtils().getTypeElement(ENTITY);
+        return entity != null && processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(method.getReturnType()),
+                processingEnv.getTypeUtils().erasure(entity.asType()));
+    }
+
+    private boolean skip(final TypeElement entity, final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "No dispatcher generated for '" + entity.getQualifiedName() + "' (using reflection instead): " + reason, entity);
+        return false;
+    }
+
+    private boolean accessible(final Element element, final String packageName) {
+        final Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean accessible(final ExecutableElement method, final TypeElement declaring, final String packageName) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (processingEnv.getElementUtils().getPackageOf(declaring).getQualifiedName().contentEquals(packageName)) {
+            return true;
+        }
+        return method.getModifiers().contains(Modifier.PUBLIC) && declaring.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    private static boolean hasAnnotation(final Element element, final String annotationName) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TypeElement superClass(final TypeElement typeElement) {
+        final TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private static String typeWithWildcards(final TypeElement typeElement) {
+        final int count = typeElement.getTypeParameters().size();
+        if (count == 0) {
+            return typeElement.getQualifiedName().toString();
+        }
+        return typeElement.getQualifiedName() + "<" + String.join(", ", Collections.nCopies(count, "?")) + ">";
+    }
+
+}
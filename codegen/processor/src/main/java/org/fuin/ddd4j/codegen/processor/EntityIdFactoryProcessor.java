@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2020 Michael Schnell. All rights reserved. http://www.fuin.org/
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Affero General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.fuin.ddd4j.codegen.processor;
+
+import com.google.auto.service.AutoService;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.createVelocityEngine;
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.runWithContextClassLoader;
+import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.writeServiceFile;
+
+/**
+ * Generates an <code>EntityIdFactory</code> for every concrete and public entity identifier class that has a type constant
+ * (<code>HasEntityTypeConstant</code>) and public static methods to create (<code>HasPublicStaticValueOfMethod</code>) and verify
+ * (<code>HasPublicStaticIsValidMethod</code>) an instance from a string. This includes the identifiers generated for
+ * <code>AggregateRootUuidVO</code> and <code>IntegerEntityIdVO</code>. The generated class calls the static methods directly. All
+ * generated classes are registered in <code>META-INF/services/org.fuin.ddd4j.core.EntityIdFactory</code>, so they can be combined at
+ * runtime using the <code>ServiceLoaderEntityIdFactory</code> without scanning the class path.
+ */
+@SupportedAnnotationTypes(EntityIdFactoryProcessor.HAS_ENTITY_TYPE_CONSTANT)
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+@AutoService(Processor.class)
+public final class EntityIdFactoryProcessor extends AbstractProcessor {
+
+    static final String HAS_ENTITY_TYPE_CONSTANT = "org.fuin.ddd4j.core.HasEntityTypeConstant";
+
+    static final String ENTITY_ID_FACTORY = "org.fuin.ddd4j.core.EntityIdFactory";
+
+    static final String CLASS_NAME_SUFFIX = "_EntityIdFactory";
+
+    private static final String HAS_PUBLIC_STATIC_VALUE_OF_METHOD = "org.fuin.objects4j.common.HasPublicStaticValueOfMethod";
+
+    private static final String HAS_PUBLIC_STATIC_IS_VALID_METHOD = "org.fuin.objects4j.common.HasPublicStaticIsValidMethod";
+
+    private static final String ENTITY_ID = "org.fuin.ddd4j.core.EntityId";
+
+    private static final String ENTITY_TYPE = "org.fuin.ddd4j.core.EntityType";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + ENTITY_ID_FACTORY;
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            if (!generated.isEmpty()) {
+                writeServiceFile(processingEnv, SERVICE_FILE, generated);
+            }
+            return false;
+        }
+
+        for (final Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement typeElement && isConcreteEntityId(typeElement)) {
+                final String factoryName = typeElement.getQualifiedName() + CLASS_NAME_SUFFIX;
+                if (!generated.contains(factoryName) && generateCode(typeElement, factoryName)) {
+                    generated.add(factoryName);
+                }
+            }
+        }
+        return false;
+
+    }
+
+    private boolean isConcreteEntityId(final TypeElement typeElement) {
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                || !(typeElement.getEnclosingElement() instanceof PackageElement)) {
+            return false;
+        }
+        final TypeElement entityId = processingEnv.getElementUtils().getTypeElement(ENTITY_ID);
+        return entityId != null && processingEnv.getTypeUtils().isSubtype(typeElement.asType(), entityId.asType())
+                && annotation(typeElement, HAS_ENTITY_TYPE_CONSTANT) != null;
+    }
+
+    private boolean generateCode(final TypeElement idClass, final String factoryName) {
+
+        if (!idClass.getModifiers().contains(Modifier.PUBLIC)) {
+            return skip(idClass, "Class is not public");
+        }
+        final String typeConstant = stringValue(annotation(idClass, HAS_ENTITY_TYPE_CONSTANT), "value");
+        if (!hasTypeConstant(idClass, typeConstant)) {
+            return skip(idClass, "No public static constant '" + typeConstant + "' of type " + ENTITY_TYPE);
+        }
+        final String valueOfMethod = methodName(idClass, HAS_PUBLIC_STATIC_VALUE_OF_METHOD, "valueOf");
+        if (!hasStaticStringMethod(idClass, valueOfMethod, idClass.asType())) {
+            return skip(idClass, "No public static method '" + valueOfMethod + "(String)' returning the identifier");
+        }
+        final String isValidMethod = methodName(idClass, HAS_PUBLIC_STATIC_IS_VALID_METHOD, "isValid");
+        if (!hasStaticStringMethod(idClass, isValidMethod, processingEnv.getTypeUtils().getPrimitiveType(TypeKind.BOOLEAN))) {
+            return skip(idClass, "No public static method 'boolean " + isValidMethod + "(String)'");
+        }
+
+        final String packageName = ((PackageElement) idClass.getEnclosingElement()).getQualifiedName().toString();
+        return runWithContextClassLoader(() -> {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generating code for: " + factoryName);
+            try {
+                final JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(factoryName, idClass);
+                try (final Writer writer = fileObject.openWriter()) {
+                    final VelocityEngine ve = createVelocityEngine();
+                    final VelocityContext context = new VelocityContext();
+                    context.put("package", packageName);
+                    context.put("class", idClass.getSimpleName() + CLASS_NAME_SUFFIX);
+                    context.put("idClass", idClass.getQualifiedName().toString());
+                    context.put("typeConstant", typeConstant);
+                    context.put("valueOfMethod", valueOfMethod);
+                    context.put("isValidMethod", isValidMethod);
+                    final Template template = ve.getTemplate("EntityIdFactory.java");
+                    template.merge(context, writer);
+                }
+                return true;
+            } catch (final Exception ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write source for: " + factoryName + " - " + ex,
+                        idClass);
+                return false;
+            }
+        }, getClass().getClassLoader());
+
+    }
+
+    private boolean hasTypeConstant(final TypeElement idClass, final String name) {
+        final TypeElement entityType = processingEnv.getElementUtils().getTypeElement(ENTITY_TYPE);
+        for (final VariableElement field : ElementFilter.fieldsIn(processingEnv.getElementUtils().getAllMembers(idClass))) {
+            if (field.getSimpleName().contentEquals(name) && field.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))
+                    && entityType != null && processingEnv.getTypeUtils().isAssignable(field.asType(), entityType.asType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasStaticStringMethod(final TypeElement idClass, final String name, final TypeMirror returnType) {
+        final TypeMirror stringType = processingEnv.getElementUtils().getTypeElement(String.class.getName()).asType();
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(idClass))) {
+            if (method.getSimpleName().contentEquals(name) && method.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))
+                    && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), stringType)
+                    && processingEnv.getTypeUtils().isAssignable(method.getReturnType(), returnType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String methodName(final TypeElement idClass, final String annotationName, final String defaultName) {
+        final AnnotationMirror mirror = annotation(idClass, annotationName);
+        if (mirror == null) {
+            return defaultName;
+        }
+        return stringValue(mirror, "method");
+    }
+
+    private boolean skip(final TypeElement idClass, final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "No entity identifier factory generated for '" + idClass.getQualifiedName() + "': " + reason, idClass);
+        return false;
+    }
+
+    /**
+     * Returns the annotation from the class or one of its parents (All annotations in question are inherited).
+     */
+    private AnnotationMirror annotation(final TypeElement typeElement, final String annotationName) {
+        for (final AnnotationMirror mirror : processingEnv.getElementUtils().getAllAnnotationMirrors(typeElement)) {
+            final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String stringValue(final AnnotationMirror mirror, final String name) {
+        final Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils()
+                .getElementValuesWithDefaults(mirror);
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        throw new IllegalStateException("No value '" + name + "' in: " + mirror);
+    }
+
+}
@@ -46,6 +46,7 @@ import static org.fuin.ddd4j.codegen.processor.Ddd4jCodeGenUtils.runWithContextC
         ValueObjectProcessor.STRING_VO,
         ValueObjectProcessor.AGGREGATE_ROOT_UUID_VO,
         ValueObjectProcessor.INTEGER_ENTITY_ID_VO,
+        ValueObjectProcessor.LONG_ENTITY_ID_VO,
         ValueObjectProcessor.EVENT_VO
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
@@ -58,6 +59,8 @@ public final class ValueObjectProcessor extends AbstractProcessor {
 
     static final String INTEGER_ENTITY_ID_VO = "org.fuin.ddd4j.codegen.api.IntegerEntityIdVO";
 
+    static final String LONG_ENTITY_ID_VO = "org.fuin.ddd4j.codegen.api.LongEntityIdVO";
+
     static final String EVENT_VO = "org.fuin.ddd4j.codegen.api.EventVO";
 
     @SuppressWarnings("rawtypes")
@@ -74,6 +77,7 @@ public final class ValueObjectProcessor extends AbstractProcessor {
         templateMap.put(STRING_VO, new StringVOTemplate());
         templateMap.put(AGGREGATE_ROOT_UUID_VO, new AggregateRootUuidVOTemplate());
         templateMap.put(INTEGER_ENTITY_ID_VO, new IntegerEntityIdVOTemplate());
+        templateMap.put(LONG_ENTITY_ID_VO, new LongEntityIdVOTemplate());
         templateMap.put(EVENT_VO, new EventVOTemplate());
     }
 
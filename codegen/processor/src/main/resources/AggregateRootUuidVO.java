@@ -27,6 +27,7 @@ import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 #end
 import org.fuin.ddd4j.core.AggregateRootUuid;
+import org.fuin.ddd4j.core.Ddd4JUtils;
 import org.fuin.ddd4j.core.EntityType;
 import org.fuin.ddd4j.core.HasEntityTypeConstant;
 import org.fuin.ddd4j.core.StringBasedEntityType;
@@ -80,8 +81,11 @@ public final class ${class} extends AggregateRootUuid {
         if (value == null) {
             return null;
         }
-        requireArgValid("value", value);
-        return new ${class}(UUID.fromString(value));
+        final UUID uuid = Ddd4JUtils.parseUuid(value);
+        if (uuid == null) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");
+        }
+        return new ${class}(uuid);
     }
     
     /**
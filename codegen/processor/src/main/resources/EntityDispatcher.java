@@ -0,0 +1,71 @@
+package ${package};
+
+import jakarta.annotation.Generated;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.Entity;
+import org.fuin.ddd4j.core.EntityDispatcher;
+import org.fuin.ddd4j.core.EntityId;
+
+/**
+ * Applies events to and locates child entities of {@link ${entityClass}} without using reflection.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+public final class ${class} implements EntityDispatcher {
+
+    @Override
+    public Class<?> getEntityClass() {
+        return ${entityClass}.class;
+    }
+
+    @Override
+    public boolean applyEvent(final Entity<?> entity, final DomainEvent<?> event) {
+#if($handlers.isEmpty())
+        return false;
+#else
+        final ${entityType} target = (${entityType}) entity;
+        switch (event.getClass().getName()) {
+#foreach($handler in $handlers)
+            case "${handler.name}":
+                ${handler.receiver}.${handler.method}((${handler.type}) event);
+                return true;
+#end
+            default:
+                return false;
+        }
+#end
+    }
+
+    @Override
+    public boolean hasChildEntityLocator(final Class<?> idClass) {
+#if($locators.isEmpty())
+        return false;
+#else
+        switch (idClass.getName()) {
+#foreach($locator in $locators)
+            case "${locator.name}":
+#end
+                return true;
+            default:
+                return false;
+        }
+#end
+    }
+
+    @Override
+    public Entity<?> locateChild(final Entity<?> entity, final EntityId childId) {
+#if(!$locators.isEmpty())
+        final ${entityType} target = (${entityType}) entity;
+        switch (childId.getClass().getName()) {
+#foreach($locator in $locators)
+            case "${locator.name}":
+                return ${locator.receiver}.${locator.method}((${locator.type}) childId);
+#end
+            default:
+                break;
+        }
+#end
+        throw new IllegalArgumentException("No method annotated with @ChildEntityLocator and argument '"
+                + childId.getClass().getName() + "' found in '" + ${entityClass}.class.getName() + "'");
+    }
+
+}
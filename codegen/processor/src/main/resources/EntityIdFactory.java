@@ -0,0 +1,31 @@
+package ${package};
+
+import jakarta.annotation.Generated;
+import org.fuin.ddd4j.core.EntityId;
+import org.fuin.ddd4j.core.EntityIdFactory;
+
+/**
+ * Creates {@link ${idClass}} instances without using reflection.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+public final class ${class} implements EntityIdFactory {
+
+    @Override
+    public boolean containsType(final String type) {
+        return ${idClass}.${typeConstant}.asString().equals(type);
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        return containsType(type) && ${idClass}.${isValidMethod}(id);
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        if (!containsType(type)) {
+            throw new IllegalArgumentException("Unknown type: " + type + " (Known type is: " + ${idClass}.${typeConstant} + ")");
+        }
+        return ${idClass}.${valueOfMethod}(id);
+    }
+
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright (C) 2020 Michael Schnell. All rights reserved. http://www.fuin.org/
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Affero General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.fuin.ddd4j.codegen.processor;
+
+import io.toolisticon.cute.Cute;
+import io.toolisticon.cute.CuteApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the {@link EntityDispatcherProcessor} class.
+ */
+public final class EntityDispatcherProcessorTest {
+
+    private static final String ORDER_ID = """
+            package input;
+
+            import org.fuin.ddd4j.core.AggregateRootUuid;
+            import org.fuin.ddd4j.core.EntityType;
+            import org.fuin.ddd4j.core.StringBasedEntityType;
+
+            public final class OrderId extends AggregateRootUuid {
+                public static final EntityType TYPE = new StringBasedEntityType("Order");
+                public OrderId() {
+                    super(TYPE);
+                }
+            }
+            """;
+
+    private static final String ITEM_ID = """
+            package input;
+
+            import org.fuin.ddd4j.core.EntityType;
+            import org.fuin.ddd4j.core.IntegerEntityId;
+            import org.fuin.ddd4j.core.StringBasedEntityType;
+
+            public final class ItemId extends IntegerEntityId {
+                public static final EntityType TYPE = new StringBasedEntityType("Item");
+                public ItemId(final Integer id) {
+                    super(TYPE, id);
+                }
+            }
+            """;
+
+    private static final String ORDER_CREATED_EVENT = """
+            package input;
+
+            import org.fuin.ddd4j.core.EntityIdPath;
+            import org.fuin.ddd4j.core.EventType;
+            import org.fuin.ddd4j.jackson.AbstractDomainEvent;
+
+            public final class OrderCreatedEvent extends AbstractDomainEvent<OrderId> {
+                public OrderCreatedEvent(final OrderId id) {
+                    super(new EntityIdPath(id));
+                }
+                @Override
+                public EventType getEventType() {
+                    return new EventType("OrderCreatedEvent");
+                }
+            }
+            """;
+
+    private static final String ITEM_ADDED_EVENT = """
+            package input;
+
+            import org.fuin.ddd4j.core.EntityIdPath;
+            import org.fuin.ddd4j.core.EventType;
+            import org.fuin.ddd4j.jackson.AbstractDomainEvent;
+
+            public final class ItemAddedEvent extends AbstractDomainEvent<OrderId> {
+                private final ItemId itemId;
+                public ItemAddedEvent(final OrderId id, final ItemId itemId) {
+                    super(new EntityIdPath(id));
+                    this.itemId = itemId;
+                }
+                public ItemId getItemId() {
+                    return itemId;
+                }
+                @Override
+                public EventType getEventType() {
+                    return new EventType("ItemAddedEvent");
+                }
+            }
+            """;
+
+    private static final String ITEM = """
+            package input;
+
+            import org.fuin.ddd4j.core.AbstractEntity;
+            import org.fuin.ddd4j.core.EntityType;
+
+            public final class Item extends AbstractEntity<OrderId, Order, ItemId> {
+                private final ItemId id;
+                public Item(final Order root, final ItemId id) {
+                    super(root);
+                    this.id = id;
+                }
+                @Override
+                public ItemId getId() {
+                    return id;
+                }
+                @Override
+                public EntityType getType() {
+                    return ItemId.TYPE;
+                }
+            }
+            """;
+
+    CuteApi.BlackBoxTestSourceFilesInterface compileTestBuilder;
+
+    @BeforeEach
+    public void init() {
+        compileTestBuilder = Cute.blackBoxTest().given().processors(EntityDispatcherProcessor.class);
+    }
+
+    @Test
+    public void testAggregateRoot() {
+
+        compileTestBuilder
+                .andSourceFile("input.OrderId", ORDER_ID)
+                .andSourceFile("input.ItemId", ITEM_ID)
+                .andSourceFile("input.OrderCreatedEvent", ORDER_CREATED_EVENT)
+                .andSourceFile("input.ItemAddedEvent", ITEM_ADDED_EVENT)
+                .andSourceFile("input.Item", ITEM)
+                .andSourceFile("input.Order", """
+                        package input;
+
+                        import java.util.ArrayList;
+                        import java.util.List;
+                        import org.fuin.ddd4j.core.AbstractAggregateRoot;
+                        import org.fuin.ddd4j.core.ApplyEvent;
+                        import org.fuin.ddd4j.core.ChildEntityLocator;
+                        import org.fuin.ddd4j.core.EntityType;
+
+                        public final class Order extends AbstractAggregateRoot<OrderId> {
+                            private OrderId id;
+                            private final List<Item> items = new ArrayList<>();
+                            @Override
+                            public OrderId getId() {
+                                return id;
+                            }
+                            @Override
+                            public EntityType getType() {
+                                return OrderId.TYPE;
+                            }
+                            @ChildEntityLocator
+                            Item findItem(final ItemId itemId) {
+                                return items.stream().filter(item -> item.getId().equals(itemId)).findFirst().orElse(null);
+                            }
+                            @ApplyEvent
+                            void handle(final OrderCreatedEvent event) {
+                                id = event.getEntityId();
+                            }
+                            @ApplyEvent
+                            public void handle(final ItemAddedEvent event) {
+                                items.add(new Item(this, event.getItemId()));
+                            }
+                        }
+                        """)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedSourceFile("input.Order" + EntityDispatcherProcessor.CLASS_NAME_SUFFIX)
+                .matches(new ExpectedFileMatcher("/expected/EntityDispatcher/Order.java"))
+                .andThat()
+                .generatedSourceFile("input.Item" + EntityDispatcherProcessor.CLASS_NAME_SUFFIX)
+                .doesntExist()
+                .andThat()
+                .generatedResourceFile("", "META-INF/services/" + EntityDispatcherProcessor.ENTITY_DISPATCHER)
+                .exists()
+                .executeTest();
+
+    }
+
+    @Test
+    public void testPrivateMethodFallsBackToReflection() {
+
+        compileTestBuilder
+                .andSourceFile("input.OrderId", ORDER_ID)
+                .andSourceFile("input.ItemId", ITEM_ID)
+                .andSourceFile("input.OrderCreatedEvent", ORDER_CREATED_EVENT)
+                .andSourceFile("input.ItemAddedEvent", ITEM_ADDED_EVENT)
+                .andSourceFile("input.Item", ITEM)
+                .andSourceFile("input.Order", """
+                        package input;
+
+                        import org.fuin.ddd4j.core.AbstractAggregateRoot;
+                        import org.fuin.ddd4j.core.ApplyEvent;
+                        import org.fuin.ddd4j.core.EntityType;
+
+                        public final class Order extends AbstractAggregateRoot<OrderId> {
+                            private OrderId id;
+                            @Override
+                            public OrderId getId() {
+                                return id;
+                            }
+                            @Override
+                            public EntityType getType() {
+                                return OrderId.TYPE;
+                            }
+                            @ApplyEvent
+                            private void handle(final OrderCreatedEvent event) {
+                                id = event.getEntityId();
+                            }
+                        }
+                        """)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedSourceFile("input.Order" + EntityDispatcherProcessor.CLASS_NAME_SUFFIX)
+                .doesntExist()
+                .executeTest();
+
+    }
+
+}
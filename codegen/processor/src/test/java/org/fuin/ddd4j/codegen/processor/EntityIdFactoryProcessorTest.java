@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2020 Michael Schnell. All rights reserved. http://www.fuin.org/
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Affero General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.fuin.ddd4j.codegen.processor;
+
+import io.toolisticon.cute.Cute;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the {@link EntityIdFactoryProcessor} class.
+ */
+public final class EntityIdFactoryProcessorTest {
+
+    @Test
+    public void testEntityId() {
+
+        Cute.blackBoxTest().given().processors(EntityIdFactoryProcessor.class)
+                .andSourceFile("input.CustomerId", """
+                        package input;
+
+                        import org.fuin.ddd4j.core.AggregateRootUuid;
+                        import org.fuin.ddd4j.core.EntityType;
+                        import org.fuin.ddd4j.core.HasEntityTypeConstant;
+                        import org.fuin.ddd4j.core.StringBasedEntityType;
+                        import org.fuin.objects4j.common.HasPublicStaticValueOfMethod;
+                        import java.util.UUID;
+
+                        @HasPublicStaticValueOfMethod
+                        @HasEntityTypeConstant
+                        public final class CustomerId extends AggregateRootUuid {
+                            public static final EntityType TYPE = new StringBasedEntityType("Customer");
+                            public CustomerId(final UUID uuid) {
+                                super(TYPE, uuid);
+                            }
+                            public static CustomerId valueOf(final String value) {
+                                return new CustomerId(UUID.fromString(value));
+                            }
+                        }
+                        """)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedSourceFile("input.CustomerId" + EntityIdFactoryProcessor.CLASS_NAME_SUFFIX)
+                .matches(new ExpectedFileMatcher("/expected/EntityIdFactory/CustomerId.java"))
+                .andThat()
+                .generatedResourceFile("", "META-INF/services/" + EntityIdFactoryProcessor.ENTITY_ID_FACTORY)
+                .exists()
+                .executeTest();
+
+    }
+
+    @Test
+    public void testMissingValueOfMethod() {
+
+        Cute.blackBoxTest().given().processors(EntityIdFactoryProcessor.class)
+                .andSourceFile("input.CustomerId", """
+                        package input;
+
+                        import org.fuin.ddd4j.core.AggregateRootUuid;
+                        import org.fuin.ddd4j.core.EntityType;
+                        import org.fuin.ddd4j.core.HasEntityTypeConstant;
+                        import org.fuin.ddd4j.core.StringBasedEntityType;
+                        import java.util.UUID;
+
+                        @HasEntityTypeConstant
+                        public final class CustomerId extends AggregateRootUuid {
+                            public static final EntityType TYPE = new StringBasedEntityType("Customer");
+                            public CustomerId(final UUID uuid) {
+                                super(TYPE, uuid);
+                            }
+                        }
+                        """)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedSourceFile("input.CustomerId" + EntityIdFactoryProcessor.CLASS_NAME_SUFFIX)
+                .doesntExist()
+                .executeTest();
+
+    }
+
+    @Test
+    public void testGeneratedValueObject() {
+
+        Cute.blackBoxTest().given().processors(ValueObjectProcessor.class, EntityIdFactoryProcessor.class)
+                .andSourceFile("input.CompanyIdExample", """
+                        package input;
+
+                        import org.fuin.ddd4j.codegen.api.AggregateRootUuidVO;
+
+                        @AggregateRootUuidVO(pkg="org.fuin.ddd4jcodegen.test",
+                                name = "CompanyId",
+                                entityType = "COMPANY",
+                                description = "Unique identifier of a company",
+                                serialVersionUID = 1000L,
+                                example = "4d48c20e-6cd2-44c5-8063-767ea0a65ec4"
+                        )
+                        public interface CompanyIdExample {
+                        }
+                        """)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedSourceFile("org.fuin.ddd4jcodegen.test.CompanyId" + EntityIdFactoryProcessor.CLASS_NAME_SUFFIX)
+                .matches(new ExpectedFileMatcher("/expected/EntityIdFactory/CompanyId.java"))
+                .executeTest();
+
+    }
+
+}
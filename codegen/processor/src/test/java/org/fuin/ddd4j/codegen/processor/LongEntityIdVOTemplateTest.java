@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2020 Michael Schnell. All rights reserved. http://www.fuin.org/
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Affero General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.fuin.ddd4j.codegen.processor;
+
+import io.toolisticon.cute.Cute;
+import io.toolisticon.cute.CuteApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the {@link LongEntityIdVOTemplate} class.
+ */
+public final class LongEntityIdVOTemplateTest {
+
+    CuteApi.BlackBoxTestSourceFilesInterface compileTestBuilder;
+
+    @BeforeEach
+    public void init() {
+        compileTestBuilder = Cute.blackBoxTest().given().processors(ValueObjectProcessor.class);
+    }
+
+    @Test
+    public void testAllConverters() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "AllConverters", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         jpa = true, jaxb = true, jsonb = true, openapi = true,
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+    @Test
+    public void testNoConverters() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "NoConverters", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+    @Test
+    public void testJpaOnly() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "JpaOnly", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         jpa = true,
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+    @Test
+    public void testJaxbOnly() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "JaxbOnly", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         jaxb = true,
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+    @Test
+    public void testJsonbOnly() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "JsonbOnly", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         jsonb = true,
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+    @Test
+    public void testOpenapiOnly() {
+
+        TestUtils.testAnnotation(compileTestBuilder, "ItemId", "OpenApiOnly", """
+                package input;
+                
+                import org.fuin.ddd4j.codegen.api.LongEntityIdVO;
+                
+                @LongEntityIdVO(pkg="org.fuin.ddd4jcodegen.test",
+                         name = "ItemId", entityType = "ITEM", description = "Unique identifier of an item",
+                         openapi = true,
+                         serialVersionUID = 1000L, minValue = 1, maxValue = 10000000000L
+                )
+                public interface ItemIdExample {
+                }
+                """);
+    }
+
+}
@@ -16,6 +16,7 @@ import jakarta.validation.Payload;
 import jakarta.validation.constraints.NotNull;
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
 import org.fuin.ddd4j.core.AggregateRootUuid;
+import org.fuin.ddd4j.core.Ddd4JUtils;
 import org.fuin.ddd4j.core.EntityType;
 import org.fuin.ddd4j.core.HasEntityTypeConstant;
 import org.fuin.ddd4j.core.StringBasedEntityType;
@@ -68,8 +69,11 @@ public final class CompanyId extends AggregateRootUuid {
         if (value == null) {
             return null;
         }
-        requireArgValid("value", value);
-        return new CompanyId(UUID.fromString(value));
+        final UUID uuid = Ddd4JUtils.parseUuid(value);
+        if (uuid == null) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");
+        }
+        return new CompanyId(uuid);
     }
     
     /**
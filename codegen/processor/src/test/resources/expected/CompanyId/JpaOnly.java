@@ -17,6 +17,7 @@ import jakarta.validation.Payload;
 import jakarta.validation.constraints.NotNull;
 
 import org.fuin.ddd4j.core.AggregateRootUuid;
+import org.fuin.ddd4j.core.Ddd4JUtils;
 import org.fuin.ddd4j.core.EntityType;
 import org.fuin.ddd4j.core.HasEntityTypeConstant;
 import org.fuin.ddd4j.core.StringBasedEntityType;
@@ -69,8 +70,11 @@ public final class CompanyId extends AggregateRootUuid {
         if (value == null) {
             return null;
         }
-        requireArgValid("value", value);
-        return new CompanyId(UUID.fromString(value));
+        final UUID uuid = Ddd4JUtils.parseUuid(value);
+        if (uuid == null) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");
+        }
+        return new CompanyId(uuid);
     }
     
     /**
@@ -0,0 +1,58 @@
+package input;
+
+import jakarta.annotation.Generated;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.Entity;
+import org.fuin.ddd4j.core.EntityDispatcher;
+import org.fuin.ddd4j.core.EntityId;
+
+/**
+ * Applies events to and locates child entities of {@link input.Order} without using reflection.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+public final class Order_EntityDispatcher implements EntityDispatcher {
+
+    @Override
+    public Class<?> getEntityClass() {
+        return input.Order.class;
+    }
+
+    @Override
+    public boolean applyEvent(final Entity<?> entity, final DomainEvent<?> event) {
+        final input.Order target = (input.Order) entity;
+        switch (event.getClass().getName()) {
+            case "input.OrderCreatedEvent":
+                target.handle((input.OrderCreatedEvent) event);
+                return true;
+            case "input.ItemAddedEvent":
+                target.handle((input.ItemAddedEvent) event);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean hasChildEntityLocator(final Class<?> idClass) {
+        switch (idClass.getName()) {
+            case "input.ItemId":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Entity<?> locateChild(final Entity<?> entity, final EntityId childId) {
+        final input.Order target = (input.Order) entity;
+        switch (childId.getClass().getName()) {
+            case "input.ItemId":
+                return target.findItem((input.ItemId) childId);
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("No method annotated with @ChildEntityLocator and argument '"
+                + childId.getClass().getName() + "' found in '" + input.Order.class.getName() + "'");
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.fuin.ddd4jcodegen.test;
+
+import jakarta.annotation.Generated;
+import org.fuin.ddd4j.core.EntityId;
+import org.fuin.ddd4j.core.EntityIdFactory;
+
+/**
+ * Creates {@link org.fuin.ddd4jcodegen.test.CompanyId} instances without using reflection.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+public final class CompanyId_EntityIdFactory implements EntityIdFactory {
+
+    @Override
+    public boolean containsType(final String type) {
+        return org.fuin.ddd4jcodegen.test.CompanyId.TYPE.asString().equals(type);
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        return containsType(type) && org.fuin.ddd4jcodegen.test.CompanyId.isValid(id);
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        if (!containsType(type)) {
+            throw new IllegalArgumentException("Unknown type: " + type + " (Known type is: " + org.fuin.ddd4jcodegen.test.CompanyId.TYPE + ")");
+        }
+        return org.fuin.ddd4jcodegen.test.CompanyId.valueOf(id);
+    }
+
+}
@@ -0,0 +1,31 @@
+package input;
+
+import jakarta.annotation.Generated;
+import org.fuin.ddd4j.core.EntityId;
+import org.fuin.ddd4j.core.EntityIdFactory;
+
+/**
+ * Creates {@link input.CustomerId} instances without using reflection.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+public final class CustomerId_EntityIdFactory implements EntityIdFactory {
+
+    @Override
+    public boolean containsType(final String type) {
+        return input.CustomerId.TYPE.asString().equals(type);
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        return containsType(type) && input.CustomerId.isValid(id);
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        if (!containsType(type)) {
+            throw new IllegalArgumentException("Unknown type: " + type + " (Known type is: " + input.CustomerId.TYPE + ")");
+        }
+        return input.CustomerId.valueOf(id);
+    }
+
+}
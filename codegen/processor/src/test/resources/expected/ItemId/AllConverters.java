@@ -0,0 +1,267 @@
+package org.fuin.ddd4jcodegen.test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+
+import jakarta.json.bind.adapter.JsonbAdapter;
+import jakarta.persistence.AttributeConverter;
+import jakarta.annotation.Generated;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.NotNull;
+import jakarta.xml.bind.annotation.adapters.XmlAdapter;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.fuin.ddd4j.core.LongEntityId;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.HasEntityTypeConstant;
+import org.fuin.ddd4j.core.StringBasedEntityType;
+import org.fuin.objects4j.common.ConstraintViolationException;
+import org.fuin.objects4j.common.HasPublicStaticValueOfMethod;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Unique identifier of an item.
+ * 
+ * CAUTION: Instances of this type may contain invalid values by deserializing it.
+ * This means if you create it from JSON, XML or database (JPA) it may not have a correct min or max value.
+ */
+@Generated("Generated class - Manual changes will be overwritten")
+@Immutable
+@HasPublicStaticValueOfMethod
+@HasEntityTypeConstant
+@Schema(name = "ItemId", type = SchemaType.INTEGER, description = "Unique identifier of an item", format="int64", minimum = "1", maximum = "10000000000")
+public final class ItemId extends LongEntityId {
+
+    private static final long serialVersionUID = 1000L;
+
+    /** Unique name of the aggregate this identifier refers to. */
+    public static final EntityType TYPE = new StringBasedEntityType("ITEM");
+    
+    private static final long MIN = 1L;
+
+    private static final long MAX = 10000000000L;
+    
+    /**
+     * Constructor with mandatory data.
+     * 
+     * @param value
+     *            Value.
+     */
+    public ItemId(final Long value) {
+        this(value, true);
+    }
+
+    /**
+     * Constructor with primitive value.
+     * 
+     * @param value
+     *            Value.
+     */
+    public ItemId(final long value) {
+        this(value, true);
+    }
+
+    private ItemId(final Long value, final boolean strict) {
+        super(TYPE, value);
+        if (strict & !isValid(value)) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");            
+        }
+    }
+
+    private ItemId(final long value, final boolean strict) {
+        super(TYPE, value);
+        if (strict & !isValid(value)) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");            
+        }
+    }
+
+    /**
+     * Parses a given string and returns a new instance of this type.
+     * 
+     * @param value
+     *            String with valid Long to convert. A <code>null</code> value returns <code>null</code>.
+     * 
+     * @return Converted value.
+     */
+    public static ItemId valueOf(final String value) {
+        if (value == null) {
+            return null;
+        }
+        requireArgValid("value", value);
+        return new ItemId(Long.parseLong(value));
+    }
+    
+    /**
+     * Verifies that a given long can be converted into the type.
+     * 
+     * @param value
+     *            Value to validate.
+     * 
+     * @return Returns <code>true</code> if it's a valid type else <code>false</code>.
+     */
+    public static boolean isValid(final Long value) {
+        if (value == null) {
+            return true;
+        }
+        return isValid(value.longValue());
+    }
+
+    /**
+     * Verifies that a given primitive long can be converted into the type.
+     * 
+     * @param value
+     *            Value to validate.
+     * 
+     * @return Returns <code>true</code> if it's a valid type else <code>false</code>.
+     */
+    public static boolean isValid(final long value) {
+        if (value < MIN) {
+            return false;
+        }
+        return (value <= MAX);
+    }
+
+    /**
+     * Verifies that a given string can be converted into the type.
+     * 
+     * @param value
+     *            Value to validate.
+     * 
+     * @return Returns <code>true</code> if it's a valid type else <code>false</code>.
+     */
+    public static boolean isValid(final String value) {
+        if (value == null) {
+            return true;
+        }
+        final ParsePosition pp = new ParsePosition(0);
+        final NumberFormat nf = NumberFormat.getInstance();
+        nf.setParseIntegerOnly(true);
+        nf.setGroupingUsed(false);
+        final Number num = nf.parse(value, pp);
+        if (pp.getErrorIndex() != -1 || pp.getIndex() < value.length()) {
+            return false;
+        }
+        if (!(num instanceof Long)) {
+            return false;
+        }
+        return isValid(num.longValue());
+    }
+
+    /**
+     * Verifies if the argument is valid and throws an exception if this is not the case.
+     * 
+     * @param name
+     *            Name of the value for a possible error message.
+     * @param value
+     *            Value to check.
+     * 
+     * @throws ConstraintViolationException
+     *             The value was not valid.
+     */
+    public static void requireArgValid(@NotNull final String name, @NotNull final String value) throws ConstraintViolationException {
+        if (!isValid(value)) {
+            throw new ConstraintViolationException("The argument '" + name + "' is not valid: '" + value + "'");
+        }
+    }
+
+    /**
+     * Ensures that the string can be converted into the type.
+     */
+    @Target({ ElementType.METHOD, ElementType.PARAMETER, ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = { Validator.class })
+    @Documented
+    public static @interface ItemIdStr {
+
+        String message()
+
+        default "{org.fuin.ddd4jcodegen.test.ItemId.message}";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+    }
+
+    /**
+     * Validates if a string is compliant with the type.
+     */
+    public static final class Validator implements ConstraintValidator<ItemIdStr, String> {
+
+        @Override
+        public final void initialize(final ItemIdStr annotation) {
+            // Not used
+        }
+
+        @Override
+        public final boolean isValid(final String value, final ConstraintValidatorContext context) {
+            return ItemId.isValid(value);
+        }
+
+    }
+
+    /**
+     * Converts the value object from/to string.
+     */
+    public static final class Converter extends XmlAdapter<Long, ItemId> implements JsonbAdapter<ItemId, Long>, AttributeConverter<ItemId, Long> {
+
+        private ItemId toVO(final Long value) {
+            if (value == null) {
+                return null;
+            }
+            return new ItemId(value, false);
+        }
+
+        private Long fromVO(final ItemId value) {
+            if (value == null) {
+                return null;
+            }
+            return value.asBaseType();
+        }
+        // JSONB Adapter
+
+        @Override
+        public final Long adaptToJson(final ItemId obj) throws Exception {
+            return fromVO(obj);
+        }
+
+        @Override
+        public final ItemId adaptFromJson(final Long str) throws Exception {
+            return toVO(str);
+        }
+
+        // JAX-B
+
+        @Override
+        public final Long marshal(final ItemId value) throws Exception {
+            return fromVO(value);
+        }
+
+        @Override
+        public final ItemId unmarshal(final Long value) throws Exception {
+            return toVO(value);
+        }
+
+        // JPA
+
+        @Override
+        public final Long convertToDatabaseColumn(final ItemId value) {
+            return fromVO(value);
+        }
+
+        @Override
+        public final ItemId convertToEntityAttribute(final Long value) {
+            return toVO(value);
+        }
+    }
+
+}
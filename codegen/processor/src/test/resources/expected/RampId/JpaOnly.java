@@ -57,6 +57,16 @@ public final class RampId extends IntegerEntityId {
         this(value, true);
     }
 
+    /**
+     * Constructor with primitive value.
+     * 
+     * @param value
+     *            Value.
+     */
+    public RampId(final int value) {
+        this(value, true);
+    }
+
     private RampId(final Integer value, final boolean strict) {
         super(TYPE, value);
         if (strict & !isValid(value)) {
@@ -64,6 +74,13 @@ public final class RampId extends IntegerEntityId {
         }
     }
 
+    private RampId(final int value, final boolean strict) {
+        super(TYPE, value);
+        if (strict & !isValid(value)) {
+            throw new ConstraintViolationException("The argument 'value' is not valid: '" + value + "'");            
+        }
+    }
+
     /**
      * Parses a given string and returns a new instance of this type.
      * 
@@ -77,7 +94,7 @@ public final class RampId extends IntegerEntityId {
             return null;
         }
         requireArgValid("value", value);
-        return new RampId(Integer.valueOf(value));
+        return new RampId(Integer.parseInt(value));
     }
     
     /**
@@ -92,6 +109,18 @@ public final class RampId extends IntegerEntityId {
         if (value == null) {
             return true;
         }
+        return isValid(value.intValue());
+    }
+
+    /**
+     * Verifies that a given primitive integer can be converted into the type.
+     * 
+     * @param value
+     *            Value to validate.
+     * 
+     * @return Returns <code>true</code> if it's a valid type else <code>false</code>.
+     */
+    public static boolean isValid(final int value) {
         if (value < MIN) {
             return false;
         }
@@ -113,14 +142,20 @@ public final class RampId extends IntegerEntityId {
         final ParsePosition pp = new ParsePosition(0);
         final NumberFormat nf = NumberFormat.getInstance();
         nf.setParseIntegerOnly(true);
+        nf.setGroupingUsed(false);
         final Number num = nf.parse(value, pp);
         if (pp.getErrorIndex() != -1 || pp.getIndex() < value.length()) {
             return false;
         }
-        if (!(num instanceof Integer)) {
+        // Integer values are always returned as 'Long'
+        if (!(num instanceof Long)) {
+            return false;
+        }
+        final long l = num.longValue();
+        if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
             return false;
         }
-        return isValid((Integer) num);
+        return isValid((int) l);
     }
 
     /**
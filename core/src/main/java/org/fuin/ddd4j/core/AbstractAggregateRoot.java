@@ -20,12 +20,13 @@ package org.fuin.ddd4j.core;
 import jakarta.validation.constraints.NotNull;
 import org.fuin.objects4j.common.Contract;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Base class for aggregate roots.
@@ -35,12 +36,12 @@ import java.util.List;
  */
 public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implements AggregateRoot<ID> {
 
-    private static final MethodExecutor METHOD_EXECUTOR = new MethodExecutor();
-
     private int version = -1;
 
     private final List<DomainEvent<?>> uncommitedChanges;
 
+    private Set<Class<? extends DomainEvent<?>>> ignoredEvents;
+
     /**
      * Default constructor.
      */
@@ -116,8 +117,21 @@ public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implemen
         if (history == null) {
             return;
         }
-        for (final DomainEvent<?> event : history) {
-            if (!getIgnoredEvents().contains(event.getClass())) {
+        loadFromHistory(history.iterator());
+    }
+
+    @Override
+    public final void loadFromHistory(final Iterator<? extends DomainEvent<?>> history) {
+        if (history == null) {
+            return;
+        }
+        final Set<Class<? extends DomainEvent<?>>> ignored = ignoredEvents();
+        while (history.hasNext()) {
+            final DomainEvent<?> event = history.next();
+            if (ignored.contains(event.getClass())) {
+                // Ignored events are still part of the history
+                version++;
+            } else {
                 final boolean applied = callAnnotatedEventHandlerMethodOnAggregateRootOrChild(this, event);
                 if (applied) {
                     version++;
@@ -128,6 +142,20 @@ public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implemen
         }
     }
 
+    @Override
+    public final void loadFromHistory(final Stream<? extends DomainEvent<?>> history) {
+        if (history == null) {
+            return;
+        }
+        loadFromHistory(history.iterator());
+    }
+
+    @Override
+    public final void skipHistory(final int count) {
+        Contract.requireArgMin("count", count, 0);
+        version = version + count;
+    }
+
     /**
      * Tries to find recursive an annotated method on this object or one of its child entities to apply the given event to.
      *
@@ -137,45 +165,85 @@ public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implemen
      *            Event to apply.
      *
      * @return TRUE if the event was successfully applied, else FALSE.
+     *
+     * @throws IllegalStateException
+     *             The entity identifier path of the event cannot be resolved to a child entity.
      */
     static boolean callAnnotatedEventHandlerMethodOnAggregateRootOrChild(final AggregateRoot<?> aggregateRoot, final DomainEvent<?> event) {
 
         final EntityIdPath path = event.getEntityIdPath();
-        final Iterator<EntityId> idIt = path.iterator();
-        final EntityId entityId = idIt.next();
-        if (!(entityId instanceof AggregateRootId)) {
+        if (!(path.first() instanceof AggregateRootId)) {
             throw new IllegalStateException(
                     "The first ID in the entity identifier path was not an " + AggregateRootId.class.getSimpleName() + ": " + path);
         }
 
-        if (!idIt.hasNext()) {
+        if (path.size() == 1) {
             // Direct event from aggregate root
             return callAnnotatedEventHandlerMethod(aggregateRoot, event);
         }
 
-        // Continue with child(s)
-        Entity<?> entity = aggregateRoot;
-        while (idIt.hasNext()) {
-            final EntityId id = idIt.next();
-            final Method foundChildEntityMethod = METHOD_EXECUTOR.findDeclaredAnnotatedMethod(entity, ChildEntityLocator.class,
-                    id.getClass());
-            if (foundChildEntityMethod == null) {
-                return false;
+        // Call event handler on the child entity
+        return callAnnotatedEventHandlerMethod(ChildEntityRouter.locate(aggregateRoot, path), event);
+    }
+
+    /**
+     * Returns a set of old / ignored events. Subclasses can overwrite this method to ignore historic events that are not needed any more.
+     * The method is called only once per aggregate instance and the result is kept for all subsequent history loads. Ignored events still
+     * increase the version of the aggregate.
+     *
+     * @return Events that can be safely ignored.
+     */
+    @NotNull
+    protected Set<Class<? extends DomainEvent<?>>> getIgnoredEvents() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public final Set<Class<? extends DomainEvent<?>>> getIgnoredEventClasses() {
+        return ignoredEvents();
+    }
+
+    private Set<Class<? extends DomainEvent<?>>> ignoredEvents() {
+        if (ignoredEvents == null) {
+            final Set<Class<? extends DomainEvent<?>>> set = getIgnoredEvents();
+            if (set == null || set.isEmpty()) {
+                ignoredEvents = Collections.emptySet();
+            } else {
+                ignoredEvents = Set.copyOf(set);
             }
-            entity = METHOD_EXECUTOR.invoke(foundChildEntityMethod, entity, id);
         }
+        return ignoredEvents;
+    }
 
-        // Call event handler on the child entity
-        return callAnnotatedEventHandlerMethod(entity, event);
+    /**
+     * Creates a new instance of the same class with a copy of the state of this aggregate. Used by the {@link CopyingAggregateCache} (See
+     * {@link AggregateCopier#copyMethod()}), so cached aggregates can be handed out without replaying events or serializing them.
+     * Subclasses overwrite this method by creating a new instance and copying their fields. Mutable fields must be copied deep and child
+     * entities must be recreated with the copy as root. The version is copied by the caller. Throws an
+     * {@link UnsupportedOperationException} as default if not overwritten in subclasses.
+     *
+     * @return New instance with the same state.
+     */
+    @NotNull
+    protected AbstractAggregateRoot<ID> copy() {
+        throw new UnsupportedOperationException("Aggregate does not overwrite 'copy()': " + getClass().getName());
     }
 
     /**
-     * Returns a list of old / ignored events. Subclasses can overwrite this method to ignore historic events that are not needed any more.
+     * Returns a copy created by {@link #copy()} that also has the version of this aggregate.
      *
-     * @return Events that can be safely ignored.
+     * @return New instance with the same state and version.
      */
-    protected final List<Class<? extends DomainEvent<?>>> getIgnoredEvents() {
-        return Collections.emptyList();
+    final AbstractAggregateRoot<ID> copyWithVersion() {
+        if (hasUncommitedChanges()) {
+            throw new IllegalStateException("Cannot copy an aggregate with uncommitted changes: " + getId());
+        }
+        final AbstractAggregateRoot<ID> copy = copy();
+        if (copy == null || copy == this || copy.getClass() != getClass()) {
+            throw new IllegalStateException("Method 'copy()' must return a new instance of the same class: " + getClass().getName());
+        }
+        copy.version = version;
+        return copy;
     }
 
     /**
@@ -212,7 +280,7 @@ public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implemen
 
     /**
      * Applies the event to the method in the entity that is annotated with {@link ApplyEvent} and has exactly one parameter with the same
-     * type as the domain event.
+     * type as the domain event. A generated {@link EntityDispatcher} is used if one exists for the entity class.
      *
      * @param entity
      *            Entity to apply the event to.
@@ -226,12 +294,7 @@ public abstract class AbstractAggregateRoot<ID extends AggregateRootId> implemen
         Contract.requireArgNotNull("entity", entity);
         Contract.requireArgNotNull("event", event);
 
-        final Method method = METHOD_EXECUTOR.findDeclaredAnnotatedMethod(entity, ApplyEvent.class, event.getClass());
-        if (method == null) {
-            return false;
-        }
-        METHOD_EXECUTOR.invoke(method, entity, event);
-        return true;
+        return EntityDispatchers.of(entity.getClass()).applyEvent(entity, event);
 
     }
 
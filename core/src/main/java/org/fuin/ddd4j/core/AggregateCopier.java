@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.utils4j.Utils4J;
+
+import java.io.Serializable;
+
+/**
+ * Creates an independent copy of an aggregate including its version, so changing the copy never affects the original. Used by the
+ * {@link CopyingAggregateCache}. Implementations must be thread safe and must not change the original aggregate.
+ *
+ * @param <AGGREGATE>
+ *            Type of the aggregate.
+ */
+@FunctionalInterface
+public interface AggregateCopier<AGGREGATE extends AggregateRoot<?>> {
+
+    /**
+     * Creates a copy of the aggregate.
+     *
+     * @param aggregate
+     *            Aggregate without uncommitted changes.
+     *
+     * @return New instance with the same state and version.
+     */
+    @NotNull
+    AGGREGATE copy(@NotNull AGGREGATE aggregate);
+
+    /**
+     * Returns a copier that uses the {@link AbstractAggregateRoot#copy()} method of the aggregate. This is the default of the
+     * {@link CopyingAggregateCache}. The aggregate must overwrite the method.
+     *
+     * @param <AGGREGATE>
+     *            Type of the aggregate.
+     *
+     * @return Copier.
+     */
+    @NotNull
+    static <AGGREGATE extends AggregateRoot<?>> AggregateCopier<AGGREGATE> copyMethod() {
+        return aggregate -> {
+            if (!(aggregate instanceof AbstractAggregateRoot<?> root)) {
+                throw new IllegalArgumentException("Aggregate is not an " + AbstractAggregateRoot.class.getSimpleName() + ": "
+                        + aggregate.getClass().getName());
+            }
+            @SuppressWarnings("unchecked")
+            final AGGREGATE copy = (AGGREGATE) root.copyWithVersion();
+            return copy;
+        };
+    }
+
+    /**
+     * Returns a copier that creates a deep copy using Java serialization. Only use it as fallback for aggregates that cannot overwrite
+     * {@link AbstractAggregateRoot#copy()}, as every copy serializes and deserializes the complete aggregate. Works for every aggregate
+     * that implements {@link Serializable} and has only serializable fields. The version is taken from the original, as the state of
+     * {@link AbstractAggregateRoot} is not serialized.
+     *
+     * @param <AGGREGATE>
+     *            Type of the aggregate.
+     *
+     * @return Copier.
+     */
+    @NotNull
+    static <AGGREGATE extends AggregateRoot<?>> AggregateCopier<AGGREGATE> serialization() {
+        return aggregate -> {
+            if (!(aggregate instanceof Serializable)) {
+                throw new IllegalArgumentException("Aggregate is not serializable: " + aggregate.getClass().getName());
+            }
+            final AGGREGATE copy = Utils4J.deserialize(Utils4J.serialize(aggregate));
+            Ddd4JUtils.restoreVersion(copy, aggregate.getVersion());
+            return copy;
+        };
+    }
+
+}
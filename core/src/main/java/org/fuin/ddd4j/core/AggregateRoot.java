@@ -19,7 +19,10 @@ package org.fuin.ddd4j.core;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Dedicated entity of a group of entities (The group is called "Aggregate") that guarantees the consistency of changes being made within
@@ -98,4 +101,54 @@ public interface AggregateRoot<ID extends AggregateRootId> extends Entity<ID> {
      */
     void loadFromHistory(@NotNull List<DomainEvent<?>> history);
 
+    /**
+     * Loads the aggregate with historic events. The events are consumed one by one, so the history does not need to be in memory at once.
+     * The default implementation passes each event to {@link #loadFromHistory(List)}.
+     *
+     * @param history
+     *            Historic events in the order they occurred.
+     */
+    default void loadFromHistory(@NotNull final Iterator<? extends DomainEvent<?>> history) {
+        if (history == null) {
+            return;
+        }
+        while (history.hasNext()) {
+            loadFromHistory(List.<DomainEvent<?>> of(history.next()));
+        }
+    }
+
+    /**
+     * Loads the aggregate with historic events. The stream is consumed sequentially in encounter order, but is not closed by this method.
+     * The default implementation uses {@link #loadFromHistory(Iterator)}.
+     *
+     * @param history
+     *            Historic events in the order they occurred.
+     */
+    default void loadFromHistory(@NotNull final Stream<? extends DomainEvent<?>> history) {
+        if (history == null) {
+            return;
+        }
+        loadFromHistory(history.iterator());
+    }
+
+    /**
+     * Skips a number of historic events without applying them. The version is increased as if the events were loaded. This is used by
+     * repositories that filter ignored events before they are deserialized.
+     *
+     * @param count
+     *            Number of events that were skipped.
+     */
+    void skipHistory(int count);
+
+    /**
+     * Returns the historic events that are ignored when the aggregate is loaded. Repositories use this to skip such events before they are
+     * deserialized. The default implementation ignores no events.
+     *
+     * @return Unmodifiable set of ignored event classes.
+     */
+    @NotNull
+    default Set<Class<? extends DomainEvent<?>>> getIgnoredEventClasses() {
+        return Set.of();
+    }
+
 }
@@ -25,7 +25,6 @@ import org.fuin.objects4j.common.ValueObjectWithBaseType;
 
 import java.io.Serial;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * UUID based aggregate root identifier.
@@ -36,13 +35,16 @@ public abstract class AggregateRootUuid implements AggregateRootId, Comparable<A
     @Serial
     private static final long serialVersionUID = 1000L;
 
-    private static final Pattern PATTERN = Pattern
-            .compile("\\{?\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}\\}?");
-
     private final EntityType entityType;
 
     private final UUID uuid;
 
+    /** Lazily calculated hash code - Zero means not calculated yet. */
+    private transient int hash;
+
+    /** Lazily created typed string. */
+    private transient String typedString;
+
     /**
      * Constructor with entity type.
      *
@@ -71,6 +73,15 @@ public abstract class AggregateRootUuid implements AggregateRootId, Comparable<A
 
     @Override
     public final int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = calculateHashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + entityType.asString().hashCode();
@@ -89,17 +100,19 @@ public abstract class AggregateRootUuid implements AggregateRootId, Comparable<A
         if (!(obj instanceof AggregateRootUuid other)) {
             return false;
         }
-        if (!entityType.asString().equals(other.entityType.asString())) {
+        if (!uuid.equals(other.uuid)) {
             return false;
         }
-        return uuid.equals(other.uuid);
+        return Ddd4JUtils.sameType(entityType, other.entityType);
     }
 
     @Override
     public final int compareTo(final AggregateRootUuid other) {
-        final int c = entityType.asString().compareTo(other.entityType.asString());
-        if (c != 0) {
-            return c;
+        if (entityType != other.entityType) {
+            final int c = entityType.asString().compareTo(other.entityType.asString());
+            if (c != 0) {
+                return c;
+            }
         }
         return uuid.compareTo(other.uuid);
     }
@@ -116,7 +129,12 @@ public abstract class AggregateRootUuid implements AggregateRootId, Comparable<A
 
     @Override
     public final String asTypedString() {
-        return entityType + " " + uuid;
+        String str = typedString;
+        if (str == null) {
+            str = entityType + " " + uuid;
+            typedString = str;
+        }
+        return str;
     }
 
     @Override
@@ -146,10 +164,7 @@ public abstract class AggregateRootUuid implements AggregateRootId, Comparable<A
         if (value == null) {
             return true;
         }
-        if (value.length() != 36) {
-            return false;
-        }
-        return PATTERN.matcher(value).matches();
+        return Ddd4JUtils.isUuid(value);
     }
 
     /**
@@ -26,11 +26,15 @@ import org.fuin.objects4j.common.HasPublicStaticIsValidMethod;
 import org.fuin.objects4j.common.HasPublicStaticValueOfMethod;
 import org.fuin.objects4j.core.AbstractIntegerValueObject;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
-import java.util.Scanner;
 
 /**
- * Version of an aggregate.
+ * Version of an aggregate. The version is stored as primitive and {@link #valueOf(int)} returns shared instances for low versions.
  */
 @HasPublicStaticValueOfMethod
 @HasPublicStaticValueOfMethod(method = "valueOf", param = Integer.class)
@@ -41,7 +45,17 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
     @Serial
     private static final long serialVersionUID = 1000L;
 
-    private final Integer value;
+    /** The serialized form still contains the value as {@link Integer} to stay compatible with older versions. */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = { new ObjectStreamField("value", Integer.class) };
+
+    /** Number of shared instances starting with version 0. */
+    private static final int CACHE_SIZE = 1024;
+
+    private static final AggregateVersion[] CACHE = createCache();
+
+    // Not final because of the custom deserialization
+    private transient int value;
 
     /**
      * Constructor with value.
@@ -61,6 +75,15 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
         return value;
     }
 
+    /**
+     * Returns the version as primitive.
+     *
+     * @return Version.
+     */
+    public final int intValue() {
+        return value;
+    }
+
     /**
      * Returns the information if a given integer is a valid version.
      *
@@ -88,12 +111,7 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
         if (value == null) {
             return true;
         }
-        try (Scanner scanner = new Scanner(value)) {
-            if (!scanner.hasNextInt()) {
-                return false;
-            }
-        }
-        return isValid(Integer.valueOf(value));
+        return parse(value) >= 0;
     }
 
     /**
@@ -108,6 +126,21 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
         if (value == null) {
             return null;
         }
+        return valueOf(value.intValue());
+    }
+
+    /**
+     * Returns a version instance. Low versions are shared.
+     *
+     * @param value
+     *            Value to convert.
+     *
+     * @return Converted value.
+     */
+    public static AggregateVersion valueOf(final int value) {
+        if (value >= 0 && value < CACHE_SIZE) {
+            return CACHE[value];
+        }
         return new AggregateVersion(value);
     }
 
@@ -123,7 +156,7 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
         if (value == null) {
             return null;
         }
-        return valueOf(Integer.valueOf(value));
+        return valueOf(Integer.parseInt(value));
     }
 
     /**
@@ -164,4 +197,70 @@ public final class AggregateVersion extends AbstractIntegerValueObject {
 
     }
 
+    /**
+     * Parses a string that contains an optional sign and decimal digits only.
+     *
+     * @param str
+     *            String to parse.
+     *
+     * @return Value or <code>-1</code> if the string is not a number between zero and {@link Integer#MAX_VALUE}.
+     */
+    private static int parse(final String str) {
+        final int length = str.length();
+        int start = 0;
+        boolean negative = false;
+        if (length > 0 && (str.charAt(0) == '+' || str.charAt(0) == '-')) {
+            negative = str.charAt(0) == '-';
+            start = 1;
+        }
+        if (start == length) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            result = result * 10 + (ch - '0');
+            if (result > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        if (negative && result != 0) {
+            return -1;
+        }
+        return (int) result;
+    }
+
+    private static AggregateVersion[] createCache() {
+        final AggregateVersion[] cache = new AggregateVersion[CACHE_SIZE];
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new AggregateVersion(i);
+        }
+        return cache;
+    }
+
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("value", Integer.valueOf(value));
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final Integer version = (Integer) fields.get("value", null);
+        if (version == null || version < 0) {
+            throw new InvalidObjectException("Invalid version: " + version);
+        }
+        this.value = version;
+    }
+
+    @Serial
+    private Object readResolve() {
+        return valueOf(value);
+    }
+
 }
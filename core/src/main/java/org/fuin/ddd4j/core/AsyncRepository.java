@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of the {@link Repository}. Instead of throwing an exception, the returned future completes exceptionally with the
+ * same exception the blocking method would throw.
+ *
+ * @param <ID>
+ *            Type of the aggregate root identifier.
+ * @param <T>
+ *            Type of the aggregate.
+ */
+public interface AsyncRepository<ID extends AggregateRootId, T extends AggregateRoot<ID>> {
+
+    /**
+     * Returns the class of the aggregate in the repository.
+     *
+     * @return Aggregate class.
+     */
+    @NotNull
+    Class<T> getAggregateClass();
+
+    /**
+     * Returns a unique name for the aggregate root type.
+     *
+     * @return Name of the type of the aggregate.
+     */
+    @NotNull
+    EntityType getAggregateType();
+
+    /**
+     * Factory method to create a new aggregate. Just creates a new instance without doing anything else. The aggregate identifier will NOT
+     * be set.
+     *
+     * @return New aggregate instance that is NOT persisted.
+     */
+    @NotNull
+    T create();
+
+    /**
+     * Reads the latest version of an aggregate.
+     *
+     * @param id
+     *            Unique aggregate identifier.
+     *
+     * @return Future with the aggregate. Completes exceptionally with an {@link AggregateNotFoundException} or an
+     *         {@link AggregateDeletedException}.
+     */
+    @NotNull
+    CompletableFuture<T> readAsync(@NotNull ID id);
+
+    /**
+     * Reads a given version of an aggregate.
+     *
+     * @param id
+     *            Unique aggregate identifier.
+     * @param version
+     *            Version to read.
+     *
+     * @return Future with the aggregate. Completes exceptionally with an {@link AggregateNotFoundException}, an
+     *         {@link AggregateDeletedException} or an {@link AggregateVersionNotFoundException}.
+     */
+    @NotNull
+    CompletableFuture<T> readAsync(@NotNull ID id, int version);
+
+    /**
+     * Saves the changes on an aggregate in the repository without any metadata.
+     *
+     * @param aggregate
+     *            Aggregate to store.
+     *
+     * @return Future that completes when the changes are stored. Completes exceptionally with an
+     *         {@link AggregateVersionConflictException}, an {@link AggregateNotFoundException} or an {@link AggregateDeletedException}.
+     */
+    @NotNull
+    CompletableFuture<Void> updateAsync(@NotNull T aggregate);
+
+    /**
+     * Saves the changes on an aggregate in the repository including some metadata.
+     *
+     * @param aggregate
+     *            Aggregate to store.
+     * @param metaType
+     *            Optional unique name that identifies the type of metadata.
+     * @param metaData
+     *            Optional information that is not directly available in the event.
+     *
+     * @return Future that completes when the changes are stored. Completes exceptionally with an
+     *         {@link AggregateVersionConflictException}, an {@link AggregateNotFoundException} or an {@link AggregateDeletedException}.
+     */
+    @NotNull
+    CompletableFuture<Void> updateAsync(@NotNull T aggregate, @Nullable String metaType, @Nullable Object metaData);
+
+    /**
+     * Adds a new aggregate to the repository without any metadata. The operation fails if an aggregate with the same ID already exists.
+     *
+     * @param aggregate
+     *            Aggregate to add.
+     *
+     * @return Future that completes when the aggregate is stored. Completes exceptionally with an {@link AggregateAlreadyExistsException}
+     *         or an {@link AggregateDeletedException}.
+     */
+    @NotNull
+    CompletableFuture<Void> addAsync(@NotNull T aggregate);
+
+    /**
+     * Adds a new aggregate to the repository with some metadata. The operation fails if an aggregate with the same ID already exists.
+     *
+     * @param aggregate
+     *            Aggregate to add.
+     * @param metaType
+     *            Optional unique name that identifies the type of metadata.
+     * @param metaData
+     *            Optional information that is not directly available in the event.
+     *
+     * @return Future that completes when the aggregate is stored. Completes exceptionally with an {@link AggregateAlreadyExistsException}
+     *         or an {@link AggregateDeletedException}.
+     */
+    @NotNull
+    CompletableFuture<Void> addAsync(@NotNull T aggregate, @Nullable String metaType, @Nullable Object metaData);
+
+    /**
+     * Deletes an aggregate from the repository. If the aggregate was already deleted, the future completes normally.
+     *
+     * @param aggregateId
+     *            Identifier of the aggregate to delete.
+     * @param expectedVersion
+     *            Expected (current) version of the aggregate.
+     *
+     * @return Future that completes when the aggregate is deleted. Completes exceptionally with an
+     *         {@link AggregateVersionConflictException}.
+     */
+    @NotNull
+    CompletableFuture<Void> deleteAsync(@NotNull ID aggregateId, int expectedVersion);
+
+}
@@ -0,0 +1,454 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded aggregate cache that evicts the least recently used entries. The entries are spread over a number of independently locked
+ * segments, so threads reading different aggregates rarely block each other. Each segment gets its share of the maximum weight and evicts
+ * its own least recently used entries. Optionally, entries that were not accessed for a given time are removed (Time to idle).
+ * <p>
+ * The cache is version aware: {@link #get(AggregateRootId, Integer)} only returns an aggregate whose version is less than or equal to the
+ * requested one and {@link #put(AggregateRootId, AggregateRoot)} never replaces an aggregate with an older version of it. Aggregates with
+ * uncommitted changes are not cached.
+ *
+ * @param <AGGREGATE>
+ *            Type of the aggregate.
+ */
+@ThreadSafe
+public final class BoundedAggregateCache<AGGREGATE extends AggregateRoot<?>> implements AggregateCache<AGGREGATE> {
+
+    /** Default maximum number of cached aggregates. */
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /** Default number of segments. */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment<AGGREGATE>[] segments;
+
+    private final ToIntFunction<? super AGGREGATE> weigher;
+
+    private final LongSupplier ticker;
+
+    private final LongAdder hitCount;
+
+    private final LongAdder missCount;
+
+    private final LongAdder evictionCount;
+
+    /**
+     * Constructor with default values.
+     */
+    public BoundedAggregateCache() {
+        this(new Builder<>());
+    }
+
+    /**
+     * Constructor with maximum number of aggregates.
+     *
+     * @param maximumSize
+     *            Maximum number of cached aggregates.
+     */
+    public BoundedAggregateCache(final long maximumSize) {
+        this(new Builder<AGGREGATE>().maximumSize(maximumSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    private BoundedAggregateCache(final Builder<AGGREGATE> builder) {
+        super();
+        this.weigher = builder.weigher;
+        this.ticker = builder.ticker;
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+
+        final int count = segmentCount(builder.concurrencyLevel, builder.maximumWeight);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            final long max = builder.maximumWeight / count + (i < builder.maximumWeight % count ? 1 : 0);
+            segments[i] = new Segment<>(max, builder.expireAfterAccess.toNanos());
+        }
+    }
+
+    private static int segmentCount(final int concurrencyLevel, final long maximumWeight) {
+        final int max = (int) Math.min(concurrencyLevel, maximumWeight);
+        return Integer.highestOneBit(max);
+    }
+
+    @Override
+    public AGGREGATE get(@NotNull final AggregateRootId aggregateId, final Integer version) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+
+        final Segment<AGGREGATE> segment = segmentFor(aggregateId);
+        final long now = ticker.getAsLong();
+        AGGREGATE result = null;
+        synchronized (segment) {
+            final Entry<AGGREGATE> entry = segment.map.get(aggregateId);
+            if (entry != null) {
+                if (segment.isExpired(entry, now)) {
+                    segment.remove(aggregateId, entry);
+                    evictionCount.increment();
+                } else if (version == null || entry.aggregate.getVersion() <= version) {
+                    entry.lastAccess = now;
+                    result = entry.aggregate;
+                }
+            }
+        }
+        if (result == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return result;
+    }
+
+    @Override
+    public void put(@NotNull final AggregateRootId aggregateId, @NotNull final AGGREGATE aggregate) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+        Contract.requireArgNotNull("aggregate", aggregate);
+        if (aggregate.hasUncommitedChanges()) {
+            return;
+        }
+
+        final Segment<AGGREGATE> segment = segmentFor(aggregateId);
+        final int weight = weigher.applyAsInt(aggregate);
+        final long now = ticker.getAsLong();
+        synchronized (segment) {
+            final Entry<AGGREGATE> existing = segment.map.get(aggregateId);
+            if (existing != null) {
+                if (existing.aggregate.getVersion() > aggregate.getVersion()) {
+                    existing.lastAccess = now;
+                    return;
+                }
+                segment.remove(aggregateId, existing);
+            }
+            if (weight > segment.maximumWeight) {
+                return;
+            }
+            segment.map.put(aggregateId, new Entry<>(aggregate, weight, now));
+            segment.weight += weight;
+            evictionCount.add(segment.evict(now));
+        }
+    }
+
+    @Override
+    public void remove(@NotNull final AggregateRootId aggregateId) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+        final Segment<AGGREGATE> segment = segmentFor(aggregateId);
+        synchronized (segment) {
+            final Entry<AGGREGATE> entry = segment.map.get(aggregateId);
+            if (entry != null) {
+                segment.remove(aggregateId, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries. The statistics are not reset.
+     */
+    public void clear() {
+        for (final Segment<AGGREGATE> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of currently cached aggregates.
+     *
+     * @return Number of entries.
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment<AGGREGATE> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the sum of the weights of all currently cached aggregates.
+     *
+     * @return Total weight.
+     */
+    public long weight() {
+        long weight = 0;
+        for (final Segment<AGGREGATE> segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Returns the number of times {@link #get(AggregateRootId, Integer)} returned an aggregate.
+     *
+     * @return Number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of times {@link #get(AggregateRootId, Integer)} returned <code>null</code>. This includes entries that had a
+     * higher version than the requested one.
+     *
+     * @return Number of misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries that were removed because the cache was full or they were idle for too long.
+     *
+     * @return Number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to all requests.
+     *
+     * @return Value between 0.0 and 1.0 - If there was no request yet, 1.0 is returned.
+     */
+    public double getHitRate() {
+        final long hits = hitCount.sum();
+        final long total = hits + missCount.sum();
+        if (total == 0) {
+            return 1.0;
+        }
+        return (double) hits / total;
+    }
+
+    private Segment<AGGREGATE> segmentFor(final AggregateRootId aggregateId) {
+        final int hash = aggregateId.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Returns a weigher that uses the number of events of an aggregate (Version plus one) as weight. Combined with
+     * {@link Builder#maximumWeight(long, ToIntFunction)} this limits the number of events held in memory instead of the number of
+     * aggregates.
+     *
+     * @param <AGGREGATE>
+     *            Type of the aggregate.
+     *
+     * @return Weigher.
+     */
+    @NotNull
+    public static <AGGREGATE extends AggregateRoot<?>> ToIntFunction<AGGREGATE> versionWeigher() {
+        return aggregate -> Math.max(1, aggregate.getVersion() + 1);
+    }
+
+    /**
+     * Cached aggregate.
+     */
+    private static final class Entry<AGGREGATE> {
+
+        private final AGGREGATE aggregate;
+
+        private final int weight;
+
+        private long lastAccess;
+
+        Entry(final AGGREGATE aggregate, final int weight, final long lastAccess) {
+            this.aggregate = aggregate;
+            this.weight = weight;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+    /**
+     * Part of the cache guarded by its own lock. All methods must be called while holding the lock of the segment.
+     */
+    private static final class Segment<AGGREGATE> {
+
+        private final Map<AggregateRootId, Entry<AGGREGATE>> map;
+
+        private final long maximumWeight;
+
+        private final long expireAfterAccessNanos;
+
+        private long weight;
+
+        Segment(final long maximumWeight, final long expireAfterAccessNanos) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true);
+            this.maximumWeight = maximumWeight;
+            this.expireAfterAccessNanos = expireAfterAccessNanos;
+        }
+
+        boolean isExpired(final Entry<AGGREGATE> entry, final long now) {
+            return expireAfterAccessNanos > 0 && now - entry.lastAccess >= expireAfterAccessNanos;
+        }
+
+        void remove(final AggregateRootId aggregateId, final Entry<AGGREGATE> entry) {
+            map.remove(aggregateId);
+            weight -= entry.weight;
+        }
+
+        /**
+         * Removes the least recently used entries as long as the segment is too heavy or they are expired.
+         *
+         * @return Number of removed entries.
+         */
+        int evict(final long now) {
+            int count = 0;
+            final Iterator<Entry<AGGREGATE>> it = map.values().iterator();
+            while (it.hasNext()) {
+                final Entry<AGGREGATE> eldest = it.next();
+                if (weight <= maximumWeight && !isExpired(eldest, now)) {
+                    break;
+                }
+                it.remove();
+                weight -= eldest.weight;
+                count++;
+            }
+            return count;
+        }
+
+    }
+
+    /**
+     * Creates a configured cache.
+     *
+     * @param <AGGREGATE>
+     *            Type of the aggregate.
+     */
+    public static final class Builder<AGGREGATE extends AggregateRoot<?>> {
+
+        private long maximumWeight = DEFAULT_MAXIMUM_SIZE;
+
+        private ToIntFunction<? super AGGREGATE> weigher = aggregate -> 1;
+
+        private Duration expireAfterAccess = Duration.ZERO;
+
+        private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Sets the maximum number of aggregates. Every aggregate has a weight of one.
+         *
+         * @param maximumSize
+         *            Maximum number of cached aggregates.
+         *
+         * @return This builder.
+         */
+        public Builder<AGGREGATE> maximumSize(final long maximumSize) {
+            Contract.requireArgMin("maximumSize", maximumSize, 1);
+            this.maximumWeight = maximumSize;
+            this.weigher = aggregate -> 1;
+            return this;
+        }
+
+        /**
+         * Sets the maximum weight of all aggregates together. Aggregates that are heavier than the maximum weight of a segment are not
+         * cached at all.
+         *
+         * @param maximumWeight
+         *            Maximum total weight.
+         * @param weigher
+         *            Function that returns the positive weight of an aggregate, for example {@link #versionWeigher()}.
+         *
+         * @return This builder.
+         */
+        public Builder<AGGREGATE> maximumWeight(final long maximumWeight, @NotNull final ToIntFunction<? super AGGREGATE> weigher) {
+            Contract.requireArgMin("maximumWeight", maximumWeight, 1);
+            Contract.requireArgNotNull("weigher", weigher);
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Removes aggregates that were not read or put for the given time.
+         *
+         * @param duration
+         *            Time to idle or {@link Duration#ZERO} to keep aggregates until they are evicted because the cache is full.
+         *
+         * @return This builder.
+         */
+        public Builder<AGGREGATE> expireAfterAccess(@NotNull final Duration duration) {
+            Contract.requireArgNotNull("duration", duration);
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("Argument 'duration' cannot be negative: " + duration);
+            }
+            this.expireAfterAccess = duration;
+            return this;
+        }
+
+        /**
+         * Sets the expected number of threads that use the cache concurrently. The cache is split into this number of segments (Rounded
+         * down to a power of two).
+         *
+         * @param concurrencyLevel
+         *            Number of segments.
+         *
+         * @return This builder.
+         */
+        public Builder<AGGREGATE> concurrencyLevel(final int concurrencyLevel) {
+            Contract.requireArgMin("concurrencyLevel", concurrencyLevel, 1);
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Sets the source of the current time in nanoseconds. Only useful for tests.
+         *
+         * @param ticker
+         *            Time source.
+         *
+         * @return This builder.
+         */
+        public Builder<AGGREGATE> ticker(@NotNull final LongSupplier ticker) {
+            Contract.requireArgNotNull("ticker", ticker);
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Creates the cache.
+         *
+         * @return New instance.
+         */
+        public BoundedAggregateCache<AGGREGATE> build() {
+            return new BoundedAggregateCache<>(this);
+        }
+
+    }
+
+}
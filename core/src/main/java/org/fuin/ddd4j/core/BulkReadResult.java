@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of reading multiple aggregates at once. Every requested identifier is either contained in the aggregates or in the failures.
+ *
+ * @param <ID>
+ *            Type of the aggregate root identifier.
+ * @param <T>
+ *            Type of the aggregate.
+ */
+@Immutable
+public final class BulkReadResult<ID extends AggregateRootId, T extends AggregateRoot<ID>> {
+
+    private final Map<ID, T> aggregates;
+
+    private final Map<ID, AbstractAggregateException> failures;
+
+    /**
+     * Constructor with all data.
+     *
+     * @param aggregates
+     *            Successfully read aggregates by their identifier.
+     * @param failures
+     *            Exceptions like {@link AggregateNotFoundException} or {@link AggregateDeletedException} by the identifier of the aggregate
+     *            that could not be read.
+     */
+    public BulkReadResult(@NotNull final Map<ID, T> aggregates, @NotNull final Map<ID, AbstractAggregateException> failures) {
+        super();
+        Contract.requireArgNotNull("aggregates", aggregates);
+        Contract.requireArgNotNull("failures", failures);
+        this.aggregates = Collections.unmodifiableMap(new LinkedHashMap<>(aggregates));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Returns the aggregates that were read successfully.
+     *
+     * @return Unmodifiable map of aggregates by identifier.
+     */
+    @NotNull
+    public Map<ID, T> getAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Returns the reasons why aggregates could not be read.
+     *
+     * @return Unmodifiable map of exceptions by identifier.
+     */
+    @NotNull
+    public Map<ID, AbstractAggregateException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the aggregate with the given identifier.
+     *
+     * @param aggregateId
+     *            Unique aggregate identifier.
+     *
+     * @return Aggregate or {@literal null} if it was not read successfully.
+     */
+    @Nullable
+    public T getAggregate(@NotNull final ID aggregateId) {
+        return aggregates.get(aggregateId);
+    }
+
+    /**
+     * Returns the reason why an aggregate could not be read.
+     *
+     * @param aggregateId
+     *            Unique aggregate identifier.
+     *
+     * @return Exception or {@literal null} if the aggregate was read successfully.
+     */
+    @Nullable
+    public AbstractAggregateException getFailure(@NotNull final ID aggregateId) {
+        return failures.get(aggregateId);
+    }
+
+    /**
+     * Returns the information if all aggregates were read.
+     *
+     * @return TRUE if there are no failures.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkReadResult [aggregates=" + aggregates.keySet() + ", failures=" + failures.keySet() + "]";
+    }
+
+}
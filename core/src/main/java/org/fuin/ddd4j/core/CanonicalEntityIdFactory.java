@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entity identifier factory that returns the same instance for the same type and identifier string as long as the identifier is in use.
+ * The creation of new identifiers is delegated to another factory. Canonical instances are only weakly referenced, so they are garbage
+ * collected as soon as no aggregate or event refers to them any more. Sharing the instances reduces the memory used by cached aggregates
+ * and allows {@link Object#equals(Object)} to take the identity shortcut. The entity types of the identifiers are usually the constants of
+ * the identifier classes and therefore shared already.
+ */
+@ThreadSafe
+public final class CanonicalEntityIdFactory implements EntityIdFactory {
+
+    private final EntityIdFactory delegate;
+
+    private final Map<String, Map<String, IdRef>> table;
+
+    private final ReferenceQueue<EntityId> queue;
+
+    /**
+     * Constructor with factory to decorate.
+     *
+     * @param delegate
+     *            Factory used to create identifiers not known yet.
+     */
+    public CanonicalEntityIdFactory(@NotNull final EntityIdFactory delegate) {
+        super();
+        Contract.requireArgNotNull("delegate", delegate);
+        this.delegate = delegate;
+        this.table = new ConcurrentHashMap<>();
+        this.queue = new ReferenceQueue<>();
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        expungeStaleEntries();
+        final Map<String, IdRef> ids = table.get(type);
+        if (ids != null) {
+            final IdRef ref = ids.get(id);
+            if (ref != null) {
+                final EntityId existing = ref.get();
+                if (existing != null) {
+                    return existing;
+                }
+            }
+        }
+        final EntityId created = delegate.createEntityId(type, id);
+        if (created == null) {
+            return null;
+        }
+        final IdRef newRef = new IdRef(created, type, id, queue);
+        final IdRef result = table.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).compute(id,
+                (key, old) -> (old != null && old.get() != null) ? old : newRef);
+        final EntityId canonical = result.get();
+        if (canonical == null) {
+            // Collected concurrently
+            return created;
+        }
+        return canonical;
+    }
+
+    @Override
+    public boolean containsType(final String type) {
+        return delegate.containsType(type);
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        return delegate.isValid(type, id);
+    }
+
+    /**
+     * Returns the number of canonical identifiers currently known.
+     *
+     * @return Number of entries in the table.
+     */
+    public int size() {
+        expungeStaleEntries();
+        int size = 0;
+        for (final Map<String, IdRef> ids : table.values()) {
+            size = size + ids.size();
+        }
+        return size;
+    }
+
+    private void expungeStaleEntries() {
+        Object obj;
+        while ((obj = queue.poll()) != null) {
+            final IdRef ref = (IdRef) obj;
+            final Map<String, IdRef> ids = table.get(ref.type);
+            if (ids != null) {
+                ids.remove(ref.id, ref);
+            }
+        }
+    }
+
+    /**
+     * Weak reference that knows its key to remove it from the table after the identifier was garbage collected.
+     */
+    private static final class IdRef extends WeakReference<EntityId> {
+
+        private final String type;
+
+        private final String id;
+
+        IdRef(final EntityId entityId, final String type, final String id, final ReferenceQueue<EntityId> queue) {
+            super(entityId, queue);
+            this.type = type;
+            this.id = id;
+        }
+
+    }
+
+}
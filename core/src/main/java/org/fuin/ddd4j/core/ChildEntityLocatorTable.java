@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.Immutable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table with all {@link ChildEntityLocator} annotated methods of an entity class. The table is created only once per entity class and
+ * maps the exact identifier class to a method handle that returns the child entity.
+ */
+@Immutable
+final class ChildEntityLocatorTable {
+
+    private static final MethodType LOCATOR_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final MethodExecutor METHOD_EXECUTOR = new MethodExecutor();
+
+    private static final ClassValue<ChildEntityLocatorTable> TABLES = new ClassValue<>() {
+        @Override
+        protected ChildEntityLocatorTable computeValue(final Class<?> entityClass) {
+            return new ChildEntityLocatorTable(entityClass);
+        }
+    };
+
+    private final Map<Class<?>, MethodHandle> locators;
+
+    /**
+     * Constructor with entity class.
+     *
+     * @param entityClass
+     *            Class to create the table for.
+     */
+    private ChildEntityLocatorTable(final Class<?> entityClass) {
+        super();
+        this.locators = Collections.unmodifiableMap(createLocators(entityClass));
+    }
+
+    /**
+     * Returns the table for the given entity class.
+     *
+     * @param entityClass
+     *            Class to return the table for.
+     *
+     * @return Table that is created on first access and shared afterwards.
+     */
+    static ChildEntityLocatorTable of(@NotNull final Class<?> entityClass) {
+        Contract.requireArgNotNull("entityClass", entityClass);
+        return TABLES.get(entityClass);
+    }
+
+    /**
+     * Returns the locator for a given identifier class.
+     *
+     * @param idClass
+     *            Class of the child entity identifier.
+     *
+     * @return Method handle with type <code>(Object, Object)Object</code> or <code>null</code> if the entity has no locator for the
+     *         identifier class.
+     */
+    MethodHandle find(@NotNull final Class<?> idClass) {
+        return locators.get(idClass);
+    }
+
+    /**
+     * Finds all annotated methods with exactly one parameter. If more than one method exists for the same identifier class, the first one
+     * wins. Methods of a sub class are found before the ones of the parent class.
+     */
+    private static Map<Class<?>, MethodHandle> createLocators(final Class<?> entityClass) {
+        final Map<Class<?>, MethodHandle> map = new HashMap<>();
+        final List<Method> methods = METHOD_EXECUTOR.getDeclaredMethodsIncludingSuperClasses(entityClass, AbstractAggregateRoot.class);
+        for (final Method method : methods) {
+            if (method.getAnnotation(ChildEntityLocator.class) != null && method.getParameterCount() == 1) {
+                map.computeIfAbsent(method.getParameterTypes()[0], type -> METHOD_EXECUTOR.unreflect(method, LOCATOR_TYPE));
+            }
+        }
+        return map;
+    }
+
+}
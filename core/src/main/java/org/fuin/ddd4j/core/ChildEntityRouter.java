@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Routes an entity identifier path to the child entity of an aggregate root. For every aggregate root class a tree of routes is built
+ * on demand. Each node of the tree represents a path "shape", that is the sequence of identifier classes after the aggregate root
+ * identifier, and holds the already resolved {@link EntityDispatcher} of the last step. Paths with the same shape are therefore located
+ * by only walking the precomputed nodes.
+ */
+@ThreadSafe
+final class ChildEntityRouter {
+
+    private static final ClassValue<Route> ROUTES = new ClassValue<>() {
+        @Override
+        protected Route computeValue(final Class<?> rootClass) {
+            return new Route(rootClass, null, false);
+        }
+    };
+
+    private ChildEntityRouter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the entity that is identified by the given path.
+     *
+     * @param aggregateRoot
+     *            Aggregate root to start with. Must be identified by the first element of the path.
+     * @param path
+     *            Path with at least one child entity identifier after the aggregate root identifier.
+     *
+     * @return Child entity identified by the last element of the path.
+     *
+     * @throws IllegalStateException
+     *             There is no locator for one of the path's identifiers or the locator did not find the child entity.
+     */
+    static Entity<?> locate(@NotNull final AggregateRoot<?> aggregateRoot, @NotNull final EntityIdPath path) {
+
+        Contract.requireArgNotNull("aggregateRoot", aggregateRoot);
+        Contract.requireArgNotNull("path", path);
+
+        final Iterator<EntityId> idIt = path.iterator();
+        idIt.next();
+
+        Route route = ROUTES.get(aggregateRoot.getClass());
+        Entity<?> entity = aggregateRoot;
+        int segment = 1;
+        while (idIt.hasNext()) {
+            final EntityId id = idIt.next();
+            segment++;
+            route = route.next(entity, id.getClass());
+            entity = route.locate(entity, id, path, segment);
+        }
+        return entity;
+
+    }
+
+    /**
+     * Node in the tree of routes of an aggregate root class.
+     */
+    private static final class Route {
+
+        /** Class of the entity the locator was resolved for. */
+        private final Class<?> ownerClass;
+
+        /** Identifier class of the child entity located by this node. */
+        private final Class<?> idClass;
+
+        /** Dispatcher for the owner class. */
+        private final EntityDispatcher dispatcher;
+
+        /** Information if the owner class has a locator for the identifier class. */
+        private final boolean locatorExists;
+
+        private final ConcurrentMap<Class<?>, Route> nextRoutes;
+
+        /**
+         * Constructor with all data.
+         *
+         * @param ownerClass
+         *            Class of the entity the locator was resolved for.
+         * @param idClass
+         *            Identifier class or NULL for the root node.
+         * @param locatorExists
+         *            Information if the owner class has a locator for the identifier class.
+         */
+        Route(final Class<?> ownerClass, final Class<?> idClass, final boolean locatorExists) {
+            super();
+            this.ownerClass = ownerClass;
+            this.idClass = idClass;
+            this.dispatcher = EntityDispatchers.of(ownerClass);
+            this.locatorExists = locatorExists;
+            this.nextRoutes = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns the next node for the given identifier class and creates it if it does not exist yet.
+         *
+         * @param entity
+         *            Current entity that will be asked for the child.
+         * @param childIdClass
+         *            Identifier class of the child.
+         *
+         * @return Node that locates the child.
+         */
+        Route next(final Entity<?> entity, final Class<?> childIdClass) {
+            final Route route = nextRoutes.get(childIdClass);
+            if (route != null) {
+                return route;
+            }
+            final Class<?> entityClass = entity.getClass();
+            return nextRoutes.computeIfAbsent(childIdClass,
+                    type -> new Route(entityClass, type, EntityDispatchers.of(entityClass).hasChildEntityLocator(type)));
+        }
+
+        /**
+         * Calls the locator on the given entity.
+         *
+         * @param entity
+         *            Entity to ask for the child.
+         * @param id
+         *            Identifier of the child.
+         * @param path
+         *            Full path (only used for error messages).
+         * @param segment
+         *            One based index of the identifier in the path (only used for error messages).
+         *
+         * @return Child entity.
+         */
+        Entity<?> locate(final Entity<?> entity, final EntityId id, final EntityIdPath path, final int segment) {
+            final EntityDispatcher entityDispatcher;
+            final boolean exists;
+            if (entity.getClass() == ownerClass) {
+                entityDispatcher = dispatcher;
+                exists = locatorExists;
+            } else {
+                // Same shape, but polymorphic child entity class
+                entityDispatcher = EntityDispatchers.of(entity.getClass());
+                exists = entityDispatcher.hasChildEntityLocator(idClass);
+            }
+            if (!exists) {
+                throw new IllegalStateException("No method annotated with @" + ChildEntityLocator.class.getSimpleName() + " and argument '"
+                        + idClass.getName() + "' found in '" + entity.getClass().getName() + "' (segment " + segment + " of path '"
+                        + path + "')");
+            }
+            final Entity<?> child = entityDispatcher.locateChild(entity, id);
+            if (child == null) {
+                throw new IllegalStateException("Child entity '" + id.asTypedString() + "' not found in '" + entity.getClass().getName()
+                        + "' (segment " + segment + " of path '" + path + "')");
+            }
+            return child;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Decorates a cache so that it holds private master copies of the aggregates. Every {@link #get(AggregateRootId, Integer)} hands out a
+ * new copy and {@link #put(AggregateRootId, AggregateRoot)} stores a copy of the given aggregate. Callers can therefore change the
+ * returned aggregates without affecting the cache or other threads that read the same aggregate concurrently. Copying does not replay
+ * any events.
+ *
+ * @param <AGGREGATE>
+ *            Type of the aggregate.
+ */
+@ThreadSafe
+public final class CopyingAggregateCache<AGGREGATE extends AggregateRoot<?>> implements AggregateCache<AGGREGATE> {
+
+    private final AggregateCache<AGGREGATE> delegate;
+
+    private final AggregateCopier<AGGREGATE> copier;
+
+    /**
+     * Constructor with cache to decorate. Uses {@link AggregateCopier#copyMethod()} to copy the aggregates, so they must overwrite
+     * {@link AbstractAggregateRoot#copy()}.
+     *
+     * @param delegate
+     *            Cache that holds the master copies. Must be thread safe.
+     */
+    public CopyingAggregateCache(@NotNull final AggregateCache<AGGREGATE> delegate) {
+        this(delegate, AggregateCopier.copyMethod());
+    }
+
+    /**
+     * Constructor with all data.
+     *
+     * @param delegate
+     *            Cache that holds the master copies. Must be thread safe.
+     * @param copier
+     *            Creates copies of the aggregates.
+     */
+    public CopyingAggregateCache(@NotNull final AggregateCache<AGGREGATE> delegate, @NotNull final AggregateCopier<AGGREGATE> copier) {
+        super();
+        Contract.requireArgNotNull("delegate", delegate);
+        Contract.requireArgNotNull("copier", copier);
+        this.delegate = delegate;
+        this.copier = copier;
+    }
+
+    @Override
+    public AGGREGATE get(@NotNull final AggregateRootId aggregateId, final Integer version) {
+        final AGGREGATE master = delegate.get(aggregateId, version);
+        if (master == null) {
+            return null;
+        }
+        return copier.copy(master);
+    }
+
+    @Override
+    public void put(@NotNull final AggregateRootId aggregateId, @NotNull final AGGREGATE aggregate) {
+        Contract.requireArgNotNull("aggregate", aggregate);
+        if (aggregate.hasUncommitedChanges()) {
+            return;
+        }
+        delegate.put(aggregateId, copier.copy(aggregate));
+    }
+
+    @Override
+    public void remove(@NotNull final AggregateRootId aggregateId) {
+        delegate.remove(aggregateId);
+    }
+
+}
@@ -17,8 +17,12 @@
  */
 package org.fuin.ddd4j.core;
 
+import jakarta.annotation.Nullable;
+
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.UUID;
 import java.util.zip.Adler32;
 
 /**
@@ -31,6 +35,23 @@ public final class Ddd4JUtils {
      */
     public static final String SHORT_ID_PREFIX = "DDD4J";
 
+    /** Length of a UUID in the canonical 8-4-4-4-12 form. */
+    private static final int UUID_LENGTH = 36;
+
+    /** Value of the ASCII hex digits - All other characters are mapped to -1. */
+    private static final int[] HEX_DIGITS = new int[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = 10 + i;
+            HEX_DIGITS['A' + i] = 10 + i;
+        }
+    }
+
     /**
      * Private by intention.
      */
@@ -54,4 +75,100 @@ public final class Ddd4JUtils {
         return checksum.getValue();
     }
 
+    /**
+     * Verifies that a string is a UUID in the canonical form "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx" (Upper or lower case hex digits).
+     * Other than {@link UUID#fromString(String)} no shorter forms are accepted.
+     *
+     * @param value
+     *            String to verify.
+     *
+     * @return TRUE if the value is a UUID, else FALSE (also in case of <code>null</code>).
+     */
+    public static boolean isUuid(@Nullable final String value) {
+        if (!hasUuidDashes(value)) {
+            return false;
+        }
+        return (hex4(value, 0) | hex4(value, 4) | hex4(value, 9) | hex4(value, 14)
+                | hex4(value, 19) | hex4(value, 24) | hex4(value, 28) | hex4(value, 32)) >= 0;
+    }
+
+    /**
+     * Parses a UUID in the canonical form "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx" (Upper or lower case hex digits). The string is
+     * validated and converted in a single pass without using a regular expression.
+     *
+     * @param value
+     *            String to parse.
+     *
+     * @return UUID or <code>null</code> if the value is <code>null</code> or not a valid UUID.
+     */
+    @Nullable
+    public static UUID parseUuid(@Nullable final String value) {
+        if (!hasUuidDashes(value)) {
+            return null;
+        }
+        final int a = hex4(value, 0);
+        final int b = hex4(value, 4);
+        final int c = hex4(value, 9);
+        final int d = hex4(value, 14);
+        final int e = hex4(value, 19);
+        final int f = hex4(value, 24);
+        final int g = hex4(value, 28);
+        final int h = hex4(value, 32);
+        if ((a | b | c | d | e | f | g | h) < 0) {
+            return null;
+        }
+        final long msb = ((long) a << 48) | ((long) b << 32) | ((long) c << 16) | d;
+        final long lsb = ((long) e << 48) | ((long) f << 32) | ((long) g << 16) | h;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Compares two entity types. Types are usually constants of the identifier class, so the identity check is sufficient in most cases.
+     *
+     * @param type
+     *            First type.
+     * @param other
+     *            Second type.
+     *
+     * @return TRUE if both types have the same name, else FALSE.
+     */
+    static boolean sameType(final EntityType type, final EntityType other) {
+        return type == other || type.asString().equals(other.asString());
+    }
+
+    /**
+     * Sets the version of a deserialized aggregate whose version was not part of the serialized state, like the one of an
+     * {@link AbstractAggregateRoot}.
+     *
+     * @param aggregate
+     *            Deserialized aggregate.
+     * @param version
+     *            Version the aggregate had when it was serialized.
+     */
+    static void restoreVersion(final AggregateRoot<?> aggregate, final int version) {
+        if (aggregate.getVersion() == -1) {
+            // The serialized state replaces the events up to and including the version
+            aggregate.skipHistory(version + 1);
+        }
+    }
+
+    private static boolean hasUuidDashes(final String value) {
+        return value != null && value.length() == UUID_LENGTH && value.charAt(8) == '-' && value.charAt(13) == '-'
+                && value.charAt(18) == '-' && value.charAt(23) == '-';
+    }
+
+    /**
+     * Converts four hex digits into a number.
+     *
+     * @return Value between 0 and 0xFFFF or a negative value if any of the characters is not a hex digit.
+     */
+    private static int hex4(final String value, final int start) {
+        return (hexDigit(value.charAt(start)) << 12) | (hexDigit(value.charAt(start + 1)) << 8)
+                | (hexDigit(value.charAt(start + 2)) << 4) | hexDigit(value.charAt(start + 3));
+    }
+
+    private static int hexDigit(final char ch) {
+        return ch < HEX_DIGITS.length ? HEX_DIGITS[ch] : -1;
+    }
+
 }
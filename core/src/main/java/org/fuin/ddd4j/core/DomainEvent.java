@@ -60,4 +60,27 @@ public interface DomainEvent<ID extends EntityId> extends Event {
     @Nullable
     Integer getAggregateVersionInteger();
 
+    /**
+     * Returns the information if the event has an aggregate version.
+     *
+     * @return TRUE if {@link #getAggregateVersion()} is not {@literal null}.
+     */
+    default boolean hasAggregateVersion() {
+        return getAggregateVersion() != null;
+    }
+
+    /**
+     * Returns the aggregate version as primitive. This is a null-safe shortcut for <code>getAggregateVersion().intValue()</code> that does
+     * not box the value.
+     *
+     * @return Aggregate version or <code>-1</code> if the event has no version.
+     */
+    default int getAggregateVersionInt() {
+        final AggregateVersion version = getAggregateVersion();
+        if (version == null) {
+            return -1;
+        }
+        return version.intValue();
+    }
+
 }
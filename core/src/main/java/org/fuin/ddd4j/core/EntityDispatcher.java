@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Applies events to and locates child entities of exactly one entity class. Implementations are usually generated at compile time by
+ * the ddd-4-java annotation processor and registered as service provider (See {@link java.util.ServiceLoader}) using the name
+ * <code>&lt;EntityClassName&gt;{@value #CLASS_NAME_SUFFIX}</code>. If no generated implementation exists for an entity class, a method
+ * handle based implementation that inspects the {@link ApplyEvent} and {@link ChildEntityLocator} annotated methods is used.
+ */
+public interface EntityDispatcher {
+
+    /**
+     * Suffix appended to the entity class name to build the name of a generated dispatcher.
+     */
+    String CLASS_NAME_SUFFIX = "_EntityDispatcher";
+
+    /**
+     * Returns the entity class this dispatcher is responsible for.
+     *
+     * @return Exact entity class.
+     */
+    @NotNull
+    Class<?> getEntityClass();
+
+    /**
+     * Applies the event to the method in the entity that is annotated with {@link ApplyEvent} and has exactly one parameter with the same
+     * type as the domain event.
+     *
+     * @param entity
+     *            Entity to apply the event to. Must be an instance of the entity class.
+     * @param event
+     *            Event to apply.
+     *
+     * @return TRUE if an appropriate event handler method was found and the event was applied, else FALSE.
+     */
+    boolean applyEvent(@NotNull Entity<?> entity, @NotNull DomainEvent<?> event);
+
+    /**
+     * Returns the information if the entity class has a method annotated with {@link ChildEntityLocator} that has exactly one parameter
+     * with the given type.
+     *
+     * @param idClass
+     *            Class of the child entity identifier.
+     *
+     * @return TRUE if {@link #locateChild(Entity, EntityId)} can be called for identifiers of the given class.
+     */
+    boolean hasChildEntityLocator(@NotNull Class<?> idClass);
+
+    /**
+     * Calls the {@link ChildEntityLocator} annotated method that has exactly the class of the identifier as parameter.
+     *
+     * @param entity
+     *            Entity to ask for the child. Must be an instance of the entity class.
+     * @param childId
+     *            Identifier of the child.
+     *
+     * @return Child entity or <code>null</code> if the entity has no child with the given identifier.
+     *
+     * @throws IllegalArgumentException
+     *             There is no locator method for the class of the given identifier.
+     */
+    @Nullable
+    Entity<?> locateChild(@NotNull Entity<?> entity, @NotNull EntityId childId);
+
+}
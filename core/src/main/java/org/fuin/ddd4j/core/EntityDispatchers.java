@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * Provides the dispatcher for an entity class. A generated {@link EntityDispatcher} registered as service provider is preferred. If none
+ * exists, a {@link MethodHandleEntityDispatcher} is used. The result is determined only once per entity class. The service providers are
+ * looked up only once per class loader and broken provider entries are skipped.
+ */
+@ThreadSafe
+final class EntityDispatchers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityDispatchers.class);
+
+    private static final ClassValue<EntityDispatcher> DISPATCHERS = new ClassValue<>() {
+        @Override
+        protected EntityDispatcher computeValue(final Class<?> entityClass) {
+            return create(entityClass);
+        }
+    };
+
+    private static final Map<ClassLoader, Map<String, ServiceLoader.Provider<EntityDispatcher>>> PROVIDERS = new WeakHashMap<>();
+
+    private EntityDispatchers() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the dispatcher for the given entity class.
+     *
+     * @param entityClass
+     *            Class to return a dispatcher for.
+     *
+     * @return Generated or method handle based dispatcher.
+     */
+    static EntityDispatcher of(@NotNull final Class<?> entityClass) {
+        Contract.requireArgNotNull("entityClass", entityClass);
+        return DISPATCHERS.get(entityClass);
+    }
+
+    private static EntityDispatcher create(final Class<?> entityClass) {
+        final String name = entityClass.getName() + EntityDispatcher.CLASS_NAME_SUFFIX;
+        final ClassLoader classLoader = entityClass.getClassLoader();
+        if (classLoader != null) {
+            final ServiceLoader.Provider<EntityDispatcher> provider = providers(classLoader).get(name);
+            if (provider != null) {
+                try {
+                    final EntityDispatcher dispatcher = provider.get();
+                    if (dispatcher.getEntityClass() == entityClass) {
+                        LOG.debug("Using generated dispatcher for {}: {}", entityClass.getName(), name);
+                        return dispatcher;
+                    }
+                } catch (final ServiceConfigurationError ex) {
+                    LOG.warn("Failed to create generated dispatcher for {}: {}", entityClass.getName(), name, ex);
+                }
+            }
+        }
+        return new MethodHandleEntityDispatcher(entityClass);
+    }
+
+    private static Map<String, ServiceLoader.Provider<EntityDispatcher>> providers(final ClassLoader classLoader) {
+        synchronized (PROVIDERS) {
+            return PROVIDERS.computeIfAbsent(classLoader, EntityDispatchers::loadProviders);
+        }
+    }
+
+    /**
+     * Loads all dispatchers registered as service provider. Entries that cannot be loaded are logged and skipped.
+     *
+     * @param classLoader
+     *            Class loader to use.
+     *
+     * @return Unmodifiable map of providers by the name of the dispatcher class.
+     */
+    static Map<String, ServiceLoader.Provider<EntityDispatcher>> loadProviders(@NotNull final ClassLoader classLoader) {
+        final Map<String, ServiceLoader.Provider<EntityDispatcher>> map = new HashMap<>();
+        final Iterator<ServiceLoader.Provider<EntityDispatcher>> iterator = ServiceLoader.load(EntityDispatcher.class, classLoader).stream()
+                .iterator();
+        boolean more = true;
+        while (more) {
+            try {
+                more = iterator.hasNext();
+                if (more) {
+                    final ServiceLoader.Provider<EntityDispatcher> provider = iterator.next();
+                    map.putIfAbsent(provider.type().getName(), provider);
+                }
+            } catch (final ServiceConfigurationError ex) {
+                // The service loader continues with the next entry
+                LOG.warn("Skipped broken entity dispatcher provider", ex);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+}
@@ -27,13 +27,18 @@ import org.fuin.objects4j.ui.Prompt;
 import org.fuin.objects4j.ui.ShortLabel;
 import org.fuin.objects4j.ui.Tooltip;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.NoSuchElementException;
 
 /**
  * An ordered list of entity identifiers. An aggregate root will be the first entry if it's contained in the list.
@@ -53,7 +58,25 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
      */
     public static final String PATH_SEPARATOR = "/";
 
-    private final List<EntityId> entityIds;
+    /**
+     * The identifiers are serialized as list to stay compatible with the former list based implementation.
+     */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = { new ObjectStreamField("entityIds", List.class) };
+
+    // The fields are not final because they are set when deserializing, but they are never changed afterwards
+
+    /** Identifiers that may be shared with other paths created by {@link #rest()} or {@link #parent()}. Never modified. */
+    private transient EntityId[] entityIds;
+
+    /** Index of the first identifier of this path inside the array. */
+    private transient int offset;
+
+    /** Number of identifiers of this path. */
+    private transient int length;
+
+    /** Lazy calculated string representation. */
+    private transient String str;
 
     /**
      * Constructor with ID array.
@@ -66,13 +89,15 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
         if (entityIds.length == 0) {
             throw new ConstraintViolationException("Identifier array cannot be empty");
         }
-        for (final EntityId entityId : entityIds) {
+        final EntityId[] copy = entityIds.clone();
+        for (final EntityId entityId : copy) {
             if (entityId == null) {
                 throw new ConstraintViolationException("Identifiers in the array cannot be null");
             }
         }
-        this.entityIds = new ArrayList<>();
-        this.entityIds.addAll(Arrays.asList(entityIds));
+        this.entityIds = copy;
+        this.offset = 0;
+        this.length = copy.length;
     }
 
     /**
@@ -81,27 +106,61 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
      * @param ids Entity identifiers in correct order (from outer to inner).
      */
     public EntityIdPath(final List<EntityId> ids) {
+        super();
         Contract.requireArgNotNull("ids", ids);
         if (ids.isEmpty()) {
             throw new ConstraintViolationException("Identifier list cannot be empty");
         }
-        for (final EntityId entityId : ids) {
+        final EntityId[] copy = ids.toArray(new EntityId[0]);
+        for (final EntityId entityId : copy) {
             if (entityId == null) {
                 throw new ConstraintViolationException("Identifiers in the list cannot be null");
             }
         }
-        this.entityIds = new ArrayList<>();
-        this.entityIds.addAll(ids);
+        this.entityIds = copy;
+        this.offset = 0;
+        this.length = copy.length;
+    }
+
+    /**
+     * Constructor for a view on an already validated array.
+     *
+     * @param entityIds Shared array that is never modified.
+     * @param offset    Index of the first identifier.
+     * @param length    Number of identifiers (at least one).
+     */
+    private EntityIdPath(final EntityId[] entityIds, final int offset, final int length) {
+        super();
+        this.entityIds = entityIds;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
-     * Creates a NEW list of the entity identifiers contained in the entity id path and returns an iterator on it. This means deleting an
-     * element using the {@link Iterator#remove()} method will NOT remove something from this entity id path.
+     * Returns an iterator on the entity identifiers contained in the entity id path. The path is immutable, so the iterator does not
+     * support the {@link Iterator#remove()} method.
      *
-     * @return Iterator on a new list instance.
+     * @return Read only iterator.
      */
     public final Iterator<EntityId> iterator() {
-        return new ArrayList<>(entityIds).iterator();
+        return new Iterator<>() {
+
+            private int index = offset;
+
+            @Override
+            public boolean hasNext() {
+                return index < offset + length;
+            }
+
+            @Override
+            public EntityId next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return entityIds[index++];
+            }
+
+        };
     }
 
     /**
@@ -112,7 +171,7 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
      */
     @SuppressWarnings("unchecked")
     public final <T extends EntityId> T first() {
-        return (T) entityIds.get(0);
+        return (T) entityIds[offset];
     }
 
     /**
@@ -123,39 +182,31 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
      */
     @SuppressWarnings("unchecked")
     public final <T extends EntityId> T last() {
-        return (T) entityIds.get(entityIds.size() - 1);
+        return (T) entityIds[offset + length - 1];
     }
 
     /**
-     * Returns the path without the first entry.
+     * Returns the path without the first entry. The result shares the identifiers with this path.
      *
      * @return Rest or NULL if the path has only one element.
      */
     public final EntityIdPath rest() {
-        if (entityIds.size() == 1) {
+        if (length == 1) {
             return null;
         }
-        final List<EntityId> list = new ArrayList<>();
-        for (int i = 1; i < entityIds.size(); i++) {
-            list.add(entityIds.get(i));
-        }
-        return new EntityIdPath(list);
+        return new EntityIdPath(entityIds, offset + 1, length - 1);
     }
 
     /**
-     * Returns the parent path without the last entry.
+     * Returns the parent path without the last entry. The result shares the identifiers with this path.
      *
      * @return Parent identifier path or NULL if this is an aggregate root ID.
      */
     public EntityIdPath parent() {
-        if (entityIds.size() == 1) {
+        if (length == 1) {
             return null;
         }
-        final List<EntityId> list = new ArrayList<>();
-        for (int i = 0; i < entityIds.size() - 1; i++) {
-            list.add(entityIds.get(i));
-        }
-        return new EntityIdPath(list);
+        return new EntityIdPath(entityIds, offset, length - 1);
     }
 
     /**
@@ -164,19 +215,25 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
      * @return Number of identifiers contained in the path.
      */
     public final int size() {
-        return entityIds.size();
+        return length;
     }
 
     @Override
     public final String asBaseType() {
-        final StringBuilder sb = new StringBuilder();
-        for (final EntityId entityId : entityIds) {
-            if (!sb.isEmpty()) {
-                sb.append(PATH_SEPARATOR);
+        // Concurrent calls may create the string more than once, but always with the same content
+        String result = str;
+        if (result == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = offset; i < offset + length; i++) {
+                if (i > offset) {
+                    sb.append(PATH_SEPARATOR);
+                }
+                sb.append(entityIds[i].asTypedString());
             }
-            sb.append(entityId.asTypedString());
+            result = sb.toString();
+            str = result;
         }
-        return sb.toString();
+        return result;
     }
 
     @Override
@@ -184,6 +241,32 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
         return asBaseType();
     }
 
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("entityIds", new ArrayList<>(Arrays.asList(entityIds).subList(offset, offset + length)));
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final List<?> list = (List<?>) fields.get("entityIds", null);
+        if (list == null || list.isEmpty()) {
+            throw new InvalidObjectException("Identifier list cannot be empty");
+        }
+        final EntityId[] array = new EntityId[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            if (!(list.get(i) instanceof EntityId entityId)) {
+                throw new InvalidObjectException("Identifiers in the list must be non-null entity identifiers");
+            }
+            array[i] = entityId;
+        }
+        this.entityIds = array;
+        this.offset = 0;
+        this.length = array.length;
+    }
+
     /**
      * Converts a given string into an instance of this class.
      *
@@ -197,15 +280,27 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
         if (str == null) {
             return null;
         }
-        final List<String> entryList = entries(str);
-        if (entryList.isEmpty()) {
-            throw new IllegalArgumentException("Invalid entity path: '" + str + "'");
+        EntityId[] ids = new EntityId[4];
+        int count = 0;
+        int start = 0;
+        while (start < str.length()) {
+            final int end = segmentEnd(str, start);
+            if (end > start) {
+                final EntityId entityId = entityId(factory, str, start, end);
+                if (entityId == null) {
+                    throw new ConstraintViolationException("Identifiers in the list cannot be null");
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = entityId;
+            }
+            start = end + 1;
         }
-        final List<EntityId> ids = new ArrayList<>();
-        for (final String entry : entryList) {
-            ids.add(EntityId.valueOf(factory, entry));
+        if (count == 0) {
+            throw new IllegalArgumentException("Invalid entity path: '" + str + "'");
         }
-        return new EntityIdPath(ids);
+        return new EntityIdPath(ids, 0, count);
     }
 
     /**
@@ -220,19 +315,19 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
         if (value == null) {
             return true;
         }
-        if (value.isEmpty()) {
-            return false;
-        }
-        final List<String> entryList = entries(value);
-        if (entryList.isEmpty()) {
-            return false;
-        }
-        for (final String entry : entryList) {
-            if (!EntityId.isValid(factory, entry)) {
-                return false;
+        boolean found = false;
+        int start = 0;
+        while (start < value.length()) {
+            final int end = segmentEnd(value, start);
+            if (end > start) {
+                if (!isValidEntityId(factory, value, start, end)) {
+                    return false;
+                }
+                found = true;
             }
+            start = end + 1;
         }
-        return true;
+        return found;
     }
 
     /**
@@ -253,14 +348,37 @@ public final class EntityIdPath extends AbstractStringValueObject implements Ser
 
     }
 
-    private static List<String> entries(final String value) {
-        final List<String> list = new ArrayList<>();
-        final StringTokenizer tok = new StringTokenizer(value, EntityIdPath.PATH_SEPARATOR);
-        while (tok.hasMoreTokens()) {
-            final String str = tok.nextToken();
-            list.add(str);
+    /**
+     * Returns the end of the segment that starts at the given index. Empty segments are allowed and skipped by the callers.
+     */
+    private static int segmentEnd(final String str, final int start) {
+        final int end = str.indexOf(PATH_SEPARATOR, start);
+        if (end == -1) {
+            return str.length();
+        }
+        return end;
+    }
+
+    /**
+     * Creates an entity identifier from the segment "type id" without creating a string for the segment itself.
+     *
+     * @return Identifier or NULL if the segment has no space.
+     */
+    private static EntityId entityId(final EntityIdFactory factory, final String str, final int start, final int end) {
+        final int p = str.indexOf(' ', start);
+        if (p == -1 || p >= end) {
+            return null;
+        }
+        return factory.createEntityId(str.substring(start, p), str.substring(p + 1, end));
+    }
+
+    private static boolean isValidEntityId(final EntityIdFactory factory, final String str, final int start, final int end) {
+        final int p = str.indexOf(' ', start);
+        if (p == -1 || p >= end) {
+            return false;
         }
-        return list;
+        final String type = str.substring(start, p);
+        return factory.containsType(type) && factory.isValid(type, str.substring(p + 1, end));
     }
 
 }
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts strings into entity identifier paths and keeps a bounded number of the results. Events of the same aggregate usually repeat the
+ * same path many times, so the same immutable instance can be returned instead of parsing the string again. If the cache is full, an
+ * arbitrary entry is removed before a new one is added. The maximum size may be exceeded for a short time if many threads add entries
+ * concurrently.
+ */
+@ThreadSafe
+public final class EntityIdPathCache {
+
+    /** Default maximum number of cached paths. */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final EntityIdFactory factory;
+
+    private final int maxSize;
+
+    private final Map<String, EntityIdPath> cache;
+
+    /**
+     * Constructor with factory and default maximum size.
+     *
+     * @param factory
+     *            Factory used to create entity identifiers.
+     */
+    public EntityIdPathCache(@NotNull final EntityIdFactory factory) {
+        this(factory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor with all data.
+     *
+     * @param factory
+     *            Factory used to create entity identifiers.
+     * @param maxSize
+     *            Maximum number of cached paths.
+     */
+    public EntityIdPathCache(@NotNull final EntityIdFactory factory, final int maxSize) {
+        super();
+        Contract.requireArgNotNull("factory", factory);
+        Contract.requireArgMin("maxSize", maxSize, 1);
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the factory used to create entity identifiers.
+     *
+     * @return Factory.
+     */
+    @NotNull
+    public EntityIdFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns the maximum number of cached paths.
+     *
+     * @return Maximum size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of currently cached paths.
+     *
+     * @return Number of entries.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached paths.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Converts a given string into an entity identifier path. See {@link EntityIdPath#valueOf(EntityIdFactory, String)} for details.
+     *
+     * @param str
+     *            String to convert.
+     *
+     * @return Cached or new instance.
+     */
+    @Nullable
+    public EntityIdPath valueOf(@Nullable final String str) {
+        if (str == null) {
+            return null;
+        }
+        final EntityIdPath cached = cache.get(str);
+        if (cached != null) {
+            return cached;
+        }
+        final EntityIdPath path = EntityIdPath.valueOf(factory, str);
+        if (cache.size() >= maxSize) {
+            evictOne();
+        }
+        final EntityIdPath existing = cache.putIfAbsent(str, path);
+        if (existing == null) {
+            return path;
+        }
+        return existing;
+    }
+
+    private void evictOne() {
+        final Iterator<String> it = cache.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+}
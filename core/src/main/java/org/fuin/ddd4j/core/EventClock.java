@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+/**
+ * Source of the time stamps of new events. The default clock is created only once using the system default time zone, so other than
+ * {@link ZonedDateTime#now()} the default zone is not resolved again for every event. The offset of each time stamp is still
+ * calculated from the rules of the zone, use {@link #instant()} where no zone is needed. Changing the default time zone of the JVM
+ * afterwards requires setting a new clock. A fixed clock can be set for tests.
+ */
+@ThreadSafe
+public final class EventClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private EventClock() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the clock used for new events.
+     *
+     * @return Current clock.
+     */
+    @NotNull
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the clock used for all new events.
+     *
+     * @param clock
+     *            Clock to use.
+     */
+    public static void setClock(@NotNull final Clock clock) {
+        Contract.requireArgNotNull("clock", clock);
+        EventClock.clock = clock;
+    }
+
+    /**
+     * Returns the current date/time of the clock.
+     *
+     * @return Time stamp for a new event.
+     */
+    @NotNull
+    public static ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    /**
+     * Returns the current instant of the clock.
+     *
+     * @return Time stamp without time zone.
+     */
+    @NotNull
+    public static Instant instant() {
+        return clock.instant();
+    }
+
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.Immutable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatch table with all {@link ApplyEvent} annotated methods of an entity class. The table is created only once per entity class and
+ * maps the exact event class to a method handle that applies the event. Looking up and calling a handler does neither use reflection nor
+ * allocate any objects.
+ */
+@Immutable
+final class EventHandlerTable {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodExecutor METHOD_EXECUTOR = new MethodExecutor();
+
+    private static final ClassValue<EventHandlerTable> TABLES = new ClassValue<>() {
+        @Override
+        protected EventHandlerTable computeValue(final Class<?> entityClass) {
+            return new EventHandlerTable(entityClass);
+        }
+    };
+
+    private final Class<?> entityClass;
+
+    private final Map<Class<?>, MethodHandle> handlers;
+
+    /**
+     * Constructor with entity class.
+     *
+     * @param entityClass
+     *            Class to create the table for.
+     */
+    private EventHandlerTable(final Class<?> entityClass) {
+        super();
+        this.entityClass = entityClass;
+        this.handlers = Collections.unmodifiableMap(createHandlers(entityClass));
+    }
+
+    /**
+     * Returns the table for the given entity class.
+     *
+     * @param entityClass
+     *            Class to return the table for.
+     *
+     * @return Table that is created on first access and shared afterwards.
+     */
+    static EventHandlerTable of(@NotNull final Class<?> entityClass) {
+        Contract.requireArgNotNull("entityClass", entityClass);
+        return TABLES.get(entityClass);
+    }
+
+    /**
+     * Returns the information if the entity class has a handler method for the given event class.
+     *
+     * @param eventClass
+     *            Event class to find a handler for.
+     *
+     * @return TRUE if there is an {@link ApplyEvent} annotated method that has exactly the event class as parameter.
+     */
+    boolean hasHandler(@NotNull final Class<?> eventClass) {
+        return handlers.containsKey(eventClass);
+    }
+
+    /**
+     * Applies the event to the handler method of the entity.
+     *
+     * @param entity
+     *            Entity to apply the event to. Must be an instance of the class this table was created for.
+     * @param event
+     *            Event to apply.
+     *
+     * @return TRUE if an appropriate event handler method was found and the event was applied, else FALSE.
+     */
+    boolean apply(@NotNull final Object entity, @NotNull final Object event) {
+        final MethodHandle handler = handlers.get(event.getClass());
+        if (handler == null) {
+            return false;
+        }
+        try {
+            handler.invokeExact(entity, event);
+        } catch (final Throwable ex) { // NOSONAR The handler may throw anything
+            throw new RuntimeException(
+                    "Failed to apply event '" + event.getClass().getName() + "' on '" + entityClass.getSimpleName() + "'", ex);
+        }
+        return true;
+    }
+
+    /**
+     * Finds all annotated methods with exactly one parameter. If more than one method exists for the same event class, the first one
+     * wins. Methods of a sub class are found before the ones of the parent class.
+     */
+    private static Map<Class<?>, MethodHandle> createHandlers(final Class<?> entityClass) {
+        final Map<Class<?>, MethodHandle> map = new HashMap<>();
+        final List<Method> methods = METHOD_EXECUTOR.getDeclaredMethodsIncludingSuperClasses(entityClass, AbstractAggregateRoot.class);
+        for (final Method method : methods) {
+            if (method.getAnnotation(ApplyEvent.class) != null && method.getParameterCount() == 1) {
+                map.computeIfAbsent(method.getParameterTypes()[0], type -> METHOD_EXECUTOR.unreflect(method, HANDLER_TYPE));
+            }
+        }
+        return map;
+    }
+
+}
@@ -29,10 +29,13 @@ import org.fuin.objects4j.ui.Prompt;
 import org.fuin.objects4j.ui.ShortLabel;
 import org.fuin.objects4j.ui.Tooltip;
 import org.fuin.utils4j.TechnicalId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.Immutable;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ServiceLoader;
 import java.util.UUID;
 
 /**
@@ -50,14 +53,18 @@ public final class EventId extends AbstractUuidValueObject implements TechnicalI
     @Serial
     private static final long serialVersionUID = 1000L;
 
+    private static final Logger LOG = LoggerFactory.getLogger(EventId.class);
+
+    private static volatile EventIdGenerator generator = loadGenerator();
+
     private final UUID uuid;
 
     /**
-     * Default constructor.
+     * Default constructor that creates a new identifier using the current {@link EventIdGenerator}.
      */
     public EventId() {
         super();
-        uuid = UUID.randomUUID();
+        uuid = generator.generate();
     }
 
     /**
@@ -99,4 +106,34 @@ public final class EventId extends AbstractUuidValueObject implements TechnicalI
         return new EventId(UUID.fromString(value));
     }
 
+    /**
+     * Returns the generator used by the default constructor.
+     *
+     * @return Current generator.
+     */
+    @NotNull
+    public static EventIdGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Sets the generator used by the default constructor for all new event identifiers.
+     *
+     * @param generator
+     *            Generator to use.
+     */
+    public static void setGenerator(@NotNull final EventIdGenerator generator) {
+        Contract.requireArgNotNull("generator", generator);
+        EventId.generator = generator;
+    }
+
+    private static EventIdGenerator loadGenerator() {
+        final EventIdGenerator loaded = ServiceLoader.load(EventIdGenerator.class, EventId.class.getClassLoader()).findFirst().orElse(null);
+        if (loaded == null) {
+            return new TimeOrderedEventIdGenerator();
+        }
+        LOG.info("Using event identifier generator: {}", loaded.getClass().getName());
+        return loaded;
+    }
+
 }
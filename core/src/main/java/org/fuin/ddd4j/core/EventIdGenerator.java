@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Creates the UUIDs used by the default constructor of {@link EventId}. The first implementation registered as service provider (See
+ * {@link java.util.ServiceLoader}) is used or a {@link TimeOrderedEventIdGenerator} if none is registered. The generator can also be set
+ * using {@link EventId#setGenerator(EventIdGenerator)}. Use <code>UUID::randomUUID</code> to get the random (version 4) identifiers
+ * of previous versions. Implementations must be thread safe.
+ */
+@FunctionalInterface
+public interface EventIdGenerator {
+
+    /**
+     * Creates a new unique identifier.
+     *
+     * @return New UUID.
+     */
+    @NotNull
+    UUID generate();
+
+}
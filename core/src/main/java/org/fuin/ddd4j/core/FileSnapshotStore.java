@@ -0,0 +1,224 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+import org.fuin.utils4j.Utils4J;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Stores snapshots as Java serialized files in a local directory. Every aggregate has its own sub directory with one file per
+ * snapshot version, and only the newest snapshots are kept. Aggregates opt in by implementing {@link Serializable} themselves. The
+ * {@link AbstractAggregateRoot} base class is not serializable, so its version is restored from the snapshot version after reading,
+ * and child entities must be written and recreated by the aggregate (For example with <code>writeObject</code> /
+ * <code>readObject</code>). Snapshots that cannot be read any more, for example after an incompatible change of the aggregate class, are ignored, so the
+ * aggregate is simply rebuilt from the events. Only use a directory that is not writable by others, as the files are deserialized.
+ *
+ * @param <AGGREGATE>
+ *            Type of the aggregate.
+ */
+@ThreadSafe
+public final class FileSnapshotStore<AGGREGATE extends AggregateRoot<?>> implements SnapshotStore<AGGREGATE> {
+
+    /** Number of snapshots kept per aggregate by default. */
+    public static final int DEFAULT_KEEP = 2;
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSnapshotStore.class);
+
+    private static final String EXTENSION = ".snapshot";
+
+    private final Path directory;
+
+    private final int keep;
+
+    private final Executor executor;
+
+    /**
+     * Constructor with directory. Keeps {@link #DEFAULT_KEEP} snapshots per aggregate and writes the files using the common pool.
+     *
+     * @param directory
+     *            Directory for the snapshot files.
+     */
+    public FileSnapshotStore(@NotNull final Path directory) {
+        this(directory, DEFAULT_KEEP, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor with all data.
+     *
+     * @param directory
+     *            Directory for the snapshot files.
+     * @param keep
+     *            Number of snapshots to keep per aggregate.
+     * @param executor
+     *            Executor used to write the files.
+     */
+    public FileSnapshotStore(@NotNull final Path directory, final int keep, @NotNull final Executor executor) {
+        super();
+        Contract.requireArgNotNull("directory", directory);
+        Contract.requireArgMin("keep", keep, 1);
+        Contract.requireArgNotNull("executor", executor);
+        this.directory = directory;
+        this.keep = keep;
+        this.executor = executor;
+    }
+
+    @Override
+    public final AGGREGATE load(@NotNull final AggregateRootId aggregateId, final int maxVersion) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+
+        final Path dir = aggregateDir(aggregateId);
+        final List<Integer> versions = versions(dir);
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            final int version = versions.get(i);
+            if (version <= maxVersion) {
+                final AGGREGATE aggregate = read(dir.resolve(version + EXTENSION), aggregateId, version);
+                if (aggregate != null) {
+                    return aggregate;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public final void save(@NotNull final AGGREGATE aggregate) {
+        Contract.requireArgNotNull("aggregate", aggregate);
+        if (aggregate.hasUncommitedChanges()) {
+            throw new IllegalArgumentException("Cannot take a snapshot of an aggregate with uncommitted changes: " + aggregate.getId());
+        }
+        if (!(aggregate instanceof Serializable)) {
+            throw new IllegalArgumentException("Aggregate is not serializable: " + aggregate.getClass().getName());
+        }
+
+        // Capture the state now, as the aggregate may change after returning
+        final byte[] data = Utils4J.serialize((Serializable) aggregate);
+        final Path dir = aggregateDir(aggregate.getId());
+        final int version = aggregate.getVersion();
+        executor.execute(() -> write(dir, version, data));
+    }
+
+    @Override
+    public final void remove(@NotNull final AggregateRootId aggregateId) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+        final Path dir = aggregateDir(aggregateId);
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (final Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to remove snapshots: " + dir, ex);
+        }
+    }
+
+    private Path aggregateDir(final AggregateRootId aggregateId) {
+        return directory.resolve(URLEncoder.encode(aggregateId.asTypedString(), StandardCharsets.UTF_8));
+    }
+
+    private AGGREGATE read(final Path file, final AggregateRootId aggregateId, final int version) {
+        try {
+            @SuppressWarnings("unchecked")
+            final AGGREGATE aggregate = (AGGREGATE) Utils4J.deserialize(Files.readAllBytes(file));
+            Ddd4JUtils.restoreVersion(aggregate, version);
+            if (!aggregateId.equals(aggregate.getId()) || aggregate.getVersion() != version) {
+                LOG.warn("Ignored snapshot with unexpected content: {}", file);
+                return null;
+            }
+            return aggregate;
+        } catch (final NoSuchFileException ex) {
+            LOG.debug("Snapshot was removed while reading: {}", file);
+        } catch (final IOException | RuntimeException ex) {
+            LOG.warn("Ignored snapshot that cannot be read: {}", file, ex);
+        }
+        return null;
+    }
+
+    private void write(final Path dir, final int version, final byte[] data) {
+        final Path target = dir.resolve(version + EXTENSION);
+        try {
+            Files.createDirectories(dir);
+            final Path tmp = Files.createTempFile(dir, String.valueOf(version), ".tmp");
+            Files.write(tmp, data);
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOG.debug("Wrote snapshot: {}", target);
+            final List<Integer> versions = versions(dir);
+            for (int i = 0; i < versions.size() - keep; i++) {
+                Files.deleteIfExists(dir.resolve(versions.get(i) + EXTENSION));
+            }
+        } catch (final IOException | RuntimeException ex) {
+            LOG.warn("Failed to write snapshot: {}", target, ex);
+        }
+    }
+
+    /**
+     * Returns the versions of all snapshots in the directory in ascending order.
+     */
+    private static List<Integer> versions(final Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (final Stream<Path> paths = Files.list(dir)) {
+            return paths.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(EXTENSION))
+                    .map(name -> name.substring(0, name.length() - EXTENSION.length())).filter(FileSnapshotStore::isVersion)
+                    .map(Integer::valueOf).sorted().toList();
+        } catch (final IOException ex) {
+            LOG.warn("Failed to list snapshots: {}", dir, ex);
+            return List.of();
+        }
+    }
+
+    private static boolean isVersion(final String str) {
+        if (str.isEmpty() || str.length() > 10) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return Long.parseLong(str) <= Integer.MAX_VALUE;
+    }
+
+}
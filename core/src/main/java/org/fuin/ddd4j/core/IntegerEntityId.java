@@ -21,19 +21,35 @@ import jakarta.validation.constraints.NotNull;
 import org.fuin.objects4j.common.Contract;
 import org.fuin.objects4j.common.ValueObjectWithBaseType;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 
 /**
- * Integer based entity identifier.
+ * Integer based entity identifier. The identifier is stored as primitive and {@link #intValue()} returns it without boxing.
  */
 public abstract class IntegerEntityId implements EntityId, Comparable<IntegerEntityId>, ValueObjectWithBaseType<Integer> {
 
     @Serial
     private static final long serialVersionUID = 1000L;
 
-    private final EntityType entityType;
+    /** The serialized form still contains the identifier as {@link Integer} to stay compatible with older versions. */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("entityType", EntityType.class),
+            new ObjectStreamField("id", Integer.class) };
+
+    // Not final because of the custom deserialization
+    private EntityType entityType;
 
-    private final Integer id;
+    // Not final because of the custom deserialization
+    private int id;
+
+    /** Lazily created typed string. */
+    private transient String typedString;
 
     /**
      * Constructor with Integer.
@@ -51,12 +67,27 @@ public abstract class IntegerEntityId implements EntityId, Comparable<IntegerEnt
         this.id = id;
     }
 
+    /**
+     * Constructor with primitive integer.
+     *
+     * @param entityType
+     *            Entity type.
+     * @param id
+     *            Integer.
+     */
+    public IntegerEntityId(@NotNull final EntityType entityType, final int id) {
+        super();
+        Contract.requireArgNotNull("entityType", entityType);
+        this.entityType = entityType;
+        this.id = id;
+    }
+
     @Override
     public final int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + entityType.asString().hashCode();
-        result = prime * result + id.hashCode();
+        result = prime * result + Integer.hashCode(id);
         return result;
     }
 
@@ -71,24 +102,26 @@ public abstract class IntegerEntityId implements EntityId, Comparable<IntegerEnt
         if (!(obj instanceof IntegerEntityId other)) {
             return false;
         }
-        if (!entityType.asString().equals(other.entityType.asString())) {
+        if (id != other.id) {
             return false;
         }
-        return id.equals(other.id);
+        return Ddd4JUtils.sameType(entityType, other.entityType);
     }
 
     @Override
     public final int compareTo(final IntegerEntityId other) {
-        final int c = entityType.asString().compareTo(other.entityType.asString());
-        if (c != 0) {
-            return c;
+        if (entityType != other.entityType) {
+            final int c = entityType.asString().compareTo(other.entityType.asString());
+            if (c != 0) {
+                return c;
+            }
         }
-        return id.compareTo(other.id);
+        return Integer.compare(id, other.id);
     }
 
     @Override
     public final String toString() {
-        return id.toString();
+        return Integer.toString(id);
     }
 
     @Override
@@ -98,7 +131,12 @@ public abstract class IntegerEntityId implements EntityId, Comparable<IntegerEnt
 
     @Override
     public final String asTypedString() {
-        return entityType + " " + id;
+        String str = typedString;
+        if (str == null) {
+            str = entityType + " " + id;
+            typedString = str;
+        }
+        return str;
     }
 
     @Override
@@ -116,4 +154,33 @@ public abstract class IntegerEntityId implements EntityId, Comparable<IntegerEnt
         return id;
     }
 
+    /**
+     * Returns the identifier as primitive.
+     *
+     * @return Identifier without boxing it.
+     */
+    public final int intValue() {
+        return id;
+    }
+
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("entityType", entityType);
+        fields.put("id", Integer.valueOf(id));
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final EntityType type = (EntityType) fields.get("entityType", null);
+        final Integer value = (Integer) fields.get("id", null);
+        if (type == null || value == null) {
+            throw new InvalidObjectException("Invalid entity identifier: type=" + type + ", id=" + value);
+        }
+        this.entityType = type;
+        this.id = value;
+    }
+
 }
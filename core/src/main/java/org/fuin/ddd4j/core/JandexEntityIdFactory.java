@@ -1,30 +1,57 @@
 package org.fuin.ddd4j.core;
 
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
 import org.fuin.objects4j.common.HasPublicStaticIsValidMethod;
 import org.fuin.objects4j.common.HasPublicStaticIsValidMethodValidator;
 import org.fuin.objects4j.common.HasPublicStaticValueOfMethod;
 import org.fuin.objects4j.common.HasPublicStaticValueOfMethodValidator;
-import org.fuin.utils4j.jandex.JandexIndexFileReader.Builder;
 import org.fuin.utils4j.jandex.JandexUtils;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.concurrent.ThreadSafe;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Registry that is built up by scanning for classes that are annotated with:
@@ -33,19 +60,39 @@ import java.util.function.Function;
  * <li>{@link HasPublicStaticValueOfMethod} (with String parameter)</li>
  * <li>{@link HasEntityTypeConstant}</li>
  * </ul>
- * and implementing {@link EntityId}.
+ * and implementing {@link EntityId}. The static methods are called without reflection. The scan is done on first use and the classes directories (or JAR files) are indexed in parallel.
+ * The methods of an identifier class are only looked up when the type is used the first time. Optionally the result of the scan (type
+ * name and class name) is stored in a cache file together with a checksum of the scanned locations. As long as the checksum does not
+ * change, the cache file is used instead of scanning again.
  */
+@ThreadSafe
 public final class JandexEntityIdFactory implements EntityIdFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(JandexEntityIdFactory.class);
 
+    private static final String CHECKSUM_KEY = "checksum";
+
+    private static final String TYPE_PREFIX = "type.";
+
+    private static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+    private static final MethodType VALUE_OF_TYPE = MethodType.methodType(EntityId.class, String.class);
+
+    private static final MethodType VALUE_OF_ERASED_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType IS_VALID_TYPE = MethodType.methodType(boolean.class, String.class);
+
+    private static final MethodType IS_VALID_ERASED_TYPE = MethodType.methodType(boolean.class, Object.class);
+
     private final List<File> classesDirs;
 
-    private final Map<String, Function<String, EntityId>> valueOfMap;
+    private final File cacheFile;
+
+    private final Map<String, TypeFactory> factories;
 
-    private final Map<String, Function<String, Boolean>> isValidMap;
+    private volatile Map<String, String> classNames;
 
-    private final List<Class<?>> idClasses;
+    private volatile List<Class<?>> idClasses;
 
     /**
      * Default constructor.
@@ -60,38 +107,44 @@ public final class JandexEntityIdFactory implements EntityIdFactory {
      * @param classesDirs Directories with class files.
      */
     public JandexEntityIdFactory(final File... classesDirs) {
+        this(null, Arrays.asList(classesDirs));
+    }
+
+    /**
+     * Constructor with cache file and locations to scan.
+     *
+     * @param cacheFile   File used to store the result of the scan or {@literal null} to always scan.
+     * @param classesDirs Directories with class files or JAR files.
+     */
+    public JandexEntityIdFactory(@Nullable final File cacheFile, @NotNull final List<File> classesDirs) {
         super();
-        this.classesDirs = Arrays.asList(classesDirs);
-        valueOfMap = new HashMap<>();
-        isValidMap = new HashMap<>();
-        idClasses = scanForEntityIdClasses();
-        for (final Class<?> entityIdClass : idClasses) {
-            valueOfMap.put(typeConstant(entityIdClass).asString(), valueOfMethod(entityIdClass));
-            isValidMap.put(typeConstant(entityIdClass).asString(), isValidMethod(entityIdClass));
-        }
+        Contract.requireArgNotNull("classesDirs", classesDirs);
+        this.classesDirs = List.copyOf(classesDirs);
+        this.cacheFile = cacheFile;
+        this.factories = new ConcurrentHashMap<>();
     }
 
     @Override
     public EntityId createEntityId(final String type, final String id) {
-        final Function<String, EntityId> factory = valueOfMap.get(type);
+        final TypeFactory factory = factory(type);
         if (factory == null) {
             throw new IllegalArgumentException("Unknown type: " + type + " (Known types are: " + getIdClasses() + ")");
         }
-        return factory.apply(id);
+        return factory.valueOf().apply(id);
     }
 
     @Override
     public boolean containsType(final String type) {
-        return valueOfMap.containsKey(type);
+        return type != null && classNames().containsKey(type);
     }
 
     @Override
     public boolean isValid(String type, String id) {
-        final Function<String, Boolean> func = isValidMap.get(type);
-        if (func == null) {
+        final TypeFactory factory = factory(type);
+        if (factory == null) {
             return false;
         }
-        return func.apply(id);
+        return factory.isValid().test(id);
     }
 
     /**
@@ -100,21 +153,100 @@ public final class JandexEntityIdFactory implements EntityIdFactory {
      * @return Entity ID classes.
      */
     public List<Class<?>> getIdClasses() {
-        return Collections.unmodifiableList(idClasses);
+        List<Class<?>> classes = idClasses;
+        if (classes == null) {
+            final List<Class<?>> list = new ArrayList<>();
+            for (final String className : classNames().values()) {
+                list.add(JandexUtils.loadClass(DotName.createSimple(className)));
+            }
+            classes = Collections.unmodifiableList(list);
+            idClasses = classes;
+        }
+        return classes;
+    }
+
+    public EntityType typeConstant(Class<?> entityIdClass) {
+        final HasEntityTypeConstant annotation = entityIdClass.getAnnotation(HasEntityTypeConstant.class);
+        return HasEntityTypeConstantValidator.extractValue(entityIdClass, annotation.value());
+    }
+
+    private TypeFactory factory(final String type) {
+        if (type == null) {
+            return null;
+        }
+        final TypeFactory factory = factories.get(type);
+        if (factory != null) {
+            return factory;
+        }
+        final String className = classNames().get(type);
+        if (className == null) {
+            return null;
+        }
+        return factories.computeIfAbsent(type, t -> {
+            final Class<?> entityIdClass = JandexUtils.loadClass(DotName.createSimple(className));
+            return new TypeFactory(valueOfMethod(entityIdClass), isValidMethod(entityIdClass));
+        });
+    }
+
+    private Map<String, String> classNames() {
+        Map<String, String> map = classNames;
+        if (map == null) {
+            synchronized (this) {
+                map = classNames;
+                if (map == null) {
+                    map = Collections.unmodifiableMap(load());
+                    classNames = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    private Map<String, String> load() {
+        if (cacheFile == null) {
+            return scan();
+        }
+        final String checksum = checksum();
+        final Map<String, String> cached = readCache(checksum);
+        if (cached != null) {
+            LOG.debug("Using {} cached {} classes from: {}", cached.size(), EntityId.class.getSimpleName(), cacheFile);
+            return cached;
+        }
+        final Map<String, String> scanned = scan();
+        writeCache(checksum, scanned);
+        return scanned;
+    }
+
+    private Map<String, String> scan() {
+        final List<Class<?>> classes = scanForEntityIdClasses();
+        final Map<String, String> map = new HashMap<>();
+        for (final Class<?> entityIdClass : classes) {
+            map.put(typeConstant(entityIdClass).asString(), entityIdClass.getName());
+        }
+        idClasses = Collections.unmodifiableList(classes);
+        return map;
     }
 
     private List<Class<?>> scanForEntityIdClasses() {
         final List<IndexView> indexes = new ArrayList<>();
-        indexes.add(new Builder().addDefaultResource().build().loadR());
-        indexes.add(indexClassesDirs());
+        for (final URL resource : indexResources()) {
+            try (final InputStream in = resource.openStream()) {
+                indexes.add(new IndexReader(in).read());
+            } catch (final IOException ex) {
+                throw new UncheckedIOException("Failed to read Jandex index: " + resource, ex);
+            }
+        }
+        indexes.addAll(classesDirs.parallelStream().map(JandexEntityIdFactory::indexLocation).toList());
         return findEntityIdClasses(CompositeIndex.create(indexes));
     }
 
-    private IndexView indexClassesDirs() {
+    private static IndexView indexLocation(final File location) {
         final Indexer indexer = new Indexer();
         final List<File> knownClassFiles = new ArrayList<>();
-        for (final File classesDir : classesDirs) {
-            JandexUtils.indexDir(indexer, knownClassFiles, classesDir);
+        if (location.isFile()) {
+            JandexUtils.indexJar(indexer, knownClassFiles, location);
+        } else {
+            JandexUtils.indexDir(indexer, knownClassFiles, location);
         }
         return indexer.complete();
     }
@@ -152,19 +284,180 @@ public final class JandexEntityIdFactory implements EntityIdFactory {
         return classes;
     }
 
-    public EntityType typeConstant(Class<?> entityIdClass) {
-        final HasEntityTypeConstant annotation = entityIdClass.getAnnotation(HasEntityTypeConstant.class);
-        return HasEntityTypeConstantValidator.extractValue(entityIdClass, annotation.value());
+    /**
+     * Returns the Jandex index files on the class path. The same class loader is used for scanning and for the checksum, so the cache
+     * always describes the indexes that were actually read.
+     */
+    private static List<URL> indexResources() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JandexEntityIdFactory.class.getClassLoader();
+        }
+        try {
+            return Collections.list(classLoader.getResources(JANDEX_INDEX));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to locate resources: " + JANDEX_INDEX, ex);
+        }
+    }
+
+    /**
+     * Creates a checksum from name, size and modification time of all scanned files and from the content of the Jandex index files on
+     * the class path.
+     */
+    private String checksum() {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final URL resource : indexResources()) {
+                update(digest, resource.toExternalForm());
+                try (final InputStream in = resource.openStream()) {
+                    final byte[] buf = new byte[8192];
+                    int count;
+                    while ((count = in.read(buf)) != -1) {
+                        digest.update(buf, 0, count);
+                    }
+                }
+                digest.update((byte) 0);
+            }
+            for (final File location : classesDirs) {
+                final Path root = location.toPath().toAbsolutePath();
+                update(digest, root.toString());
+                if (Files.exists(root)) {
+                    try (final Stream<Path> paths = Files.walk(root)) {
+                        for (final Path path : paths.sorted().toList()) {
+                            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            if (attributes.isRegularFile()) {
+                                update(digest, root.relativize(path) + ":" + attributes.size() + ":"
+                                        + attributes.lastModifiedTime().toMillis());
+                            }
+                        }
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to calculate checksum of: " + classesDirs, ex);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String str) {
+        digest.update(str.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private Map<String, String> readCache(final String checksum) {
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        final Properties props = new Properties();
+        try (final InputStream in = Files.newInputStream(cacheFile.toPath())) {
+            props.load(in);
+        } catch (final IOException ex) {
+            LOG.warn("Failed to read cache file: {}", cacheFile, ex);
+            return null;
+        }
+        if (!checksum.equals(props.getProperty(CHECKSUM_KEY))) {
+            LOG.debug("Cache file is outdated: {}", cacheFile);
+            return null;
+        }
+        final Map<String, String> map = new HashMap<>();
+        for (final String key : props.stringPropertyNames()) {
+            if (key.startsWith(TYPE_PREFIX)) {
+                map.put(key.substring(TYPE_PREFIX.length()), props.getProperty(key));
+            }
+        }
+        return map;
+    }
+
+    private void writeCache(final String checksum, final Map<String, String> map) {
+        final Properties props = new Properties();
+        props.setProperty(CHECKSUM_KEY, checksum);
+        for (final Map.Entry<String, String> entry : map.entrySet()) {
+            props.setProperty(TYPE_PREFIX + entry.getKey(), entry.getValue());
+        }
+        try {
+            final Path target = cacheFile.toPath().toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (final OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, EntityId.class.getSimpleName() + " classes found by " + JandexEntityIdFactory.class.getSimpleName());
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            LOG.warn("Failed to write cache file: {}", cacheFile, ex);
+        }
     }
 
-    private Function<String, Boolean> isValidMethod(Class<?> entityIdClass) {
+    private static Predicate<String> isValidMethod(Class<?> entityIdClass) {
         final HasPublicStaticIsValidMethod annotation = entityIdClass.getAnnotation(HasPublicStaticIsValidMethod.class);
-        return HasPublicStaticIsValidMethodValidator.findFunction(entityIdClass, annotation.method(), annotation.param());
+        final Method method = HasPublicStaticIsValidMethodValidator.findMethod(entityIdClass, annotation.method(), annotation.param());
+        final Predicate<String> predicate = lambda(method, Predicate.class, "test", IS_VALID_ERASED_TYPE, IS_VALID_TYPE);
+        if (predicate != null) {
+            return predicate;
+        }
+        final MethodHandle handle = methodHandle(method, IS_VALID_TYPE);
+        return id -> {
+            try {
+                return (boolean) handle.invokeExact(id);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) { // NOSONAR The method may throw anything
+                throw new IllegalStateException("Failed to call: " + method, ex);
+            }
+        };
     }
 
-    private Function<String, EntityId> valueOfMethod(Class<?> entityIdClass) {
+    private static Function<String, EntityId> valueOfMethod(Class<?> entityIdClass) {
         final HasPublicStaticValueOfMethod annotation = entityIdClass.getAnnotation(HasPublicStaticValueOfMethod.class);
-        return HasPublicStaticValueOfMethodValidator.findFunction(entityIdClass, annotation.method(), annotation.param());
+        final Method method = HasPublicStaticValueOfMethodValidator.findMethod(entityIdClass, annotation.method(), annotation.param());
+        final Function<String, EntityId> function = lambda(method, Function.class, "apply", VALUE_OF_ERASED_TYPE, VALUE_OF_TYPE);
+        if (function != null) {
+            return function;
+        }
+        final MethodHandle handle = methodHandle(method, VALUE_OF_TYPE);
+        return id -> {
+            try {
+                return (EntityId) handle.invokeExact(id);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) { // NOSONAR The method may throw anything
+                throw new IllegalStateException("Failed to call: " + method, ex);
+            }
+        };
+    }
+
+    /**
+     * Creates an implementation of a functional interface that directly calls the given static method. This is as fast as a hand written
+     * lambda, but requires full access to the class that declares the method. If that is not possible (for example because the package
+     * is not opened for this module), <code>null</code> is returned and a method handle has to be used instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T lambda(final Method method, final Class<?> functionalInterface, final String name, final MethodType erasedType,
+            final MethodType instantiatedType) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(functionalInterface), erasedType,
+                    lookup.unreflect(method), instantiatedType);
+            return (T) callSite.getTarget().invoke();
+        } catch (final Throwable ex) { // NOSONAR Fall back to a method handle in any case
+            LOG.debug("Using method handle for: {} ({})", method, ex.toString());
+            return null;
+        }
+    }
+
+    private static MethodHandle methodHandle(final Method method, final MethodType type) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to create method handle for: " + method, ex);
+        }
+    }
+
+    /**
+     * Functions to create and verify an identifier of one type.
+     */
+    private record TypeFactory(Function<String, EntityId> valueOf, Predicate<String> isValid) {
     }
 
 }
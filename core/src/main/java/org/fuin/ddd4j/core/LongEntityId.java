@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+import org.fuin.objects4j.common.ValueObjectWithBaseType;
+
+import java.io.Serial;
+
+/**
+ * Long based entity identifier for entities with a high number of instances. The identifier is stored as primitive and
+ * {@link #longValue()} returns it without boxing.
+ */
+public abstract class LongEntityId implements EntityId, Comparable<LongEntityId>, ValueObjectWithBaseType<Long> {
+
+    @Serial
+    private static final long serialVersionUID = 1000L;
+
+    private final EntityType entityType;
+
+    private final long id;
+
+    /** Lazily calculated hash code - Zero means not calculated yet. */
+    private transient int hash;
+
+    /** Lazily created typed string. */
+    private transient String typedString;
+
+    /**
+     * Constructor with Long.
+     *
+     * @param entityType
+     *            Entity type.
+     * @param id
+     *            Long.
+     */
+    public LongEntityId(@NotNull final EntityType entityType, @NotNull final Long id) {
+        super();
+        Contract.requireArgNotNull("entityType", entityType);
+        Contract.requireArgNotNull("id", id);
+        this.entityType = entityType;
+        this.id = id;
+    }
+
+    /**
+     * Constructor with primitive long.
+     *
+     * @param entityType
+     *            Entity type.
+     * @param id
+     *            Long.
+     */
+    public LongEntityId(@NotNull final EntityType entityType, final long id) {
+        super();
+        Contract.requireArgNotNull("entityType", entityType);
+        this.entityType = entityType;
+        this.id = id;
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = calculateHashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + entityType.asString().hashCode();
+        result = prime * result + Long.hashCode(id);
+        return result;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (!(obj instanceof LongEntityId other)) {
+            return false;
+        }
+        if (id != other.id) {
+            return false;
+        }
+        return Ddd4JUtils.sameType(entityType, other.entityType);
+    }
+
+    @Override
+    public final int compareTo(final LongEntityId other) {
+        if (entityType != other.entityType) {
+            final int c = entityType.asString().compareTo(other.entityType.asString());
+            if (c != 0) {
+                return c;
+            }
+        }
+        return Long.compare(id, other.id);
+    }
+
+    @Override
+    public final String toString() {
+        return Long.toString(id);
+    }
+
+    @Override
+    public final String asString() {
+        return toString();
+    }
+
+    @Override
+    public final String asTypedString() {
+        String str = typedString;
+        if (str == null) {
+            str = entityType + " " + id;
+            typedString = str;
+        }
+        return str;
+    }
+
+    @Override
+    public final EntityType getType() {
+        return entityType;
+    }
+
+    @Override
+    public final Class<Long> getBaseType() {
+        return Long.class;
+    }
+
+    @Override
+    public final Long asBaseType() {
+        return id;
+    }
+
+    /**
+     * Returns the identifier as primitive.
+     *
+     * @return Identifier without boxing it.
+     */
+    public final long longValue() {
+        return id;
+    }
+
+}
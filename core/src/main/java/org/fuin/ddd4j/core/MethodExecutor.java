@@ -22,8 +22,12 @@ import org.fuin.objects4j.common.Contract;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -160,6 +164,36 @@ public final class MethodExecutor {
         }
     }
 
+    /**
+     * Creates a method handle for the given method that is adapted to the given type. A static method will ignore the first argument
+     * (target object) of the type.
+     *
+     * @param method
+     *            Method to create a handle for.
+     * @param type
+     *            Type the handle should be adapted to. The first parameter is the target object.
+     *
+     * @return Method handle with the given type.
+     */
+    public final MethodHandle unreflect(@NotNull final Method method, @NotNull final MethodType type) {
+
+        Contract.requireArgNotNull("method", method);
+        Contract.requireArgNotNull("type", type);
+
+        try {
+            if (!method.trySetAccessible()) {
+                throw new IllegalStateException("Method is not accessible: " + method);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, type.parameterType(0));
+            }
+            return handle.asType(type);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to create method handle for: " + method, ex);
+        }
+    }
+
     private String createInvokeErrMsg(final Object target, final Method method, final Object... args) {
         if ((args == null) || (args.length == 0)) {
             return "Failed to call method '" + method + "' on '" + target.getClass().getSimpleName();
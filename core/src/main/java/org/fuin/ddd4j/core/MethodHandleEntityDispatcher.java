@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import javax.annotation.concurrent.Immutable;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Dispatcher that uses the cached method handles of the {@link ApplyEvent} and {@link ChildEntityLocator} annotated methods. Used for
+ * all entity classes that have no generated dispatcher.
+ */
+@Immutable
+final class MethodHandleEntityDispatcher implements EntityDispatcher {
+
+    private final Class<?> entityClass;
+
+    private final EventHandlerTable eventHandlers;
+
+    private final ChildEntityLocatorTable childEntityLocators;
+
+    /**
+     * Constructor with entity class.
+     *
+     * @param entityClass
+     *            Entity class to dispatch to.
+     */
+    MethodHandleEntityDispatcher(final Class<?> entityClass) {
+        super();
+        this.entityClass = entityClass;
+        this.eventHandlers = EventHandlerTable.of(entityClass);
+        this.childEntityLocators = ChildEntityLocatorTable.of(entityClass);
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public boolean applyEvent(final Entity<?> entity, final DomainEvent<?> event) {
+        return eventHandlers.apply(entity, event);
+    }
+
+    @Override
+    public boolean hasChildEntityLocator(final Class<?> idClass) {
+        return childEntityLocators.find(idClass) != null;
+    }
+
+    @Override
+    public Entity<?> locateChild(final Entity<?> entity, final EntityId childId) {
+        final MethodHandle locator = childEntityLocators.find(childId.getClass());
+        if (locator == null) {
+            throw new IllegalArgumentException("No method annotated with @" + ChildEntityLocator.class.getSimpleName() + " and argument '"
+                    + childId.getClass().getName() + "' found in '" + entityClass.getName() + "'");
+        }
+        try {
+            return (Entity<?>) (Object) locator.invokeExact((Object) entity, (Object) childId);
+        } catch (final Throwable ex) { // NOSONAR The locator may throw anything
+            throw new RuntimeException(
+                    "Failed to locate child entity '" + childId.asTypedString() + "' in '" + entityClass.getSimpleName() + "'", ex);
+        }
+    }
+
+}
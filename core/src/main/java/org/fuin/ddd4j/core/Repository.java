@@ -19,6 +19,11 @@ package org.fuin.ddd4j.core;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Repository that supports CRUD operations for an aggregate.
@@ -94,6 +99,32 @@ public interface Repository<ID extends AggregateRootId, T extends AggregateRoot<
     T read(@NotNull ID id, int version)
             throws AggregateNotFoundException, AggregateDeletedException, AggregateVersionNotFoundException;
 
+    /**
+     * Reads the latest version of multiple aggregates. An aggregate that was not found or was deleted does not stop reading the others, but
+     * is reported in the {@link BulkReadResult#getFailures() failures}. The default implementation reads one aggregate after the other.
+     *
+     * @param ids
+     *            Unique aggregate identifiers. Duplicates are read only once.
+     *
+     * @return Aggregates and failures by identifier in the order of the given identifiers.
+     */
+    @NotNull
+    default BulkReadResult<ID, T> readAll(@NotNull final Collection<ID> ids) {
+        Contract.requireArgNotNull("ids", ids);
+        final Map<ID, T> aggregates = new LinkedHashMap<>();
+        final Map<ID, AbstractAggregateException> failures = new LinkedHashMap<>();
+        for (final ID id : ids) {
+            if (!aggregates.containsKey(id) && !failures.containsKey(id)) {
+                try {
+                    aggregates.put(id, read(id));
+                } catch (final AggregateNotFoundException | AggregateDeletedException ex) {
+                    failures.put(id, ex);
+                }
+            }
+        }
+        return new BulkReadResult<>(aggregates, failures);
+    }
+
     /**
      * Saves the changes on an aggregate in the repository including some metadata.
      *
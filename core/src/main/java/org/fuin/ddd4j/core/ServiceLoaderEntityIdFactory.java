@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entity identifier factory that combines all {@link EntityIdFactory} implementations registered as service provider. The annotation
+ * processor generates and registers such a factory for every entity identifier class, so no class path scanning or reflection is required
+ * at startup. The providers are loaded once in the constructor and the factory responsible for a type is determined on first use.
+ */
+@ThreadSafe
+public final class ServiceLoaderEntityIdFactory implements EntityIdFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceLoaderEntityIdFactory.class);
+
+    private final List<EntityIdFactory> factories;
+
+    private final Map<String, EntityIdFactory> factoryByType;
+
+    /**
+     * Default constructor using the class loader of this class.
+     */
+    public ServiceLoaderEntityIdFactory() {
+        this(ServiceLoaderEntityIdFactory.class.getClassLoader());
+    }
+
+    /**
+     * Constructor with class loader.
+     *
+     * @param classLoader
+     *            Class loader used to locate the service providers.
+     */
+    public ServiceLoaderEntityIdFactory(@NotNull final ClassLoader classLoader) {
+        super();
+        Contract.requireArgNotNull("classLoader", classLoader);
+        final List<EntityIdFactory> list = new ArrayList<>();
+        for (final EntityIdFactory factory : ServiceLoader.load(EntityIdFactory.class, classLoader)) {
+            LOG.debug("Found entity identifier factory: {}", factory.getClass().getName());
+            list.add(factory);
+        }
+        this.factories = Collections.unmodifiableList(list);
+        this.factoryByType = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean containsType(final String type) {
+        return factory(type) != null;
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        final EntityIdFactory factory = factory(type);
+        if (factory == null) {
+            return false;
+        }
+        return factory.isValid(type, id);
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        final EntityIdFactory factory = factory(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown type: " + type);
+        }
+        return factory.createEntityId(type, id);
+    }
+
+    /**
+     * Returns the number of service providers found.
+     *
+     * @return Number of factories combined by this instance.
+     */
+    public int size() {
+        return factories.size();
+    }
+
+    private EntityIdFactory factory(final String type) {
+        if (type == null) {
+            return null;
+        }
+        final EntityIdFactory cached = factoryByType.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        for (final EntityIdFactory factory : factories) {
+            if (factory.containsType(type)) {
+                factoryByType.put(type, factory);
+                return factory;
+            }
+        }
+        return null;
+    }
+
+}
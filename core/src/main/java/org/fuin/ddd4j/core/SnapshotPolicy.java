@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import java.time.Duration;
+
+/**
+ * Decides when a snapshot of an aggregate is taken. A repository asks the policy after an aggregate was read from the event store and
+ * after new events were stored.
+ */
+@FunctionalInterface
+public interface SnapshotPolicy {
+
+    /**
+     * Determines if a snapshot of the aggregate should be taken.
+     *
+     * @param previousVersion
+     *            Version before the events were read or stored. This is the version of the snapshot or cached aggregate the replay started
+     *            with, the version before the update or <code>-1</code> for a new aggregate.
+     * @param version
+     *            Current version of the aggregate.
+     * @param replayDuration
+     *            Time it took to replay the events from the event store. Always {@link Duration#ZERO} after an update.
+     *
+     * @return TRUE if a snapshot should be taken.
+     */
+    boolean isSnapshotRequired(int previousVersion, int version, @NotNull Duration replayDuration);
+
+    /**
+     * Combines this policy with another one.
+     *
+     * @param other
+     *            Other policy.
+     *
+     * @return Policy that requires a snapshot if one of the two policies does.
+     */
+    @NotNull
+    default SnapshotPolicy or(@NotNull final SnapshotPolicy other) {
+        Contract.requireArgNotNull("other", other);
+        return (previousVersion, version, replayDuration) -> isSnapshotRequired(previousVersion, version, replayDuration)
+                || other.isSnapshotRequired(previousVersion, version, replayDuration);
+    }
+
+    /**
+     * Returns a policy that never takes a snapshot.
+     *
+     * @return Policy.
+     */
+    @NotNull
+    static SnapshotPolicy never() {
+        return (previousVersion, version, replayDuration) -> false;
+    }
+
+    /**
+     * Returns a policy that takes a snapshot every time the number of events of the aggregate reaches or passes a multiple of the given
+     * number. The number of events is the version plus one.
+     *
+     * @param count
+     *            Number of events between two snapshots.
+     *
+     * @return Policy.
+     */
+    @NotNull
+    static SnapshotPolicy everyEvents(final int count) {
+        Contract.requireArgMin("count", count, 1);
+        return (previousVersion, version, replayDuration) -> (previousVersion + 1) / count != (version + 1) / count;
+    }
+
+    /**
+     * Returns a policy that takes a snapshot if replaying the events took longer than the given time.
+     *
+     * @param budget
+     *            Maximum time replaying the events should take.
+     *
+     * @return Policy.
+     */
+    @NotNull
+    static SnapshotPolicy replayExceeds(@NotNull final Duration budget) {
+        Contract.requireArgNotNull("budget", budget);
+        return (previousVersion, version, replayDuration) -> replayDuration.compareTo(budget) > 0;
+    }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Stores snapshots of aggregates of the same type. A snapshot is the complete state of an aggregate in a given version, so only the
+ * events after that version need to be replayed when the aggregate is read.
+ *
+ * @param <AGGREGATE>
+ *            Type of the aggregate.
+ */
+public interface SnapshotStore<AGGREGATE extends AggregateRoot<?>> {
+
+    /**
+     * Returns the newest snapshot of an aggregate that is not newer than the given version.
+     *
+     * @param aggregateId
+     *            Aggregate to load.
+     * @param maxVersion
+     *            Maximum version of the snapshot or {@link Integer#MAX_VALUE} for the newest one.
+     *
+     * @return New aggregate instance with a version less than or equal to the requested one or <code>null</code> if there is no such
+     *         snapshot.
+     */
+    AGGREGATE load(@NotNull AggregateRootId aggregateId, int maxVersion);
+
+    /**
+     * Stores a snapshot of the aggregate in its current version. The state of the aggregate is captured before the method returns, as the
+     * aggregate may change afterwards. Persisting the captured state may happen asynchronously.
+     *
+     * @param aggregate
+     *            Aggregate without uncommitted changes.
+     */
+    void save(@NotNull AGGREGATE aggregate);
+
+    /**
+     * Removes all snapshots of the aggregate with the given identifier.
+     *
+     * @param aggregateId
+     *            Aggregate to remove the snapshots for.
+     */
+    void remove(@NotNull AggregateRootId aggregateId);
+
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates time ordered UUIDs (Version 7 as defined in RFC 9562): The first 48 bits contain the milliseconds since the epoch and the
+ * remaining 74 (non version and variant) bits are random. Identifiers created in different milliseconds are ordered by time, which
+ * gives a better index locality when storing events. By default, the random bits are taken from {@link ThreadLocalRandom}, so there is
+ * no contention between threads as with {@link UUID#randomUUID()} that uses a shared <code>SecureRandom</code>. The source of the
+ * random numbers can be replaced, for example with <code>() -&gt; secureRandom</code> if cryptographically strong identifiers are
+ * required.
+ */
+@ThreadSafe
+public final class TimeOrderedEventIdGenerator implements EventIdGenerator {
+
+    private static final long VERSION = 0x7000L;
+
+    private static final long VARIANT = 0x8000000000000000L;
+
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+
+    private final Supplier<? extends RandomGenerator> randomSource;
+
+    /**
+     * Default constructor using the system clock and {@link ThreadLocalRandom}.
+     */
+    public TimeOrderedEventIdGenerator() {
+        this(Clock.systemUTC(), ThreadLocalRandom::current);
+    }
+
+    /**
+     * Constructor with source of the random numbers.
+     *
+     * @param randomSource
+     *            Returns the random number generator to use for the current thread. Must be thread safe.
+     */
+    public TimeOrderedEventIdGenerator(@NotNull final Supplier<? extends RandomGenerator> randomSource) {
+        this(Clock.systemUTC(), randomSource);
+    }
+
+    /**
+     * Constructor with all data.
+     *
+     * @param clock
+     *            Clock that provides the time stamp.
+     * @param randomSource
+     *            Returns the random number generator to use for the current thread. Must be thread safe.
+     */
+    public TimeOrderedEventIdGenerator(@NotNull final Clock clock, @NotNull final Supplier<? extends RandomGenerator> randomSource) {
+        super();
+        Contract.requireArgNotNull("clock", clock);
+        Contract.requireArgNotNull("randomSource", randomSource);
+        this.clock = clock;
+        this.randomSource = randomSource;
+    }
+
+    @Override
+    public UUID generate() {
+        final RandomGenerator random = randomSource.get();
+        final long msb = (clock.millis() << 16) | VERSION | (random.nextInt() & 0x0FFF);
+        final long lsb = (random.nextLong() & VARIANT_MASK) | VARIANT;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Returns the time stamp of a time ordered UUID.
+     *
+     * @param uuid
+     *            Version 7 UUID.
+     *
+     * @return Milliseconds since the epoch.
+     */
+    public static long timestamp(@NotNull final UUID uuid) {
+        Contract.requireArgNotNull("uuid", uuid);
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Expected a version 7 UUID, but was: " + uuid.version());
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+}
@@ -20,6 +20,8 @@ package org.fuin.ddd4j.core;
 import org.fuin.ddd4j.coretest.ACreatedEvent;
 import org.fuin.ddd4j.coretest.AId;
 import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.AbstractDomainEvent;
+import org.fuin.ddd4j.coretest.BAddedEvent;
 import org.fuin.ddd4j.coretest.BId;
 import org.fuin.ddd4j.coretest.CAddedEvent;
 import org.fuin.ddd4j.coretest.CEntity;
@@ -27,6 +29,10 @@ import org.fuin.ddd4j.coretest.CId;
 import org.fuin.ddd4j.coretest.DEvent;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AbstractAggregateRootTest {
@@ -292,4 +298,121 @@ public class AbstractAggregateRootTest {
 
     }
 
+    @Test
+    public void testLoadFromHistoryIterator() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot();
+        final List<DomainEvent<?>> history = List.of(new ACreatedEvent(aid), new BAddedEvent(aid, new BId(2)));
+
+        // TEST
+        a.loadFromHistory(history.iterator());
+
+        // VERIFY
+        assertThat(a.getVersion()).isEqualTo(1);
+        assertThat(a.getFirstChild().getId()).isEqualTo(new BId(2));
+        assertThat(a.getUncommittedChanges()).isEmpty();
+
+    }
+
+    @Test
+    public void testLoadFromHistoryStream() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot();
+        final Stream<AbstractDomainEvent<?>> history = Stream.of(new ACreatedEvent(aid), new BAddedEvent(aid, new BId(2)),
+                new BAddedEvent(aid, new BId(3)));
+
+        // TEST
+        a.loadFromHistory(history);
+
+        // VERIFY
+        assertThat(a.getVersion()).isEqualTo(2);
+        assertThat(a.getLastEvent()).isInstanceOf(BAddedEvent.class);
+        assertThat(a.getUncommittedChanges()).isEmpty();
+
+    }
+
+    @Test
+    public void testLoadFromHistoryIgnoredEvents() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final IgnoringRoot a = new IgnoringRoot();
+
+        // TEST
+        a.loadFromHistory(new ACreatedEvent(aid), new BAddedEvent(aid, new BId(2)), new BAddedEvent(aid, new BId(3)));
+
+        // VERIFY
+        assertThat(a.getId()).isEqualTo(aid);
+        assertThat(a.getVersion()).isEqualTo(2);
+        assertThat(a.getUncommittedChanges()).isEmpty();
+        assertThat(a.ignoredEventsCalls).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testGetIgnoredEventClasses() {
+
+        // PREPARE
+        final IgnoringRoot a = new IgnoringRoot();
+
+        // TEST
+        a.loadFromHistory(new ACreatedEvent(new AId(1)));
+        final Set<Class<? extends DomainEvent<?>>> ignored = a.getIgnoredEventClasses();
+
+        // VERIFY
+        assertThat(ignored).containsExactly(BAddedEvent.class);
+        assertThat(new ARoot().getIgnoredEventClasses()).isEmpty();
+        assertThat(a.ignoredEventsCalls).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testSkipHistory() {
+
+        // PREPARE
+        final ARoot a = new ARoot();
+        a.loadFromHistory(new ACreatedEvent(new AId(1)));
+
+        // TEST
+        a.skipHistory(3);
+
+        // VERIFY
+        assertThat(a.getVersion()).isEqualTo(3);
+        assertThat(a.getNextApplyVersion()).isEqualTo(AggregateVersion.valueOf(4));
+
+    }
+
+    private static final class IgnoringRoot extends AbstractAggregateRoot<AId> {
+
+        private AId id;
+
+        private int ignoredEventsCalls;
+
+        @Override
+        public AId getId() {
+            return id;
+        }
+
+        @Override
+        public EntityType getType() {
+            return AId.TYPE;
+        }
+
+        @Override
+        protected Set<Class<? extends DomainEvent<?>>> getIgnoredEvents() {
+            ignoredEventsCalls++;
+            return Set.of(BAddedEvent.class);
+        }
+
+        @ApplyEvent
+        public void applyEvent(final ACreatedEvent event) {
+            this.id = event.getId();
+        }
+
+    }
+
 }
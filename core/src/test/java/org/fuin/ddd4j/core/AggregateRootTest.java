@@ -0,0 +1,125 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.ACreatedEvent;
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.BAddedEvent;
+import org.fuin.ddd4j.coretest.BId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the default methods of the {@link AggregateRoot} interface.
+ */
+public class AggregateRootTest {
+
+    @Test
+    public void testLoadFromHistoryIterator() {
+
+        // PREPARE
+        final ListOnlyRoot testee = new ListOnlyRoot();
+        final ACreatedEvent created = new ACreatedEvent(new AId(1));
+        final BAddedEvent added = new BAddedEvent(new AId(1), new BId(2));
+
+        // TEST
+        testee.loadFromHistory(List.of(created, added).iterator());
+        testee.loadFromHistory((Iterator<DomainEvent<?>>) null);
+
+        // VERIFY
+        assertThat(testee.calls).containsExactly(List.of(created), List.of(added));
+
+    }
+
+    @Test
+    public void testLoadFromHistoryStream() {
+
+        // PREPARE
+        final ListOnlyRoot testee = new ListOnlyRoot();
+        final ACreatedEvent created = new ACreatedEvent(new AId(1));
+        final BAddedEvent added = new BAddedEvent(new AId(1), new BId(2));
+
+        // TEST
+        testee.loadFromHistory(Stream.of(created, added));
+        testee.loadFromHistory((Stream<DomainEvent<?>>) null);
+
+        // VERIFY
+        assertThat(testee.calls).containsExactly(List.of(created), List.of(added));
+
+    }
+
+    @Test
+    public void testGetIgnoredEventClasses() {
+        assertThat(new ListOnlyRoot().getIgnoredEventClasses()).isEmpty();
+    }
+
+    /**
+     * Aggregate that only implements the abstract methods of the interface and records the lists it was loaded with.
+     */
+    private static final class ListOnlyRoot implements AggregateRoot<AId> {
+
+        private final List<List<DomainEvent<?>>> calls = new ArrayList<>();
+
+        @Override
+        public EntityType getType() {
+            return AId.TYPE;
+        }
+
+        @Override
+        public AId getId() {
+            return new AId(1);
+        }
+
+        @Override
+        public List<DomainEvent<?>> getUncommittedChanges() {
+            return List.of();
+        }
+
+        @Override
+        public boolean hasUncommitedChanges() {
+            return false;
+        }
+
+        @Override
+        public void markChangesAsCommitted() {
+            // Not used
+        }
+
+        @Override
+        public int getVersion() {
+            return calls.size() - 1;
+        }
+
+        @Override
+        public int getNextVersion() {
+            return calls.size();
+        }
+
+        @Override
+        public AggregateVersion getNextApplyVersion() {
+            return new AggregateVersion(getNextVersion());
+        }
+
+        @Override
+        public void loadFromHistory(final DomainEvent<?>... history) {
+            loadFromHistory(Arrays.asList(history));
+        }
+
+        @Override
+        public void loadFromHistory(final List<DomainEvent<?>> history) {
+            calls.add(List.copyOf(history));
+        }
+
+        @Override
+        public void skipHistory(final int count) {
+            // Not used
+        }
+
+    }
+
+}
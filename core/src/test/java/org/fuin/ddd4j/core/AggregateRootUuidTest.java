@@ -19,6 +19,7 @@ package org.fuin.ddd4j.core;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.fuin.ddd4j.coretest.OrderId;
 import org.fuin.objects4j.common.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
@@ -34,9 +35,12 @@ public class AggregateRootUuidTest {
 
     @Test
     public void testEqualsHashCode() {
+        final AggregateRootUuid example = new OrderId(UUID.randomUUID());
         EqualsVerifier.forClass(AggregateRootUuid.class)
                 .withPrefabValues(EntityType.class, new StringBasedEntityType("A"), new StringBasedEntityType("B"))
-                .withPrefabValues(UUID.class, UUID.randomUUID(), UUID.randomUUID()).suppress(Warning.NULL_FIELDS).verify();
+                .withPrefabValues(UUID.class, UUID.randomUUID(), UUID.randomUUID())
+                .withCachedHashCode("hash", "calculateHashCode", example).withIgnoredFields("typedString")
+                .suppress(Warning.NULL_FIELDS).verify();
     }
 
     @Test
@@ -73,4 +77,12 @@ public class AggregateRootUuidTest {
 
     }
 
+    @Test
+    public void testAsTypedString() {
+        final UUID uuid = UUID.randomUUID();
+        final OrderId testee = new OrderId(uuid);
+        assertThat(testee.asTypedString()).isEqualTo("Order " + uuid);
+        assertThat(testee.asTypedString()).isSameAs(testee.asTypedString());
+    }
+
 }
@@ -18,13 +18,18 @@
 package org.fuin.ddd4j.core;
 
 import org.fuin.objects4j.common.ConstraintViolationException;
+import org.fuin.utils4j.Utils4J;
 import org.junit.jupiter.api.Test;
 
+import java.util.Base64;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class AggregateVersionTest {
 
+    private static final String OLD_FORM_OF_7 = "rO0ABXNyACRvcmcuZnVpbi5kZGQ0ai5jb3JlLkFnZ3JlZ2F0ZVZlcnNpb24AAAAAAAAD6AIAAUwABXZhbHVldAATTGphdmEvbGFuZy9JbnRlZ2VyO3hyADJvcmcuZnVpbi5vYmplY3RzNGouY29yZS5BYnN0cmFjdEludGVnZXJWYWx1ZU9iamVjdAAAAAAAAAPoAgAAeHBzcgARamF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZhbHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAABw==";
+
     @Test
     public void testCreateValid() {
 
@@ -107,4 +112,40 @@ public class AggregateVersionTest {
 
     }
 
+    @Test
+    public void testIsValidNoNumber() {
+        assertThat(AggregateVersion.isValid("")).isFalse();
+        assertThat(AggregateVersion.isValid("+")).isFalse();
+        assertThat(AggregateVersion.isValid("1a")).isFalse();
+        assertThat(AggregateVersion.isValid(" 1")).isFalse();
+        assertThat(AggregateVersion.isValid("+1")).isTrue();
+        assertThat(AggregateVersion.isValid("-0")).isTrue();
+        assertThat(AggregateVersion.isValid("" + (Integer.MAX_VALUE + 1L))).isFalse();
+    }
+
+    @Test
+    public void testValueOfShared() {
+        assertThat(AggregateVersion.valueOf(0)).isSameAs(AggregateVersion.valueOf(0));
+        assertThat(AggregateVersion.valueOf("1")).isSameAs(AggregateVersion.valueOf(Integer.valueOf(1)));
+        assertThat(AggregateVersion.valueOf(1023)).isSameAs(AggregateVersion.valueOf(1023));
+        assertThat(AggregateVersion.valueOf(1024)).isNotSameAs(AggregateVersion.valueOf(1024)).isEqualTo(AggregateVersion.valueOf(1024));
+        assertThat(AggregateVersion.valueOf(5).intValue()).isEqualTo(5);
+    }
+
+    @Test
+    public void testSerialize() {
+        final AggregateVersion small = AggregateVersion.valueOf(3);
+        final AggregateVersion large = AggregateVersion.valueOf(100000);
+        assertThat((AggregateVersion) Utils4J.deserialize(Utils4J.serialize(small))).isSameAs(small);
+        assertThat((AggregateVersion) Utils4J.deserialize(Utils4J.serialize(large))).isEqualTo(large);
+    }
+
+    @Test
+    public void testDeserializeIntegerBasedForm() {
+        // Serialized with the previous implementation that had an 'Integer' field
+        final byte[] data = Base64.getDecoder().decode(OLD_FORM_OF_7);
+        final AggregateVersion version = Utils4J.deserialize(data);
+        assertThat(version).isSameAs(AggregateVersion.valueOf(7));
+    }
+
 }
@@ -0,0 +1,226 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedAggregateCacheTest {
+
+    private static ARoot createRoot(final int id, final int version) throws Exception {
+        final ARoot root = new ARoot(new AId(id));
+        for (int i = 1; i <= version; i++) {
+            root.addB(new BId(i));
+        }
+        root.markChangesAsCommitted();
+        return root;
+    }
+
+    @Test
+    public void testGetVersionAware() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache<>();
+        final ARoot root = createRoot(1, 3);
+        testee.put(root.getId(), root);
+
+        // TEST & VERIFY
+        assertThat(testee.get(root.getId(), null)).isSameAs(root);
+        assertThat(testee.get(root.getId(), 3)).isSameAs(root);
+        assertThat(testee.get(root.getId(), 5)).isSameAs(root);
+        assertThat(testee.get(root.getId(), 2)).isNull();
+        assertThat(testee.get(new AId(2), null)).isNull();
+        assertThat(testee.getHitCount()).isEqualTo(3);
+        assertThat(testee.getMissCount()).isEqualTo(2);
+        assertThat(testee.getHitRate()).isEqualTo(0.6);
+
+    }
+
+    @Test
+    public void testPutKeepsNewerVersion() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache<>();
+        final ARoot newer = createRoot(1, 3);
+        final ARoot older = createRoot(1, 1);
+        final ARoot newest = createRoot(1, 4);
+
+        // TEST
+        testee.put(newer.getId(), newer);
+        testee.put(older.getId(), older);
+
+        // VERIFY
+        assertThat(testee.get(newer.getId(), null)).isSameAs(newer);
+
+        // TEST
+        testee.put(newest.getId(), newest);
+
+        // VERIFY
+        assertThat(testee.get(newer.getId(), null)).isSameAs(newest);
+        assertThat(testee.size()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testPutIgnoresUncommittedChanges() {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache<>();
+        final ARoot root = new ARoot(new AId(1));
+
+        // TEST
+        testee.put(root.getId(), root);
+
+        // VERIFY
+        assertThat(testee.size()).isZero();
+
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache.Builder<ARoot>().maximumSize(2).concurrencyLevel(1)
+                .build();
+        final ARoot root1 = createRoot(1, 0);
+        final ARoot root2 = createRoot(2, 0);
+        final ARoot root3 = createRoot(3, 0);
+        testee.put(root1.getId(), root1);
+        testee.put(root2.getId(), root2);
+        testee.get(root1.getId(), null);
+
+        // TEST
+        testee.put(root3.getId(), root3);
+
+        // VERIFY
+        assertThat(testee.get(root1.getId(), null)).isSameAs(root1);
+        assertThat(testee.get(root2.getId(), null)).isNull();
+        assertThat(testee.get(root3.getId(), null)).isSameAs(root3);
+        assertThat(testee.getEvictionCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testVersionWeigher() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache.Builder<ARoot>()
+                .maximumWeight(10, BoundedAggregateCache.versionWeigher()).concurrencyLevel(1).build();
+        final ARoot root1 = createRoot(1, 4);
+        final ARoot root2 = createRoot(2, 4);
+        final ARoot root3 = createRoot(3, 0);
+        final ARoot tooHeavy = createRoot(4, 10);
+
+        // TEST
+        testee.put(root1.getId(), root1);
+        testee.put(root2.getId(), root2);
+        testee.put(root3.getId(), root3);
+        testee.put(tooHeavy.getId(), tooHeavy);
+
+        // VERIFY
+        assertThat(testee.weight()).isEqualTo(6);
+        assertThat(testee.get(root1.getId(), null)).isNull();
+        assertThat(testee.get(root2.getId(), null)).isSameAs(root2);
+        assertThat(testee.get(root3.getId(), null)).isSameAs(root3);
+        assertThat(testee.get(tooHeavy.getId(), null)).isNull();
+
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws Exception {
+
+        // PREPARE
+        final AtomicLong time = new AtomicLong();
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache.Builder<ARoot>()
+                .expireAfterAccess(Duration.ofNanos(100)).ticker(time::get).build();
+        final ARoot root = createRoot(1, 0);
+        testee.put(root.getId(), root);
+
+        // TEST & VERIFY
+        time.set(99);
+        assertThat(testee.get(root.getId(), null)).isSameAs(root);
+        time.set(198);
+        assertThat(testee.get(root.getId(), null)).isSameAs(root);
+        time.set(298);
+        assertThat(testee.get(root.getId(), null)).isNull();
+        assertThat(testee.size()).isZero();
+        assertThat(testee.getEvictionCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testRemoveAndClear() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache<>(10);
+        final ARoot root1 = createRoot(1, 0);
+        final ARoot root2 = createRoot(2, 0);
+        testee.put(root1.getId(), root1);
+        testee.put(root2.getId(), root2);
+
+        // TEST
+        testee.remove(root1.getId());
+
+        // VERIFY
+        assertThat(testee.get(root1.getId(), null)).isNull();
+        assertThat(testee.size()).isEqualTo(1);
+
+        // TEST
+        testee.clear();
+
+        // VERIFY
+        assertThat(testee.size()).isZero();
+        assertThat(testee.weight()).isZero();
+
+    }
+
+    @Test
+    public void testConcurrentAccessToSameAggregate() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> testee = new BoundedAggregateCache<>(100);
+        final List<ARoot> versions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            versions.add(createRoot(1, i));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+
+            // TEST
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final ARoot root = versions.get(i % versions.size());
+                        testee.put(root.getId(), root);
+                        final ARoot cached = testee.get(root.getId(), root.getVersion());
+                        assertThat(cached == null || cached.getVersion() <= root.getVersion()).isTrue();
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+        // VERIFY
+        assertThat(testee.size()).isEqualTo(1);
+        assertThat(testee.get(new AId(1), null).getVersion()).isEqualTo(19);
+        assertThat(testee.weight()).isEqualTo(1);
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkReadResultTest {
+
+    @Test
+    public void testGetters() throws Exception {
+
+        // PREPARE
+        final AId id1 = new AId(1);
+        final AId id2 = new AId(2);
+        final ARoot root = new ARoot(id1);
+        root.markChangesAsCommitted();
+        final AggregateNotFoundException notFound = new AggregateNotFoundException(AId.TYPE, id2);
+        final Map<AId, ARoot> aggregates = new LinkedHashMap<>();
+        aggregates.put(id1, root);
+
+        // TEST
+        final BulkReadResult<AId, ARoot> testee = new BulkReadResult<>(aggregates, Map.of(id2, notFound));
+        aggregates.clear();
+
+        // VERIFY
+        assertThat(testee.getAggregates()).containsOnlyKeys(id1);
+        assertThat(testee.getAggregate(id1)).isSameAs(root);
+        assertThat(testee.getAggregate(id2)).isNull();
+        assertThat(testee.getFailures()).containsOnlyKeys(id2);
+        assertThat(testee.getFailure(id2)).isSameAs(notFound);
+        assertThat(testee.getFailure(id1)).isNull();
+        assertThat(testee.isSuccessful()).isFalse();
+        assertThat(new BulkReadResult<AId, ARoot>(Map.of(id1, root), Map.of()).isSuccessful()).isTrue();
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.VendorId;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CanonicalEntityIdFactoryTest {
+
+    private static final JandexEntityIdFactory DELEGATE = new JandexEntityIdFactory(new File("target/test-classes"));
+
+    @Test
+    void testCreateEntityIdReturnsSameInstance() {
+
+        // PREPARE
+        final CanonicalEntityIdFactory testee = new CanonicalEntityIdFactory(DELEGATE);
+        final String uuid = UUID.randomUUID().toString();
+
+        // TEST
+        final EntityId first = testee.createEntityId(VendorId.TYPE.asString(), uuid);
+        final EntityId second = testee.createEntityId(VendorId.TYPE.asString(), uuid);
+
+        // VERIFY
+        assertThat(first).isInstanceOf(VendorId.class);
+        assertThat(first.asString()).isEqualTo(uuid);
+        assertThat(second).isSameAs(first);
+        assertThat(testee.size()).isEqualTo(1);
+
+    }
+
+    @Test
+    void testCreateEntityIdDifferentIds() {
+
+        // PREPARE
+        final CanonicalEntityIdFactory testee = new CanonicalEntityIdFactory(DELEGATE);
+
+        // TEST
+        final EntityId a1 = testee.createEntityId(AId.TYPE.asString(), "1");
+        final EntityId a2 = testee.createEntityId(AId.TYPE.asString(), "2");
+
+        // VERIFY
+        assertThat(a1).isEqualTo(new AId(1));
+        assertThat(a2).isEqualTo(new AId(2));
+        assertThat(testee.size()).isEqualTo(2);
+
+    }
+
+    @Test
+    void testPathsShareIdentifiers() {
+
+        // PREPARE
+        final CanonicalEntityIdFactory testee = new CanonicalEntityIdFactory(DELEGATE);
+        final String str = VendorId.TYPE.asString() + " " + UUID.randomUUID();
+
+        // TEST
+        final EntityIdPath path1 = EntityIdPath.valueOf(testee, str);
+        final EntityIdPath path2 = EntityIdPath.valueOf(testee, str);
+
+        // VERIFY
+        assertThat((EntityId) path2.first()).isSameAs(path1.first());
+
+    }
+
+    @Test
+    void testDelegates() {
+
+        // PREPARE
+        final CanonicalEntityIdFactory testee = new CanonicalEntityIdFactory(DELEGATE);
+
+        // TEST & VERIFY
+        assertThat(testee.containsType(AId.TYPE.asString())).isTrue();
+        assertThat(testee.containsType("WHATEVER")).isFalse();
+        assertThat(testee.isValid(VendorId.TYPE.asString(), "123")).isFalse();
+        assertThat(testee.isValid(VendorId.TYPE.asString(), UUID.randomUUID().toString())).isTrue();
+        assertThatThrownBy(() -> testee.createEntityId("WHATEVER", "1")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.size()).isZero();
+
+    }
+
+}
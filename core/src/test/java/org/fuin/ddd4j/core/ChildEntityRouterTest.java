@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BId;
+import org.fuin.ddd4j.coretest.CEvent;
+import org.fuin.ddd4j.coretest.CId;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChildEntityRouterTest {
+
+    @Test
+    public void testLocateChild() throws DuplicateEntityException {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        final BId bid = new BId(2);
+        a.addB(bid);
+
+        // TEST
+        final Entity<?> found = ChildEntityRouter.locate(a, new EntityIdPath(aid, bid));
+
+        // VERIFY
+        assertThat(found).isSameAs(a.getFirstChild());
+
+    }
+
+    @Test
+    public void testLocateSubChild() throws DuplicateEntityException, EntityNotFoundException {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        final BId bid = new BId(2);
+        final CId cid = new CId(3);
+        a.addB(bid);
+        a.addC(bid, cid);
+
+        // TEST (Twice to use the already created route)
+        final Entity<?> found1 = ChildEntityRouter.locate(a, new EntityIdPath(aid, bid, cid));
+        final Entity<?> found2 = ChildEntityRouter.locate(a, new EntityIdPath(aid, bid, cid));
+
+        // VERIFY
+        assertThat(found1).isSameAs(a.getFirstChild().getFirstChild());
+        assertThat(found2).isSameAs(found1);
+
+    }
+
+    @Test
+    public void testLocateUnknownChild() throws DuplicateEntityException {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        a.addB(new BId(2));
+        final EntityIdPath path = new EntityIdPath(aid, new BId(3), new CId(4));
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> ChildEntityRouter.locate(a, path))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Child entity 'B 3' not found in '" + ARoot.class.getName() + "' (segment 2 of path 'A 1/B 3/C 4')");
+
+    }
+
+    @Test
+    public void testLocateWithoutLocator() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        final EntityIdPath path = new EntityIdPath(aid, new CId(3));
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> ChildEntityRouter.locate(a, path))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No method annotated with @ChildEntityLocator and argument '" + CId.class.getName() + "' found in '"
+                        + ARoot.class.getName() + "' (segment 2 of path 'A 1/C 3')");
+
+    }
+
+    @Test
+    public void testLoadFromHistoryFailsFastOnUnresolvablePath() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        a.markChangesAsCommitted();
+        final CEvent event = new CEvent(aid, new BId(2), new CId(3));
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> a.loadFromHistory(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Child entity 'B 2' not found");
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.ACreatedEvent;
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BAddedEvent;
+import org.fuin.ddd4j.coretest.BId;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CopyingAggregateCacheTest {
+
+    private static ARoot createRoot(final int version) throws Exception {
+        final ARoot root = new ARoot(new AId(1));
+        for (int i = 1; i <= version; i++) {
+            root.addB(new BId(i));
+        }
+        root.markChangesAsCommitted();
+        return root;
+    }
+
+    @Test
+    public void testGetReturnsIndependentCopies() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> masters = new BoundedAggregateCache<>();
+        final CopyingAggregateCache<ARoot> testee = new CopyingAggregateCache<>(masters);
+        final ARoot root = createRoot(2);
+        testee.put(root.getId(), root);
+
+        // TEST
+        final ARoot copy1 = testee.get(root.getId(), null);
+        final ARoot copy2 = testee.get(root.getId(), 2);
+        copy1.addB(new BId(3));
+
+        // VERIFY
+        assertThat(copy1).isNotSameAs(root).isNotSameAs(copy2);
+        assertThat(copy1.getVersion()).isEqualTo(2);
+        assertThat(copy1.hasUncommitedChanges()).isTrue();
+        assertThat(copy2.hasUncommitedChanges()).isFalse();
+        assertThat(copy2.getFirstChild().getId()).isEqualTo(new BId(1));
+        assertThat(masters.get(root.getId(), null).hasUncommitedChanges()).isFalse();
+        assertThat(testee.get(root.getId(), 1)).isNull();
+
+    }
+
+    @Test
+    public void testPutStoresCopy() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<ARoot> masters = new BoundedAggregateCache<>();
+        final CopyingAggregateCache<ARoot> testee = new CopyingAggregateCache<>(masters);
+        final ARoot root = createRoot(0);
+
+        // TEST
+        testee.put(root.getId(), root);
+        root.addB(new BId(1));
+
+        // VERIFY
+        assertThat(masters.get(root.getId(), null)).isNotSameAs(root);
+        assertThat(masters.get(root.getId(), null).hasUncommitedChanges()).isFalse();
+
+        // TEST
+        testee.put(root.getId(), root);
+        testee.remove(root.getId());
+
+        // VERIFY
+        assertThat(testee.get(root.getId(), null)).isNull();
+
+    }
+
+    @Test
+    public void testCopyWithoutSerialization() throws Exception {
+
+        // PREPARE
+        final BoundedAggregateCache<PlainRoot> masters = new BoundedAggregateCache<>();
+        final CopyingAggregateCache<PlainRoot> testee = new CopyingAggregateCache<>(masters);
+        PlainRoot.copies = 0;
+        final PlainRoot root = new PlainRoot(new Object());
+        root.loadFromHistory(new ACreatedEvent(new AId(1)), new BAddedEvent(new AId(1), new BId(2)));
+
+        // TEST
+        testee.put(root.getId(), root);
+        final PlainRoot copy = testee.get(root.getId(), null);
+
+        // VERIFY
+        assertThat(root).isNotInstanceOf(Serializable.class);
+        assertThat(copy).isNotSameAs(root);
+        assertThat(copy.getId()).isEqualTo(root.getId());
+        assertThat(copy.getVersion()).isEqualTo(1);
+        assertThat(copy.resource).isSameAs(root.resource);
+        assertThat(PlainRoot.copies).isEqualTo(2);
+
+    }
+
+    @Test
+    public void testCopyNotSupported() {
+
+        // PREPARE
+        final CopyingAggregateCache<AbstractAggregateRoot<AId>> testee = new CopyingAggregateCache<>(new BoundedAggregateCache<>());
+        final AbstractAggregateRoot<AId> root = new AbstractAggregateRoot<>() {
+            @Override
+            public AId getId() {
+                return new AId(1);
+            }
+
+            @Override
+            public EntityType getType() {
+                return AId.TYPE;
+            }
+        };
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> testee.put(root.getId(), root)).isInstanceOf(UnsupportedOperationException.class);
+
+    }
+
+    /**
+     * Aggregate that is not serializable and references an object that could not be serialized.
+     */
+    private static final class PlainRoot extends AbstractAggregateRoot<AId> {
+
+        private static int copies;
+
+        private final Object resource;
+
+        private AId id;
+
+        PlainRoot(final Object resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public AId getId() {
+            return id;
+        }
+
+        @Override
+        public EntityType getType() {
+            return AId.TYPE;
+        }
+
+        @ApplyEvent
+        public void applyEvent(final ACreatedEvent event) {
+            this.id = event.getId();
+        }
+
+        @ApplyEvent
+        public void applyEvent(final BAddedEvent event) {
+            // Not used
+        }
+
+        @Override
+        protected PlainRoot copy() {
+            copies++;
+            final PlainRoot copy = new PlainRoot(resource);
+            copy.id = id;
+            return copy;
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,5 +30,57 @@ public class Ddd4JUtilsTest {
 
     }
 
+    @Test
+    public void testParseUuid() {
+
+        // PREPARE
+        final UUID uuid = UUID.randomUUID();
+
+        // TEST & VERIFY
+        assertThat(Ddd4JUtils.parseUuid(uuid.toString())).isEqualTo(uuid);
+        assertThat(Ddd4JUtils.parseUuid(uuid.toString().toUpperCase())).isEqualTo(uuid);
+        assertThat(Ddd4JUtils.parseUuid("00000000-0000-0000-0000-000000000000")).isEqualTo(new UUID(0, 0));
+        assertThat(Ddd4JUtils.parseUuid("ffffffff-ffff-ffff-ffff-ffffffffffff")).isEqualTo(new UUID(-1, -1));
+        assertThat(Ddd4JUtils.parseUuid("0123456789AB-cdef-0123-4567-89abcdef")).isNull();
+        assertThat(Ddd4JUtils.parseUuid(null)).isNull();
+
+    }
+
+    @Test
+    public void testParseUuidSameAsFromString() {
+        for (int i = 0; i < 100; i++) {
+            final String str = UUID.randomUUID().toString();
+            assertThat(Ddd4JUtils.parseUuid(str)).isEqualTo(UUID.fromString(str));
+        }
+    }
+
+    @Test
+    public void testIsUuid() {
+
+        assertThat(Ddd4JUtils.isUuid("17d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6a")).isTrue();
+        assertThat(Ddd4JUtils.isUuid("17D0B2E4-1A3F-4D8E-9C1B-0F2E3D4C5B6A")).isTrue();
+
+        assertThat(Ddd4JUtils.isUuid(null)).isFalse();
+        assertThat(Ddd4JUtils.isUuid("")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("1-1-1-1-1")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("{7d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6}")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("17d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6g")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("g7d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6a")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("17d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6\u00e4")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("17d0b2e4x1a3f-4d8e-9c1b-0f2e3d4c5b6a")).isFalse();
+        assertThat(Ddd4JUtils.isUuid("17d0b2e4-1a3f-4d8e-9c1b-0f2e3d4c5b6a0")).isFalse();
+
+    }
+
+    @Test
+    public void testSameType() {
+
+        final EntityType type = new StringBasedEntityType("Vendor");
+
+        assertThat(Ddd4JUtils.sameType(type, type)).isTrue();
+        assertThat(Ddd4JUtils.sameType(type, new StringBasedEntityType("Vendor"))).isTrue();
+        assertThat(Ddd4JUtils.sameType(type, new StringBasedEntityType("Person"))).isFalse();
+
+    }
 
 }
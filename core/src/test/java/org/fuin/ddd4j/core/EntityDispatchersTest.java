@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BEntity;
+import org.fuin.ddd4j.coretest.BId;
+import org.fuin.ddd4j.coretest.CEntity;
+import org.fuin.ddd4j.coretest.CEntity_EntityDispatcher;
+import org.fuin.ddd4j.coretest.CId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EntityDispatchersTest {
+
+    @Test
+    public void testGeneratedDispatcher() {
+
+        // TEST
+        final EntityDispatcher dispatcher = EntityDispatchers.of(CEntity.class);
+
+        // VERIFY
+        assertThat(dispatcher).isInstanceOf(CEntity_EntityDispatcher.class);
+        assertThat(EntityDispatchers.of(CEntity.class)).isSameAs(dispatcher);
+
+    }
+
+    @Test
+    public void testMethodHandleDispatcher() throws DuplicateEntityException {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot(aid);
+        final BId bid = new BId(2);
+        a.addB(bid);
+
+        // TEST
+        final EntityDispatcher dispatcher = EntityDispatchers.of(ARoot.class);
+
+        // VERIFY
+        assertThat(dispatcher).isInstanceOf(MethodHandleEntityDispatcher.class);
+        assertThat(dispatcher.getEntityClass()).isEqualTo(ARoot.class);
+        assertThat(dispatcher.hasChildEntityLocator(BId.class)).isTrue();
+        assertThat(dispatcher.hasChildEntityLocator(CId.class)).isFalse();
+        assertThat(dispatcher.locateChild(a, bid)).isSameAs(a.getFirstChild());
+        assertThat(dispatcher.locateChild(a, new BId(3))).isNull();
+        assertThatThrownBy(() -> dispatcher.locateChild(a, new CId(3))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(EntityDispatchers.of(BEntity.class)).isInstanceOf(MethodHandleEntityDispatcher.class);
+
+    }
+
+    @Test
+    public void testBrokenProviderIsSkipped(@TempDir final Path dir) throws Exception {
+
+        // PREPARE
+        final Path services = dir.resolve("META-INF/services");
+        Files.createDirectories(services);
+        Files.writeString(services.resolve(EntityDispatcher.class.getName()), "org.fuin.ddd4j.coretest.DoesNotExist_EntityDispatcher\n");
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader())) {
+
+            // TEST
+            final Map<String, ServiceLoader.Provider<EntityDispatcher>> providers = EntityDispatchers.loadProviders(classLoader);
+
+            // VERIFY
+            assertThat(providers).containsKey(CEntity_EntityDispatcher.class.getName());
+            assertThat(providers).doesNotContainKey("org.fuin.ddd4j.coretest.DoesNotExist_EntityDispatcher");
+
+        }
+
+    }
+
+}
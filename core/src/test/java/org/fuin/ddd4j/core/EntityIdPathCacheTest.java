@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.BId;
+import org.fuin.objects4j.common.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EntityIdPathCacheTest {
+
+    @Test
+    public void testValueOfReturnsCachedInstance() {
+
+        // PREPARE
+        final CountingIdFactory factory = new CountingIdFactory();
+        final EntityIdPathCache testee = new EntityIdPathCache(factory);
+
+        // TEST
+        final EntityIdPath first = testee.valueOf("A 1/B 2");
+        final EntityIdPath second = testee.valueOf("A 1/B 2");
+
+        // VERIFY
+        assertThat(first).isEqualTo(new EntityIdPath(new AId(1L), new BId(2L)));
+        assertThat(second).isSameAs(first);
+        assertThat(factory.count).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(1);
+        assertThat(testee.valueOf(null)).isNull();
+
+    }
+
+    @Test
+    public void testMaxSize() {
+
+        // PREPARE
+        final EntityIdPathCache testee = new EntityIdPathCache(new CountingIdFactory(), 2);
+
+        // TEST
+        testee.valueOf("A 1");
+        testee.valueOf("A 2");
+        final EntityIdPath path = testee.valueOf("A 3");
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(3L)));
+        assertThat(testee.size()).isEqualTo(2);
+        assertThat(testee.getMaxSize()).isEqualTo(2);
+
+    }
+
+    @Test
+    public void testClear() {
+
+        // PREPARE
+        final EntityIdPathCache testee = new EntityIdPathCache(new CountingIdFactory());
+        testee.valueOf("A 1");
+
+        // TEST
+        testee.clear();
+
+        // VERIFY
+        assertThat(testee.size()).isZero();
+
+    }
+
+    @Test
+    public void testInvalid() {
+
+        // PREPARE
+        final EntityIdPathCache testee = new EntityIdPathCache(new CountingIdFactory());
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> testee.valueOf("/")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EntityIdPathCache(new CountingIdFactory(), 0))
+                .isInstanceOf(ConstraintViolationException.class);
+        assertThat(testee.size()).isZero();
+
+    }
+
+    private static final class CountingIdFactory implements EntityIdFactory {
+
+        private int count;
+
+        @Override
+        public EntityId createEntityId(final String type, final String id) {
+            count++;
+            if (type.equals("A")) {
+                return new AId(Long.parseLong(id));
+            }
+            if (type.equals("B")) {
+                return new BId(Long.parseLong(id));
+            }
+            throw new IllegalArgumentException("Unknown type: '" + type + "'");
+        }
+
+        @Override
+        public boolean containsType(final String type) {
+            return type.equals("A") || type.equals("B");
+        }
+
+        @Override
+        public boolean isValid(final String type, final String id) {
+            return containsType(type);
+        }
+
+    }
+
+}
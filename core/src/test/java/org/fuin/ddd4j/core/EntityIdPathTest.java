@@ -24,11 +24,15 @@ import org.fuin.objects4j.common.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.fuin.utils4j.Utils4J.deserialize;
+import static org.fuin.utils4j.Utils4J.serialize;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class EntityIdPathTest {
@@ -376,6 +380,55 @@ public class EntityIdPathTest {
 
     }
 
+    @Test
+    public void testValueOfSkipsEmptySegments() {
+
+        // PREPARE
+        final EntityIdFactory factory = new MyIdFactory();
+
+        // TEST
+        final EntityIdPath path = EntityIdPath.valueOf(factory, "/A 1//B 2/");
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(1L), new BId(2L)));
+        assertThat(path.size()).isEqualTo(2);
+        assertThat(EntityIdPath.isValid(factory, "/A 1//B 2/")).isTrue();
+
+    }
+
+    @Test
+    public void testValueOfInvalid() {
+
+        // PREPARE
+        final EntityIdFactory factory = new MyIdFactory();
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> EntityIdPath.valueOf(factory, "//")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid entity path: '//'");
+        assertThatThrownBy(() -> EntityIdPath.valueOf(factory, "A 1/B2")).isInstanceOf(ConstraintViolationException.class);
+        assertThat(EntityIdPath.isValid(factory, "//")).isFalse();
+        assertThat(EntityIdPath.isValid(factory, "A 1/B2")).isFalse();
+        assertThat(EntityIdPath.isValid(factory, "A1/B 2")).isFalse();
+
+    }
+
+    @Test
+    public void testValueOfManySegments() {
+
+        // PREPARE
+        final EntityIdFactory factory = new MyIdFactory();
+        final String str = "A 1/B 2/C 3/B 4/C 5/B 6";
+
+        // TEST
+        final EntityIdPath path = EntityIdPath.valueOf(factory, str);
+
+        // VERIFY
+        assertThat(path.size()).isEqualTo(6);
+        assertThat(path.asString()).isEqualTo(str);
+        assertThat((EntityId) path.last()).isEqualTo(new BId(6L));
+
+    }
+
     private void assertValues(EntityId entityId, Class<?> typeClass, String type, long id) {
         assertThat(entityId).isInstanceOf(typeClass);
         assertThat(entityId.getType().asString()).isEqualTo(type);
@@ -435,4 +488,89 @@ public class EntityIdPathTest {
 
     }
 
+    @Test
+    public void testIteratorIsReadOnly() {
+
+        // PREPARE
+        final EntityIdPath testee = new EntityIdPath(new AId(1L), new BId(2L), new CId(3L)).rest();
+
+        // TEST
+        final Iterator<EntityId> it = testee.iterator();
+
+        // VERIFY
+        assertThat(it.next()).isEqualTo(new BId(2L));
+        assertThatThrownBy(it::remove).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(it.next()).isEqualTo(new CId(3L));
+        assertThat(it.hasNext()).isFalse();
+        assertThatThrownBy(it::next).isInstanceOf(NoSuchElementException.class);
+        assertThat(testee.size()).isEqualTo(2);
+
+    }
+
+    @Test
+    public void testConstructorArrayIsCopied() {
+
+        // PREPARE
+        final EntityId[] ids = new EntityId[] { new AId(1L), new BId(2L) };
+        final EntityIdPath testee = new EntityIdPath(ids);
+
+        // TEST
+        ids[1] = new CId(3L);
+
+        // VERIFY
+        assertThat(testee.asString()).isEqualTo("A 1/B 2");
+
+    }
+
+    @Test
+    public void testViewsEqualNewInstances() {
+
+        // PREPARE
+        final EntityIdPath testee = new EntityIdPath(new AId(1L), new BId(2L), new CId(3L));
+
+        // TEST
+        final EntityIdPath middle = testee.rest().parent();
+
+        // VERIFY
+        assertThat(middle).isEqualTo(new EntityIdPath(new BId(2L)));
+        assertThat(middle.hashCode()).isEqualTo(new EntityIdPath(new BId(2L)).hashCode());
+        assertThat(middle.asString()).isEqualTo("B 2");
+        assertThat(middle.asString()).isSameAs(middle.asString());
+
+    }
+
+    @Test
+    public void testSerializeDeserializeView() {
+
+        // PREPARE
+        final EntityIdPath original = new EntityIdPath(new AId(1L), new BId(2L), new CId(3L)).rest();
+
+        // TEST
+        final EntityIdPath copy = deserialize(serialize(original));
+
+        // VERIFY
+        assertThat(copy).isEqualTo(original);
+        assertThat(copy.size()).isEqualTo(2);
+        assertThat((EntityId) copy.first()).isEqualTo(new BId(2L));
+
+    }
+
+    @Test
+    public void testDeserializeListBasedForm() {
+
+        // PREPARE (Serialized "A 1/B 2" created with the former list based implementation)
+        final byte[] data = Base64.getDecoder().decode("rO0ABXNyACBvcmcuZnVpbi5kZGQ0ai5jb3JlLkVudGl0eUlkUGF0aAAAAAAAAAPoAgABTAAJZW50aXR5SWRz"
+                + "dAAQTGphdmEvdXRpbC9MaXN0O3hyADFvcmcuZnVpbi5vYmplY3RzNGouY29yZS5BYnN0cmFjdFN0cmluZ1ZhbHVlT2JqZWN0AAAAAAAAA+gCAAB4cHNyABNq"
+                + "YXZhLnV0aWwuQXJyYXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAAAAACdwQAAAACc3IAG29yZy5mdWluLmRkZDRqLmNvcmV0ZXN0LkFJZAAAAAAAAAABAgAB"
+                + "SgACaWR4cAAAAAAAAAABc3IAG29yZy5mdWluLmRkZDRqLmNvcmV0ZXN0LkJJZAAAAAAAAAABAgABSgACaWR4cAAAAAAAAAACeA==");
+
+        // TEST
+        final EntityIdPath copy = deserialize(data);
+
+        // VERIFY
+        assertThat(copy).isEqualTo(new EntityIdPath(new AId(1L), new BId(2L)));
+        assertThat((EntityIdPath) deserialize(serialize(copy))).isEqualTo(copy);
+
+    }
+
 }
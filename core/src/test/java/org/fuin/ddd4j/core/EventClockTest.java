@@ -0,0 +1,43 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.objects4j.common.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventClockTest {
+
+    @Test
+    public void testSetClock() {
+
+        // PREPARE
+        final Clock original = EventClock.getClock();
+        final Instant instant = Instant.parse("2016-09-18T08:38:08.123Z");
+        final ZoneId zone = ZoneId.of("Europe/Berlin");
+        try {
+
+            // TEST
+            EventClock.setClock(Clock.fixed(instant, zone));
+
+            // VERIFY
+            assertThat(EventClock.instant()).isEqualTo(instant);
+            assertThat(EventClock.now().toInstant()).isEqualTo(instant);
+            assertThat(EventClock.now().getZone()).isEqualTo(zone);
+
+        } finally {
+            EventClock.setClock(original);
+        }
+
+    }
+
+    @Test
+    public void testSetClockNull() {
+        assertThatThrownBy(() -> EventClock.setClock(null)).isInstanceOf(ConstraintViolationException.class);
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.ACreatedEvent;
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BAddedEvent;
+import org.fuin.ddd4j.coretest.BEntity;
+import org.fuin.ddd4j.coretest.BId;
+import org.fuin.ddd4j.coretest.CAddedEvent;
+import org.fuin.ddd4j.coretest.CId;
+import org.fuin.ddd4j.coretest.CEvent;
+import org.fuin.ddd4j.coretest.DEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventHandlerTableTest {
+
+    @Test
+    public void testOfReturnsSameInstance() {
+        assertThat(EventHandlerTable.of(ARoot.class)).isSameAs(EventHandlerTable.of(ARoot.class));
+        assertThat(EventHandlerTable.of(ARoot.class)).isNotSameAs(EventHandlerTable.of(BEntity.class));
+    }
+
+    @Test
+    public void testHasHandler() {
+
+        // PREPARE
+        final EventHandlerTable testee = EventHandlerTable.of(ARoot.class);
+
+        // TEST & VERIFY
+        assertThat(testee.hasHandler(ACreatedEvent.class)).isTrue();
+        assertThat(testee.hasHandler(DEvent.class)).isTrue();
+        assertThat(testee.hasHandler(CAddedEvent.class)).isFalse();
+        assertThat(testee.hasHandler(CEvent.class)).isFalse();
+
+    }
+
+    @Test
+    public void testApply() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot();
+        final ACreatedEvent event = new ACreatedEvent(aid);
+
+        // TEST
+        final boolean applied = EventHandlerTable.of(ARoot.class).apply(a, event);
+
+        // VERIFY
+        assertThat(applied).isTrue();
+        assertThat(a.getLastEvent()).isSameAs(event);
+        assertThat(a.getId()).isSameAs(aid);
+
+    }
+
+    @Test
+    public void testApplyBaseClassHandler() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot();
+        final DEvent event = new DEvent(aid);
+
+        // TEST
+        final boolean applied = EventHandlerTable.of(ARoot.class).apply(a, event);
+
+        // VERIFY
+        assertThat(applied).isTrue();
+        assertThat(a.getStored()).isSameAs(event);
+
+    }
+
+    @Test
+    public void testApplyUnknownEvent() {
+
+        // PREPARE
+        final ARoot a = new ARoot();
+
+        // TEST
+        final boolean applied = EventHandlerTable.of(ARoot.class).apply(a, new CEvent(new AId(1), new BId(2), new CId(3)));
+
+        // VERIFY
+        assertThat(applied).isFalse();
+        assertThat(a.getLastEvent()).isNull();
+
+    }
+
+    @Test
+    public void testApplyHandlerFails() {
+
+        // PREPARE
+        final AId aid = new AId(1);
+        final ARoot a = new ARoot();
+        final BAddedEvent event = new BAddedEvent(aid, new BId(2));
+
+        // TEST & VERIFY (Child list is only initialized by the created event)
+        assertThatThrownBy(() -> EventHandlerTable.of(ARoot.class).apply(a, event))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(NullPointerException.class)
+                .hasMessageContaining(BAddedEvent.class.getName());
+
+    }
+
+}
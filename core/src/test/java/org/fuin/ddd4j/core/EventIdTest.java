@@ -25,4 +25,31 @@ public class EventIdTest {
         assertThat(EventId.valueOf(idStr)).isEqualTo(new EventId(UUID.fromString(idStr)));
     }
 
+    @Test
+    void testDefaultConstructorUsesTimeOrderedGenerator() {
+        assertThat(EventId.getGenerator()).isInstanceOf(TimeOrderedEventIdGenerator.class);
+        assertThat(new EventId().asBaseType().version()).isEqualTo(7);
+    }
+
+    @Test
+    void testSetGenerator() {
+
+        // PREPARE
+        final EventIdGenerator original = EventId.getGenerator();
+        final UUID id = UUID.randomUUID();
+
+        try {
+
+            // TEST
+            EventId.setGenerator(() -> id);
+
+            // VERIFY
+            assertThat(new EventId().asBaseType()).isEqualTo(id);
+
+        } finally {
+            EventId.setGenerator(original);
+        }
+
+    }
+
 }
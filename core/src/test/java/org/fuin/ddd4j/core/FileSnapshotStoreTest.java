@@ -0,0 +1,157 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.ARoot;
+import org.fuin.ddd4j.coretest.BId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static ARoot createRoot(final AId id, final int version) throws Exception {
+        final ARoot root = new ARoot(id);
+        for (int i = 1; i <= version; i++) {
+            root.addB(new BId(i));
+        }
+        root.markChangesAsCommitted();
+        return root;
+    }
+
+    @Test
+    public void testSaveLoad() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final AId id = new AId(1);
+        final ARoot root = createRoot(id, 2);
+
+        // TEST
+        testee.save(root);
+        final ARoot copy = testee.load(id, Integer.MAX_VALUE);
+
+        // VERIFY
+        assertThat(copy).isNotSameAs(root);
+        assertThat(copy.getId()).isEqualTo(id);
+        assertThat(copy.getVersion()).isEqualTo(2);
+        assertThat(copy.getFirstChild().getId()).isEqualTo(new BId(1));
+        assertThat(copy.hasUncommitedChanges()).isFalse();
+
+    }
+
+    @Test
+    public void testLoadNewestAtOrBelowVersion() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final AId id = new AId(1);
+        testee.save(createRoot(id, 2));
+        testee.save(createRoot(id, 5));
+
+        // TEST & VERIFY
+        assertThat(testee.load(id, Integer.MAX_VALUE).getVersion()).isEqualTo(5);
+        assertThat(testee.load(id, 5).getVersion()).isEqualTo(5);
+        assertThat(testee.load(id, 4).getVersion()).isEqualTo(2);
+        assertThat(testee.load(id, 1)).isNull();
+        assertThat(testee.load(new AId(2), Integer.MAX_VALUE)).isNull();
+
+    }
+
+    @Test
+    public void testKeepsOnlyNewest() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 2, Runnable::run);
+        final AId id = new AId(1);
+
+        // TEST
+        testee.save(createRoot(id, 1));
+        testee.save(createRoot(id, 2));
+        testee.save(createRoot(id, 3));
+
+        // VERIFY
+        assertThat(testee.load(id, 1)).isNull();
+        assertThat(testee.load(id, 2).getVersion()).isEqualTo(2);
+        assertThat(testee.load(id, 3).getVersion()).isEqualTo(3);
+
+    }
+
+    @Test
+    public void testIgnoresUnreadableSnapshot() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final AId id = new AId(1);
+        testee.save(createRoot(id, 1));
+        testee.save(createRoot(id, 2));
+        try (final var files = Files.list(dir)) {
+            final Path aggregateDir = files.findFirst().orElseThrow();
+            Files.write(aggregateDir.resolve("2.snapshot"), new byte[] { 1, 2, 3 });
+        }
+
+        // TEST & VERIFY
+        assertThat(testee.load(id, Integer.MAX_VALUE).getVersion()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final AId id = new AId(1);
+        testee.save(createRoot(id, 1));
+
+        // TEST
+        testee.remove(id);
+
+        // VERIFY
+        assertThat(testee.load(id, Integer.MAX_VALUE)).isNull();
+        testee.remove(id);
+
+    }
+
+    @Test
+    public void testSaveUncommittedChanges() throws Exception {
+
+        // PREPARE
+        final FileSnapshotStore<ARoot> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final ARoot root = new ARoot(new AId(1));
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> testee.save(root)).isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    @Test
+    public void testSaveNotSerializable() {
+
+        // PREPARE
+        final FileSnapshotStore<AbstractAggregateRoot<AId>> testee = new FileSnapshotStore<>(dir, 3, Runnable::run);
+        final AbstractAggregateRoot<AId> root = new AbstractAggregateRoot<>() {
+            @Override
+            public AId getId() {
+                return new AId(1);
+            }
+
+            @Override
+            public EntityType getType() {
+                return AId.TYPE;
+            }
+        };
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> testee.save(root)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not serializable");
+
+    }
+
+}
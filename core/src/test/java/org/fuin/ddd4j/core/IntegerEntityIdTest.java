@@ -19,10 +19,12 @@ package org.fuin.ddd4j.core;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.fuin.utils4j.Utils4J;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serial;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 
@@ -33,11 +35,14 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class IntegerEntityIdTest {
 
+    private static final String OLD_FORM_OF_7 = "rO0ABXNyAC5vcmcuZnVpbi5kZGQ0ai5jb3JlLkludGVnZXJFbnRpdHlJZFRlc3QkVGVzdElkAAAAAAAAAAECAAB4cgAjb3JnLmZ1aW4uZGRkNGouY29yZS5JbnRlZ2VyRW50aXR5SWQAAAAAAAAD6AIAAkwACmVudGl0eVR5cGV0ACBMb3JnL2Z1aW4vZGRkNGovY29yZS9FbnRpdHlUeXBlO0wAAmlkdAATTGphdmEvbGFuZy9JbnRlZ2VyO3hwc3IAKW9yZy5mdWluLmRkZDRqLmNvcmUuU3RyaW5nQmFzZWRFbnRpdHlUeXBlAAAAAAAAA+gCAAFMAANzdHJ0ABJMamF2YS9sYW5nL1N0cmluZzt4cgAxb3JnLmZ1aW4ub2JqZWN0czRqLmNvcmUuQWJzdHJhY3RTdHJpbmdWYWx1ZU9iamVjdAAAAAAAAAPoAgAAeHB0AARUZXN0c3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAc=";
+
     @Test
     public void testEqualsHashCode() {
+        // Fields are only assigned by the constructor or on deserialization
         EqualsVerifier.forClass(IntegerEntityId.class)
                 .withPrefabValues(EntityType.class, new StringBasedEntityType("A"), new StringBasedEntityType("B"))
-                .suppress(Warning.NULL_FIELDS).verify();
+                .withIgnoredFields("typedString").suppress(Warning.NULL_FIELDS, Warning.NONFINAL_FIELDS).verify();
     }
 
     @Test
@@ -96,4 +101,71 @@ public class IntegerEntityIdTest {
 
     }
 
+    @Test
+    public void testEqualTypesNotSame() {
+
+        final IntegerEntityId a = new IntegerEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final IntegerEntityId b = new IntegerEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(a.compareTo(b)).isZero();
+        assertThat(a.asTypedString()).isEqualTo("A 1").isSameAs(a.asTypedString());
+
+    }
+
+    @Test
+    public void testIntValue() {
+
+        final TestId boxed = new TestId(Integer.valueOf(5));
+        final TestId primitive = new TestId(5);
+
+        assertThat(primitive.intValue()).isEqualTo(5);
+        assertThat(primitive.asBaseType()).isEqualTo(5);
+        assertThat(primitive).isEqualTo(boxed);
+        assertThat(primitive.hashCode()).isEqualTo(boxed.hashCode());
+
+    }
+
+    @Test
+    public void testSerialize() {
+        final TestId id = new TestId(123);
+        final TestId copy = Utils4J.deserialize(Utils4J.serialize(id));
+        assertThat(copy).isEqualTo(id);
+        assertThat(copy.intValue()).isEqualTo(123);
+        assertThat(copy.getType()).isEqualTo(TestId.TYPE);
+    }
+
+    @Test
+    public void testDeserializeIntegerBasedForm() {
+        // Serialized with the previous implementation that had an 'Integer' field
+        final byte[] data = Base64.getDecoder().decode(OLD_FORM_OF_7);
+        final TestId id = Utils4J.deserialize(data);
+        assertThat(id).isEqualTo(new TestId(7));
+        assertThat(id.asTypedString()).isEqualTo("Test 7");
+    }
+
+    static final class TestId extends IntegerEntityId {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        static final EntityType TYPE = new StringBasedEntityType("Test");
+
+        TestId(final Integer id) {
+            super(TYPE, id);
+        }
+
+        TestId(final int id) {
+            super(TYPE, id);
+        }
+
+    }
+
 }
@@ -3,14 +3,28 @@ package org.fuin.ddd4j.core;
 import org.fuin.ddd4j.coretest.AId;
 import org.fuin.ddd4j.coretest.BId;
 import org.fuin.ddd4j.coretest.CId;
+import org.fuin.ddd4j.coretest.OrderId;
 import org.fuin.ddd4j.coretest.PersonId;
 import org.fuin.ddd4j.coretest.VendorId;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Test for the {@link JandexEntityIdFactory} class.
@@ -20,7 +34,7 @@ class JandexEntityIdFactoryTest {
     @Test
     void testCreate() {
         final JandexEntityIdFactory testee = new JandexEntityIdFactory(new File("target/test-classes"));
-        assertThat(testee.getIdClasses()).containsOnly(VendorId.class, PersonId.class, AId.class, BId.class, CId.class);
+        assertThat(testee.getIdClasses()).containsOnly(VendorId.class, PersonId.class, OrderId.class, AId.class, BId.class, CId.class);
     }
 
     @Test
@@ -32,6 +46,14 @@ class JandexEntityIdFactoryTest {
         assertThat(result).isEqualTo(id);
     }
 
+    @Test
+    void testCreateEntityIdInvalid() {
+        final JandexEntityIdFactory testee = new JandexEntityIdFactory(new File("target/test-classes"));
+        assertThatThrownBy(() -> testee.createEntityId(VendorId.TYPE.asString(), "invalid"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.createEntityId(AId.TYPE.asString(), null)).isNull();
+    }
+
     @Test
     void testContainsType() {
         final JandexEntityIdFactory testee = new JandexEntityIdFactory(new File("target/test-classes"));
@@ -51,4 +73,132 @@ class JandexEntityIdFactoryTest {
         assertThat(testee.isValid(VendorId.TYPE.asString(), null)).isTrue();
     }
 
+    @Test
+    void testCacheFile(@TempDir final Path tempDir) throws IOException {
+
+        // PREPARE
+        final File cacheFile = tempDir.resolve("entity-ids.properties").toFile();
+        final List<File> dirs = List.of(new File("target/test-classes"));
+
+        // TEST
+        final JandexEntityIdFactory first = new JandexEntityIdFactory(cacheFile, dirs);
+        assertThat(cacheFile).doesNotExist();
+        assertThat(first.containsType(VendorId.TYPE.asString())).isTrue();
+
+        // VERIFY
+        assertThat(cacheFile).exists();
+        final Properties props = new Properties();
+        try (final InputStream in = Files.newInputStream(cacheFile.toPath())) {
+            props.load(in);
+        }
+        assertThat(props.getProperty("checksum")).isNotEmpty();
+        assertThat(props.getProperty("type." + VendorId.TYPE.asString())).isEqualTo(VendorId.class.getName());
+
+    }
+
+    @Test
+    void testCacheFileIsUsed(@TempDir final Path tempDir) throws IOException {
+
+        // PREPARE
+        final File cacheFile = tempDir.resolve("entity-ids.properties").toFile();
+        final List<File> dirs = List.of(new File("target/test-classes"));
+        new JandexEntityIdFactory(cacheFile, dirs).getIdClasses();
+        final Properties props = new Properties();
+        try (final InputStream in = Files.newInputStream(cacheFile.toPath())) {
+            props.load(in);
+        }
+        final Properties changed = new Properties();
+        changed.setProperty("checksum", props.getProperty("checksum"));
+        changed.setProperty("type." + AId.TYPE.asString(), AId.class.getName());
+        try (final OutputStream out = Files.newOutputStream(cacheFile.toPath())) {
+            changed.store(out, null);
+        }
+
+        // TEST
+        final JandexEntityIdFactory testee = new JandexEntityIdFactory(cacheFile, dirs);
+
+        // VERIFY
+        assertThat(testee.getIdClasses()).containsOnly(AId.class);
+        assertThat(testee.containsType(VendorId.TYPE.asString())).isFalse();
+        assertThat(testee.createEntityId(AId.TYPE.asString(), "1")).isEqualTo(new AId(1L));
+
+    }
+
+    @Test
+    void testOutdatedCacheFile(@TempDir final Path tempDir) throws IOException {
+
+        // PREPARE
+        final File cacheFile = tempDir.resolve("entity-ids.properties").toFile();
+        final Properties outdated = new Properties();
+        outdated.setProperty("checksum", "outdated");
+        outdated.setProperty("type." + AId.TYPE.asString(), AId.class.getName());
+        try (final OutputStream out = Files.newOutputStream(cacheFile.toPath())) {
+            outdated.store(out, null);
+        }
+
+        // TEST
+        final JandexEntityIdFactory testee = new JandexEntityIdFactory(cacheFile, List.of(new File("target/test-classes")));
+
+        // VERIFY
+        assertThat(testee.getIdClasses()).containsOnly(VendorId.class, PersonId.class, OrderId.class, AId.class, BId.class, CId.class);
+
+    }
+
+    @Test
+    void testChangedIndexContentInvalidatesCache(@TempDir final Path tempDir) throws IOException {
+
+        // PREPARE
+        final File cacheFile = tempDir.resolve("entity-ids.properties").toFile();
+        final Path indexDir = tempDir.resolve("index");
+        final Path indexFile = indexDir.resolve("META-INF/jandex.idx");
+        Files.createDirectories(indexFile.getParent());
+        final Indexer indexer = new Indexer();
+        writeIndex(indexFile, indexer);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[] { indexDir.toUri().toURL() }, original)) {
+            thread.setContextClassLoader(classLoader);
+            new JandexEntityIdFactory(cacheFile, List.of()).getIdClasses();
+            final String before = checksum(cacheFile);
+
+            // Same URL, different content
+            try (final InputStream in = AId.class.getResourceAsStream(AId.class.getSimpleName() + ".class")) {
+                indexer.index(in);
+            }
+            writeIndex(indexFile, indexer);
+
+            // TEST
+            new JandexEntityIdFactory(cacheFile, List.of()).getIdClasses();
+
+            // VERIFY
+            assertThat(checksum(cacheFile)).isNotEqualTo(before);
+
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+
+    }
+
+    private static void writeIndex(final Path file, final Indexer indexer) throws IOException {
+        try (final OutputStream out = Files.newOutputStream(file)) {
+            new IndexWriter(out).write(indexer.complete());
+        }
+    }
+
+    private static String checksum(final File cacheFile) throws IOException {
+        final Properties props = new Properties();
+        try (final InputStream in = Files.newInputStream(cacheFile.toPath())) {
+            props.load(in);
+        }
+        return props.getProperty("checksum");
+    }
+
+    @Test
+    void testMultipleLocations() {
+        final JandexEntityIdFactory testee = new JandexEntityIdFactory(new File("target/test-classes"), new File("target/classes"));
+        assertThat(testee.getIdClasses()).containsOnly(VendorId.class, PersonId.class, OrderId.class, AId.class, BId.class, CId.class);
+        assertThat(testee.isValid(AId.TYPE.asString(), "1")).isTrue();
+        assertThat(testee.isValid(null, "1")).isFalse();
+    }
+
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.core;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.fuin.utils4j.Utils4J;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for {@link LongEntityId}.
+ */
+public class LongEntityIdTest {
+
+    @Test
+    public void testEqualsHashCode() {
+        final LongEntityId example = new LongEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        EqualsVerifier.forClass(LongEntityId.class)
+                .withPrefabValues(EntityType.class, new StringBasedEntityType("A"), new StringBasedEntityType("B"))
+                .withCachedHashCode("hash", "calculateHashCode", example).withIgnoredFields("typedString")
+                .suppress(Warning.NULL_FIELDS).verify();
+    }
+
+    @Test
+    public void testCompareTo() {
+
+        final LongEntityId a1 = new LongEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId a2 = new LongEntityId(new StringBasedEntityType("A"), 2) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId a3 = new LongEntityId(new StringBasedEntityType("A"), 3) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId b1 = new LongEntityId(new StringBasedEntityType("B"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId b2 = new LongEntityId(new StringBasedEntityType("B"), 2) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId b3 = new LongEntityId(new StringBasedEntityType("B"), 3) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+
+        final List<LongEntityId> ids = new ArrayList<>();
+        ids.add(a3);
+        ids.add(b1);
+        ids.add(a1);
+        ids.add(b2);
+        ids.add(a2);
+        ids.add(b3);
+        Collections.sort(ids);
+
+        assertThat(ids).containsExactly(a1, a2, a3, b1, b2, b3);
+
+    }
+
+    @Test
+    public void testSimpleMethods() {
+
+        final StringBasedEntityType type = new StringBasedEntityType("A");
+        final LongEntityId a1 = new LongEntityId(type, 1) {
+            private static final long serialVersionUID = 1L;
+        };
+
+        assertThat(a1.toString()).isEqualTo("1");
+        assertThat(a1.asString()).isEqualTo("1");
+        assertThat(a1.asTypedString()).isEqualTo(type + " 1");
+        assertThat(a1.getType()).isEqualTo(type);
+
+    }
+
+    @Test
+    public void testEqualTypesNotSame() {
+
+        final LongEntityId a = new LongEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+        final LongEntityId b = new LongEntityId(new StringBasedEntityType("A"), 1) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(a.compareTo(b)).isZero();
+        assertThat(a.asTypedString()).isEqualTo("A 1").isSameAs(a.asTypedString());
+
+    }
+
+    @Test
+    public void testLargeValue() {
+
+        final TestId id = new TestId(Long.MAX_VALUE);
+
+        assertThat(id.longValue()).isEqualTo(Long.MAX_VALUE);
+        assertThat(id.asString()).isEqualTo("9223372036854775807");
+        assertThat(id.compareTo(new TestId(Long.MIN_VALUE))).isPositive();
+
+    }
+
+    @Test
+    public void testLongValue() {
+
+        final TestId boxed = new TestId(Long.valueOf(5));
+        final TestId primitive = new TestId(5);
+
+        assertThat(primitive.longValue()).isEqualTo(5L);
+        assertThat(primitive.asBaseType()).isEqualTo(5L);
+        assertThat(primitive).isEqualTo(boxed);
+        assertThat(primitive.hashCode()).isEqualTo(boxed.hashCode());
+
+    }
+
+    @Test
+    public void testSerialize() {
+        final TestId id = new TestId(123);
+        final TestId copy = Utils4J.deserialize(Utils4J.serialize(id));
+        assertThat(copy).isEqualTo(id);
+        assertThat(copy.longValue()).isEqualTo(123L);
+        assertThat(copy.getType()).isEqualTo(TestId.TYPE);
+    }
+
+    static final class TestId extends LongEntityId {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        static final EntityType TYPE = new StringBasedEntityType("Test");
+
+        TestId(final Long id) {
+            super(TYPE, id);
+        }
+
+        TestId(final long id) {
+            super(TYPE, id);
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.fuin.ddd4j.core;
+
+import org.fuin.ddd4j.coretest.AId;
+import org.fuin.ddd4j.coretest.VendorId;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceLoaderEntityIdFactoryTest {
+
+    @Test
+    void testContainsType() {
+
+        // PREPARE
+        final ServiceLoaderEntityIdFactory testee = new ServiceLoaderEntityIdFactory();
+
+        // TEST & VERIFY
+        assertThat(testee.size()).isEqualTo(1);
+        assertThat(testee.containsType(AId.TYPE.asString())).isTrue();
+        assertThat(testee.containsType(VendorId.TYPE.asString())).isFalse();
+        assertThat(testee.containsType(null)).isFalse();
+
+    }
+
+    @Test
+    void testIsValid() {
+
+        // PREPARE
+        final ServiceLoaderEntityIdFactory testee = new ServiceLoaderEntityIdFactory();
+
+        // TEST & VERIFY
+        assertThat(testee.isValid(AId.TYPE.asString(), "1")).isTrue();
+        assertThat(testee.isValid(AId.TYPE.asString(), "x")).isFalse();
+        assertThat(testee.isValid(VendorId.TYPE.asString(), UUID.randomUUID().toString())).isFalse();
+
+    }
+
+    @Test
+    void testCreateEntityId() {
+
+        // PREPARE
+        final ServiceLoaderEntityIdFactory testee = new ServiceLoaderEntityIdFactory();
+
+        // TEST
+        final EntityId id = testee.createEntityId(AId.TYPE.asString(), "1");
+
+        // VERIFY
+        assertThat(id).isEqualTo(new AId(1L));
+        assertThatThrownBy(() -> testee.createEntityId("Unknown", "1")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown type: Unknown");
+
+    }
+
+    @Test
+    void testEntityIdPath() {
+
+        // PREPARE
+        final ServiceLoaderEntityIdFactory testee = new ServiceLoaderEntityIdFactory();
+
+        // TEST
+        final EntityIdPath path = EntityIdPath.valueOf(testee, "A 1");
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(1L)));
+
+    }
+
+}
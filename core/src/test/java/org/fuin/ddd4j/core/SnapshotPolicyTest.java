@@ -0,0 +1,57 @@
+package org.fuin.ddd4j.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapshotPolicyTest {
+
+    @Test
+    public void testNever() {
+        assertThat(SnapshotPolicy.never().isSnapshotRequired(-1, 1000, Duration.ofHours(1))).isFalse();
+    }
+
+    @Test
+    public void testEveryEvents() {
+
+        // PREPARE
+        final SnapshotPolicy testee = SnapshotPolicy.everyEvents(100);
+
+        // TEST & VERIFY
+        assertThat(testee.isSnapshotRequired(-1, 0, Duration.ZERO)).isFalse();
+        assertThat(testee.isSnapshotRequired(-1, 98, Duration.ZERO)).isFalse();
+        assertThat(testee.isSnapshotRequired(-1, 99, Duration.ZERO)).isTrue();
+        assertThat(testee.isSnapshotRequired(97, 100, Duration.ZERO)).isTrue();
+        assertThat(testee.isSnapshotRequired(99, 198, Duration.ZERO)).isFalse();
+        assertThat(testee.isSnapshotRequired(150, 150, Duration.ZERO)).isFalse();
+
+    }
+
+    @Test
+    public void testReplayExceeds() {
+
+        // PREPARE
+        final SnapshotPolicy testee = SnapshotPolicy.replayExceeds(Duration.ofMillis(50));
+
+        // TEST & VERIFY
+        assertThat(testee.isSnapshotRequired(-1, 10, Duration.ofMillis(50))).isFalse();
+        assertThat(testee.isSnapshotRequired(-1, 10, Duration.ofMillis(51))).isTrue();
+
+    }
+
+    @Test
+    public void testOr() {
+
+        // PREPARE
+        final SnapshotPolicy testee = SnapshotPolicy.everyEvents(100).or(SnapshotPolicy.replayExceeds(Duration.ofMillis(50)));
+
+        // TEST & VERIFY
+        assertThat(testee.isSnapshotRequired(1, 2, Duration.ZERO)).isFalse();
+        assertThat(testee.isSnapshotRequired(1, 99, Duration.ZERO)).isTrue();
+        assertThat(testee.isSnapshotRequired(1, 2, Duration.ofSeconds(1))).isTrue();
+
+    }
+
+}
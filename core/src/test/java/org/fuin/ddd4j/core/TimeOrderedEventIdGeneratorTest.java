@@ -0,0 +1,96 @@
+package org.fuin.ddd4j.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for the {@link TimeOrderedEventIdGenerator} class.
+ */
+public class TimeOrderedEventIdGeneratorTest {
+
+    @Test
+    public void testGenerate() {
+
+        // PREPARE
+        final Instant now = Instant.parse("2026-10-18T10:15:30.123Z");
+        final TimeOrderedEventIdGenerator testee = new TimeOrderedEventIdGenerator(Clock.fixed(now, ZoneOffset.UTC),
+                () -> new SplittableRandom(42));
+
+        // TEST
+        final UUID uuid = testee.generate();
+
+        // VERIFY
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(TimeOrderedEventIdGenerator.timestamp(uuid)).isEqualTo(now.toEpochMilli());
+
+    }
+
+    @Test
+    public void testUnique() {
+
+        // PREPARE
+        final TimeOrderedEventIdGenerator testee = new TimeOrderedEventIdGenerator();
+        final Set<UUID> uuids = new HashSet<>();
+
+        // TEST
+        for (int i = 0; i < 10000; i++) {
+            uuids.add(testee.generate());
+        }
+
+        // VERIFY
+        assertThat(uuids).hasSize(10000);
+
+    }
+
+    @Test
+    public void testOrderedByTime() {
+
+        // PREPARE
+        final List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final Clock clock = Clock.fixed(Instant.ofEpochMilli(1760000000000L + i), ZoneOffset.UTC);
+            uuids.add(new TimeOrderedEventIdGenerator(clock, SecureRandom::new).generate());
+        }
+
+        // TEST
+        final List<String> strings = uuids.stream().map(UUID::toString).toList();
+
+        // VERIFY
+        assertThat(strings).isSorted();
+
+    }
+
+    @Test
+    public void testRandomSource() {
+
+        // PREPARE
+        final Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        final TimeOrderedEventIdGenerator a = new TimeOrderedEventIdGenerator(clock, () -> new SplittableRandom(1));
+        final TimeOrderedEventIdGenerator b = new TimeOrderedEventIdGenerator(clock, () -> new SplittableRandom(1));
+
+        // TEST & VERIFY
+        assertThat(a.generate()).isEqualTo(b.generate());
+
+    }
+
+    @Test
+    public void testTimestampNoVersion7() {
+        assertThatThrownBy(() -> TimeOrderedEventIdGenerator.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.coretest;
+
+import org.fuin.ddd4j.core.EntityId;
+import org.fuin.ddd4j.core.EntityIdFactory;
+
+/**
+ * Example for an identifier factory like it is generated by the annotation processor.
+ */
+public final class AId_EntityIdFactory implements EntityIdFactory {
+
+    @Override
+    public boolean containsType(final String type) {
+        return AId.TYPE.asString().equals(type);
+    }
+
+    @Override
+    public boolean isValid(final String type, final String id) {
+        return containsType(type) && AId.isValid(id);
+    }
+
+    @Override
+    public EntityId createEntityId(final String type, final String id) {
+        if (!containsType(type)) {
+            throw new IllegalArgumentException("Unknown type: " + type + " (Known type is: " + AId.TYPE + ")");
+        }
+        return AId.valueOf(id);
+    }
+
+}
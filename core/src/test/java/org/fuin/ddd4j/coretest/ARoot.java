@@ -24,14 +24,23 @@ import org.fuin.ddd4j.core.EntityIdPath;
 import org.fuin.ddd4j.core.EntityNotFoundException;
 import org.fuin.ddd4j.core.EntityType;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-public final class ARoot extends BaseRoot<AId, ARoot> {
+public final class ARoot extends BaseRoot<AId, ARoot> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private AId id;
 
-    private List<BEntity> childs;
+    // Entities are not serializable - Only the identifiers of the direct children are part of the serialized form
+    private transient List<BEntity> childs;
 
     private AbstractDomainEvent<?> lastEvent;
 
@@ -107,6 +116,21 @@ public final class ARoot extends BaseRoot<AId, ARoot> {
         lastEvent = event;
     }
 
+    @Override
+    protected ARoot copy() {
+        final ARoot copy = new ARoot();
+        copyTo(copy);
+        copy.id = id;
+        copy.lastEvent = lastEvent;
+        if (childs != null) {
+            copy.childs = new ArrayList<>(childs.size());
+            for (final BEntity child : childs) {
+                copy.childs.add(child.copy(copy));
+            }
+        }
+        return copy;
+    }
+
     public AbstractDomainEvent<?> getLastEvent() {
         return lastEvent;
     }
@@ -115,4 +139,31 @@ public final class ARoot extends BaseRoot<AId, ARoot> {
         return childs.get(0);
     }
 
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (childs == null) {
+            out.writeObject(null);
+        } else {
+            final ArrayList<BId> ids = new ArrayList<>();
+            for (final BEntity child : childs) {
+                ids.add(child.getId());
+            }
+            out.writeObject(ids);
+        }
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final List<BId> ids = (List<BId>) in.readObject();
+        if (ids != null) {
+            childs = new ArrayList<>();
+            for (final BId bid : ids) {
+                childs.add(new BEntity(this, bid));
+            }
+        }
+    }
+
 }
@@ -105,6 +105,23 @@ public final class BEntity extends AbstractEntity<AId, ARoot, BId> {
         lastEvent = event;
     }
 
+    /**
+     * Creates a copy of this entity that belongs to another root.
+     *
+     * @param root
+     *            Copy of the aggregate root.
+     *
+     * @return New entity with the same children.
+     */
+    BEntity copy(final ARoot root) {
+        final BEntity copy = new BEntity(root, id);
+        for (final CEntity child : childs) {
+            copy.childs.add(new CEntity(root, id, child.getId()));
+        }
+        copy.lastEvent = lastEvent;
+        return copy;
+    }
+
     // Test method
     public AbstractDomainEvent<?> getLastEvent() {
         return lastEvent;
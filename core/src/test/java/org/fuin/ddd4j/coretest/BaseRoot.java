@@ -49,4 +49,14 @@ public abstract class BaseRoot<ROOT_ID extends ImplRootId, ROOT extends Aggregat
         return stored;
     }
 
+    /**
+     * Copies the state of this base class to another instance. Example of a base class that supports {@link #copy()}.
+     *
+     * @param copy
+     *            Instance to copy the state to.
+     */
+    protected final void copyTo(final BaseRoot<ROOT_ID, ROOT> copy) {
+        copy.stored = stored;
+    }
+
 }
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.coretest;
+
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.Entity;
+import org.fuin.ddd4j.core.EntityDispatcher;
+import org.fuin.ddd4j.core.EntityId;
+
+/**
+ * Example for a dispatcher like it is generated by the annotation processor.
+ */
+public final class CEntity_EntityDispatcher implements EntityDispatcher {
+
+    @Override
+    public Class<?> getEntityClass() {
+        return CEntity.class;
+    }
+
+    @Override
+    public boolean applyEvent(final Entity<?> entity, final DomainEvent<?> event) {
+        final CEntity target = (CEntity) entity;
+        switch (event.getClass().getName()) {
+            case "org.fuin.ddd4j.coretest.CEvent":
+                target.applyEvent((CEvent) event);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean hasChildEntityLocator(final Class<?> idClass) {
+        return false;
+    }
+
+    @Override
+    public Entity<?> locateChild(final Entity<?> entity, final EntityId childId) {
+        throw new IllegalArgumentException("No method annotated with @ChildEntityLocator and argument '"
+                + childId.getClass().getName() + "' found in '" + CEntity.class.getName() + "'");
+    }
+
+}
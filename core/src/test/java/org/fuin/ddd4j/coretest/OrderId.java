@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.coretest;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AggregateRootUuid;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.HasEntityTypeConstant;
+import org.fuin.ddd4j.core.StringBasedEntityType;
+import org.fuin.objects4j.common.HasPublicStaticValueOfMethod;
+
+import javax.annotation.concurrent.Immutable;
+import java.io.Serial;
+import java.util.UUID;
+
+/**
+ * Unique identifier of an order.
+ */
+@Immutable
+@HasPublicStaticValueOfMethod
+@HasEntityTypeConstant
+public final class OrderId extends AggregateRootUuid {
+
+    @Serial
+    private static final long serialVersionUID = 1000L;
+
+    /** Type of entity this identifier represents. */
+    public static final EntityType TYPE = new StringBasedEntityType("Order");
+
+    /**
+     * Constructor with UUID.
+     *
+     * @param uuid
+     *            UUID.
+     */
+    public OrderId(@NotNull final UUID uuid) {
+        super(TYPE, uuid);
+    }
+
+    /**
+     * Parses a given string and returns a new instance.
+     *
+     * @param value
+     *            String with valid UUID to convert. A <code>null</code> value returns <code>null</code>.
+     *
+     * @return Converted value.
+     */
+    public static OrderId valueOf(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return new OrderId(UUID.fromString(value));
+    }
+
+}
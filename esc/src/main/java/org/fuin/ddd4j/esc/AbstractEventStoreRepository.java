@@ -0,0 +1,711 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AggregateCache;
+import org.fuin.ddd4j.core.AggregateNoCache;
+import org.fuin.ddd4j.core.AggregateRoot;
+import org.fuin.ddd4j.core.AggregateRootId;
+import org.fuin.ddd4j.core.AggregateVersionConflictException;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.EventType;
+import org.fuin.ddd4j.core.NoSnapshotStore;
+import org.fuin.ddd4j.core.SnapshotPolicy;
+import org.fuin.ddd4j.core.SnapshotStore;
+import org.fuin.esc.api.CommonEvent;
+import org.fuin.esc.api.EventId;
+import org.fuin.esc.api.ExpectedVersion;
+import org.fuin.esc.api.SimpleCommonEvent;
+import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.api.TypeName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Configuration and logic shared by the blocking {@link EventStoreRepository} and the non-blocking {@link AsyncEventStoreRepository}.
+ *
+ * @param <ID>
+ *            Type of the aggregate root identifier.
+ * @param <AGGREGATE>
+ *            Type of the aggregate root.
+ */
+public abstract class AbstractEventStoreRepository<ID extends AggregateRootId, AGGREGATE extends AggregateRoot<ID>> {
+
+    private static final String MAX_AGGREGATE_VERSION_EXCEEDED = "Exceeded maximum number of aggregate versions."
+            + " The Event Store operates with 'long' versions but aggregates only can handle 'int' versions.";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractEventStoreRepository.class);
+
+    private static final SnapshotPolicy DEFAULT_SNAPSHOT_POLICY = SnapshotPolicy.everyEvents(100);
+
+    private static final Duration DEFAULT_RETRY_BASE_DELAY = Duration.ofMillis(5);
+
+    private static final Duration DEFAULT_RETRY_MAX_DELAY = Duration.ofMillis(200);
+
+    private final AggregateCache<AGGREGATE> noCache;
+
+    private final SnapshotStore<AGGREGATE> noSnapshotStore;
+
+    private final ReadPageSizePolicy fixedReadPageSize;
+
+    private final LongAdder conflictCount;
+
+    private final LongAdder resolvedConflictCount;
+
+    private final LongAdder unresolvedConflictCount;
+
+    private volatile Set<TypeName> aggregateIgnoredEventTypes;
+
+    private volatile Set<TypeName> ignoredEventTypes;
+
+    /**
+     * Default constructor.
+     */
+    AbstractEventStoreRepository() {
+        super();
+        noCache = new AggregateNoCache<>();
+        noSnapshotStore = new NoSnapshotStore<>();
+        fixedReadPageSize = (aggregateType, idClass, startVersion, targetVersion) -> getReadPageSize();
+        conflictCount = new LongAdder();
+        resolvedConflictCount = new LongAdder();
+        unresolvedConflictCount = new LongAdder();
+    }
+
+    /**
+     * Returns the type of the aggregate.
+     *
+     * @return Aggregate type.
+     */
+    @NotNull
+    public abstract EntityType getAggregateType();
+
+    /**
+     * Creates a new aggregate instance.
+     *
+     * @return New instance.
+     */
+    @NotNull
+    public abstract AGGREGATE create();
+
+    /**
+     * Returns the aggregate to start reading with. This is the cached aggregate if it's not newer than the requested version, else the
+     * newest snapshot at or below the requested version or a new instance.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param version
+     *            Requested version or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Aggregate that may already have the requested version.
+     */
+    final AGGREGATE initialAggregate(final ID aggregateId, final int version) {
+        final AGGREGATE cached = cachedAggregate(aggregateId, version);
+        if (cached != null) {
+            return cached;
+        }
+        return snapshotAggregate(aggregateId, version);
+    }
+
+    /**
+     * Returns the cached aggregate if it's not newer than the requested version.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param version
+     *            Requested version or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Cached aggregate or {@literal null} if there is no usable one in the cache.
+     */
+    final AGGREGATE cachedAggregate(final ID aggregateId, final int version) {
+        final boolean latest = version == Integer.MAX_VALUE;
+        final AGGREGATE cached = getAggregateCache().get(aggregateId, latest ? null : version);
+        if (cached == null) {
+            LOG.debug("Aggregate {} not found in cache", aggregateId.asTypedString());
+        } else if (cached.getVersion() > version) {
+            LOG.debug("Aggregate {} found in cache - Requested version {}, but found: {}", aggregateId.asTypedString(), version,
+                    cached.getVersion());
+        } else {
+            if (cached.getVersion() == version) {
+                LOG.debug("Aggregate {} found in cache with requested version: {}", aggregateId.asTypedString(), version);
+            }
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the newest snapshot at or below the requested version or a new instance. The aggregate is cached if it already has the
+     * requested version.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param version
+     *            Requested version or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Aggregate that may already have the requested version.
+     */
+    final AGGREGATE snapshotAggregate(final ID aggregateId, final int version) {
+        final AGGREGATE aggregate = createFromSnapshot(aggregateId, version);
+        if (aggregate.getVersion() == version) {
+            LOG.debug("Aggregate {} found in snapshot store with requested version: {}", aggregateId.asTypedString(), version);
+            getAggregateCache().put(aggregateId, aggregate);
+        }
+        return aggregate;
+    }
+
+    /**
+     * Determines if a snapshot store is configured.
+     *
+     * @return {@literal true} if snapshots are loaded and saved, else {@literal false}.
+     */
+    final boolean hasSnapshotStore() {
+        return getSnapshotStore() != noSnapshotStore;
+    }
+
+    /**
+     * Creates an aggregate using the newest snapshot at or below the given version. Falls back to a new instance if there is no snapshot
+     * or it cannot be loaded.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param maxVersion
+     *            Maximum version of the snapshot or {@link Integer#MAX_VALUE} for the newest one.
+     *
+     * @return Aggregate from the snapshot or a new instance.
+     */
+    private AGGREGATE createFromSnapshot(final ID aggregateId, final int maxVersion) {
+        try {
+            final AGGREGATE aggregate = getSnapshotStore().load(aggregateId, maxVersion);
+            if (aggregate != null) {
+                LOG.debug("Aggregate {} found in snapshot store with version: {}", aggregateId.asTypedString(), aggregate.getVersion());
+                return aggregate;
+            }
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to load snapshot of aggregate {}", aggregateId.asTypedString(), ex);
+        }
+        return create();
+    }
+
+    /**
+     * Caches the aggregate after it was read and saves a snapshot if the policy requires it.
+     *
+     * @param aggregate
+     *            Aggregate that was read.
+     * @param startVersion
+     *            Version the replay started with.
+     * @param startTime
+     *            Start of the replay ({@link System#nanoTime()}).
+     */
+    final void afterRead(final AGGREGATE aggregate, final int startVersion, final long startTime) {
+        getAggregateCache().put(aggregate.getId(), aggregate);
+        saveSnapshotIfRequired(aggregate, startVersion, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Saves a snapshot of the aggregate if the policy requires it. Failures are only logged, as the events are already stored.
+     *
+     * @param aggregate
+     *            Aggregate without uncommitted changes.
+     * @param previousVersion
+     *            Version before the events were read or stored.
+     * @param replayDuration
+     *            Time it took to replay the events.
+     */
+    final void saveSnapshotIfRequired(final AGGREGATE aggregate, final int previousVersion, final Duration replayDuration) {
+        if (snapshotRequired(aggregate, previousVersion, replayDuration)) {
+            saveSnapshot(aggregate);
+        }
+    }
+
+    /**
+     * Determines if a snapshot store is configured and the policy requires a snapshot of the aggregate.
+     *
+     * @param aggregate
+     *            Aggregate without uncommitted changes.
+     * @param previousVersion
+     *            Version before the events were read or stored.
+     * @param replayDuration
+     *            Time it took to replay the events.
+     *
+     * @return {@literal true} if a snapshot should be saved, else {@literal false}.
+     */
+    final boolean snapshotRequired(final AGGREGATE aggregate, final int previousVersion, final Duration replayDuration) {
+        return hasSnapshotStore() && getSnapshotPolicy().isSnapshotRequired(previousVersion, aggregate.getVersion(), replayDuration);
+    }
+
+    /**
+     * Saves a snapshot of the aggregate. Failures are only logged, as the events are already stored.
+     *
+     * @param aggregate
+     *            Aggregate without uncommitted changes.
+     */
+    final void saveSnapshot(final AGGREGATE aggregate) {
+        try {
+            LOG.debug("Save snapshot: id={}, version={}", aggregate.getId().asTypedString(), aggregate.getVersion());
+            getSnapshotStore().save(aggregate);
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to save snapshot of aggregate {}", aggregate.getId().asTypedString(), ex);
+        }
+    }
+
+    /**
+     * Removes all snapshots of a deleted aggregate. Failures are only logged.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     */
+    final void removeSnapshots(final ID aggregateId) {
+        try {
+            getSnapshotStore().remove(aggregateId);
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to remove snapshots of aggregate {}", aggregateId.asTypedString(), ex);
+        }
+    }
+
+    /**
+     * Returns the page size for reading an aggregate as determined by the {@link #getReadPageSizePolicy() policy}.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param startVersion
+     *            Version of the aggregate the replay starts with.
+     * @param targetVersion
+     *            Version to read or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Page size.
+     */
+    final int readPageSize(final ID aggregateId, final int startVersion, final int targetVersion) {
+        return Math.max(1, getReadPageSizePolicy().pageSize(getAggregateType(), aggregateId.getClass(), startVersion, targetVersion));
+    }
+
+    /**
+     * Informs the {@link #getReadPageSizePolicy() policy} about an aggregate that was read.
+     *
+     * @param aggregate
+     *            Aggregate that was read.
+     * @param pageSize
+     *            Page size that was used.
+     * @param startVersion
+     *            Version of the aggregate the replay started with.
+     * @param targetVersion
+     *            Version that was requested or {@link Integer#MAX_VALUE} for the latest one.
+     * @param sliceCount
+     *            Number of slices read.
+     */
+    final void readCompleted(final AGGREGATE aggregate, final int pageSize, final int startVersion, final int targetVersion,
+            final int sliceCount) {
+        final int streamLength = targetVersion == Integer.MAX_VALUE ? aggregate.getVersion() + 1 : -1;
+        getReadPageSizePolicy().loaded(getAggregateType(), aggregate.getId().getClass(), pageSize, aggregate.getVersion() - startVersion,
+                sliceCount, streamLength);
+    }
+
+    /**
+     * Returns the time to wait before the next try to store the changes after a version conflict. Uses exponential backoff with full
+     * jitter, so concurrent writers of a hot aggregate do not retry at the same time.
+     *
+     * @param retryCount
+     *            Number of retries so far.
+     *
+     * @return Random delay between zero and the base delay doubled for each retry, but not more than the maximum delay.
+     */
+    final Duration retryDelay(final int retryCount) {
+        final long baseNanos = getRetryBaseDelay().toNanos();
+        final long maxNanos = getRetryMaxDelay().toNanos();
+        if (baseNanos <= 0 || maxNanos <= 0) {
+            return Duration.ZERO;
+        }
+        final long boundNanos = retryCount >= Long.numberOfLeadingZeros(baseNanos) - 1 ? maxNanos
+                : Math.min(maxNanos, baseNanos << retryCount);
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(boundNanos + 1));
+    }
+
+    /**
+     * Counts a version conflict and checks if another try should be done.
+     *
+     * @param aggregate
+     *            Aggregate that failed to be saved.
+     * @param actualVersion
+     *            Latest version from the event store or {@literal null} if unknown.
+     * @param retryCount
+     *            Number of retries so far.
+     *
+     * @throws AggregateVersionConflictException
+     *             The maximum number of tries is reached.
+     */
+    final void conflictOccurred(final AGGREGATE aggregate, final Integer actualVersion, final int retryCount)
+            throws AggregateVersionConflictException {
+        conflictCount.increment();
+        if (retryCount >= getMaxTryCount()) {
+            // The actual version is unknown if the event store does not report it
+            throw conflictUnresolved(aggregate, actualVersion == null ? -1 : actualVersion);
+        }
+    }
+
+    /**
+     * Counts a conflict that could not be resolved.
+     *
+     * @param aggregate
+     *            Aggregate that failed to be saved.
+     * @param latestVersion
+     *            Latest version from the event store.
+     *
+     * @return Exception to throw.
+     */
+    final AggregateVersionConflictException conflictUnresolved(final AGGREGATE aggregate, final int latestVersion) {
+        unresolvedConflictCount.increment();
+        return new AggregateVersionConflictException(getAggregateType(), aggregate.getId(), aggregate.getVersion(), latestVersion);
+    }
+
+    /**
+     * Counts a conflict that was resolved, so the changes are stored again.
+     */
+    final void conflictResolved() {
+        resolvedConflictCount.increment();
+    }
+
+    /**
+     * Returns the number of version conflicts that occurred while storing changes.
+     *
+     * @return Number of conflicts, including the ones after a retry.
+     */
+    public final long getConflictCount() {
+        return conflictCount.sum();
+    }
+
+    /**
+     * Returns the number of times changes were stored again after a version conflict was resolved.
+     *
+     * @return Number of retries.
+     */
+    public final long getRetryCount() {
+        return resolvedConflictCount.sum();
+    }
+
+    /**
+     * Returns the number of updates that failed with an {@link AggregateVersionConflictException}.
+     *
+     * @return Number of conflicts that could not be resolved.
+     */
+    public final long getUnresolvedConflictCount() {
+        return unresolvedConflictCount.sum();
+    }
+
+    final void requireNoUncommittedChanges(final AGGREGATE aggregate) {
+        if (aggregate.hasUncommitedChanges()) {
+            throw uncommittedChanges(aggregate);
+        }
+    }
+
+    final IllegalArgumentException uncommittedChanges(final AGGREGATE aggregate) {
+        return new IllegalArgumentException(
+                "The aggregate '" + getAggregateType() + "' (" + aggregate.getId() + ") has uncommitted changes");
+    }
+
+    final AggregateStreamId streamId(final ID aggregateId) {
+        return new AggregateStreamId(getAggregateType(), getIdParamName(), aggregateId);
+    }
+
+    /**
+     * Returns the number of events to read with the next slice.
+     *
+     * @param readPageSize
+     *            Maximum number of events in a slice.
+     * @param sliceStart
+     *            First event number of the slice.
+     * @param targetAggregateVersion
+     *            Version of the aggregate to load or {@link Integer#MAX_VALUE} to read the latest version.
+     *
+     * @return Number of events that does not exceed the target version.
+     */
+    static int sliceCount(final int readPageSize, final int sliceStart, final int targetAggregateVersion) {
+        return (int) Math.min(readPageSize, (long) targetAggregateVersion - sliceStart + 1);
+    }
+
+    /**
+     * Adds all events of the slice that are not ignored to the list.
+     *
+     * @param slice
+     *            Slice with events.
+     * @param ignoredEventTypes
+     *            Event types to skip.
+     * @param list
+     *            List to add the domain events to.
+     */
+    static void addDomainEvents(final StreamEventsSlice slice, final Set<TypeName> ignoredEventTypes, final List<DomainEvent<?>> list) {
+        for (final CommonEvent commonEvent : slice.getEvents()) {
+            if (!ignoredEventTypes.contains(commonEvent.getDataType())) {
+                final DomainEvent<?> event = (DomainEvent<?>) commonEvent.getData();
+                list.add(event);
+            }
+        }
+    }
+
+    final int expectedVersion(final AGGREGATE aggregate) {
+        if (aggregate.getVersion() == -1) {
+            return intVersion(ExpectedVersion.NO_OR_EMPTY_STREAM.getNo());
+        }
+        return aggregate.getVersion();
+    }
+
+    static List<CommonEvent> asCommonEvents(final List<DomainEvent<?>> events, final String metaType, final Object metaData) {
+        final List<CommonEvent> list = new ArrayList<>();
+        for (final DomainEvent<?> event : events) {
+            final SimpleCommonEvent sce;
+            if (metaData == null) {
+                sce = new SimpleCommonEvent(new EventId(event.getEventId().asBaseType()), new TypeName(event.getEventType().asBaseType()),
+                        event);
+            } else {
+                if (metaType == null) {
+                    throw new IllegalArgumentException("Argument 'metaType' cannot be null if 'metaData' is provided (non-null)");
+                }
+                sce = new SimpleCommonEvent(new EventId(event.getEventId().asBaseType()), new TypeName(event.getEventType().asBaseType()),
+                        event, new TypeName(metaType), metaData);
+            }
+            list.add(sce);
+        }
+        return list;
+    }
+
+    static int intVersion(final long version) {
+        if (version > Integer.MAX_VALUE) {
+            throw new IllegalStateException(MAX_AGGREGATE_VERSION_EXCEEDED);
+        }
+        return (int) version;
+    }
+
+    static Integer integerVersion(final Long version) {
+        if (version == null) {
+            return null;
+        }
+        if (version > Integer.MAX_VALUE) {
+            throw new IllegalStateException(MAX_AGGREGATE_VERSION_EXCEEDED);
+        }
+        return version.intValue();
+    }
+
+    /**
+     * Checks if the uncommitted changes conflicts with unseen changes from the event store and tries to solve the problem. The unseen
+     * events are read slice by slice, so the method may be called multiple times for one conflict with consecutive parts of the unseen
+     * events. Events that were already checked during a previous try are not passed again. The conflict is only resolved if all calls
+     * return TRUE. This method may be overwritten by concrete implementation. Returns FALSE as default if not overwritten in subclasses.
+     *
+     * @param uncommittedChanges
+     *            Uncommitted changes.
+     * @param unseenEvents
+     *            Unseen changes from the event store.
+     *
+     * @return TRUE if there are no conflicting changes, else FALSE (conflict couldn't be resolved).
+     */
+    protected boolean conflictsResolved(final List<DomainEvent<?>> uncommittedChanges, final List<DomainEvent<?>> unseenEvents) {
+        return false;
+    }
+
+    /**
+     * Returns the number of tries that should be done to resolve a version conflict. This method may be overwritten by concrete
+     * implementation. Returns <code>3</code> as default if not overwritten in subclasses.
+     *
+     * @return Number of tries.
+     */
+    // integer).
+    protected int getMaxTryCount() {
+        return 3;
+    }
+
+    /**
+     * Returns the base delay before retrying to store changes after a resolved version conflict. The delay doubles with every retry and a
+     * random value between zero and that delay is used. This method may be overwritten by concrete implementation. Returns
+     * <code>5 ms</code> as default if not overwritten in subclasses.
+     *
+     * @return Base delay or {@link Duration#ZERO} to retry immediately.
+     */
+    @NotNull
+    protected Duration getRetryBaseDelay() {
+        return DEFAULT_RETRY_BASE_DELAY;
+    }
+
+    /**
+     * Returns the maximum delay before retrying to store changes after a resolved version conflict. This method may be overwritten by
+     * concrete implementation. Returns <code>200 ms</code> as default if not overwritten in subclasses.
+     *
+     * @return Maximum delay.
+     */
+    @NotNull
+    protected Duration getRetryMaxDelay() {
+        return DEFAULT_RETRY_MAX_DELAY;
+    }
+
+    /**
+     * Returns the aggregate cache. The repository returns the instances handed out by the cache and caches the aggregates it read, so a
+     * plain cache shares one mutable instance between all callers. Wrap the cache in a {@link org.fuin.ddd4j.core.CopyingAggregateCache}
+     * if aggregates are read concurrently. This method may be overwritten by concrete implementation. Returns no cache as default if not
+     * overwritten in subclasses.
+     *
+     * @return Cache.
+     */
+    @NotNull
+    protected AggregateCache<AGGREGATE> getAggregateCache() {
+        return noCache;
+    }
+
+    /**
+     * Returns the snapshot store. This method may be overwritten by concrete implementation. Returns a store that never has any snapshot
+     * as default if not overwritten in subclasses.
+     *
+     * @return Snapshot store.
+     */
+    @NotNull
+    protected SnapshotStore<AGGREGATE> getSnapshotStore() {
+        return noSnapshotStore;
+    }
+
+    /**
+     * Returns the policy that decides when a snapshot is taken. Only used if a {@link #getSnapshotStore() snapshot store} is configured.
+     * This method may be overwritten by concrete implementation. Returns a policy that takes a snapshot every 100 events as default if not
+     * overwritten in subclasses.
+     *
+     * @return Snapshot policy.
+     */
+    @NotNull
+    protected SnapshotPolicy getSnapshotPolicy() {
+        return DEFAULT_SNAPSHOT_POLICY;
+    }
+
+    /**
+     * Returns the names of event types that are ignored when an aggregate is read. Events of these types are skipped before their payload is
+     * accessed, so event store implementations that deserialize lazily never need to unmarshal them. A skipped event still increases the
+     * aggregate's version. This method may be overwritten by concrete implementation to add more types. The result is always combined with
+     * the names derived from the {@link AggregateRoot#getIgnoredEventClasses() ignored events} of the aggregate, so an override can only
+     * extend them. The method is called only once per repository. Returns the names derived from the aggregate as default if not
+     * overwritten in subclasses.
+     *
+     * @return Event type names.
+     */
+    @NotNull
+    protected Set<TypeName> getIgnoredEventTypes() {
+        return aggregateIgnoredEventTypes();
+    }
+
+    /**
+     * Returns the names of all event types that are skipped when an aggregate is read. The set is determined on first access and kept for
+     * the lifetime of the repository.
+     *
+     * @return Event type names derived from the aggregate plus the ones returned by {@link #getIgnoredEventTypes()}.
+     */
+    final Set<TypeName> ignoredEventTypes() {
+        Set<TypeName> types = ignoredEventTypes;
+        if (types == null) {
+            final Set<TypeName> set = new HashSet<>(aggregateIgnoredEventTypes());
+            final Set<TypeName> additional = getIgnoredEventTypes();
+            if (additional != null) {
+                set.addAll(additional);
+            }
+            types = Set.copyOf(set);
+            ignoredEventTypes = types;
+        }
+        return types;
+    }
+
+    private Set<TypeName> aggregateIgnoredEventTypes() {
+        Set<TypeName> types = aggregateIgnoredEventTypes;
+        if (types == null) {
+            final Set<TypeName> set = new HashSet<>();
+            for (final Class<? extends DomainEvent<?>> eventClass : create().getIgnoredEventClasses()) {
+                final TypeName typeName = eventTypeName(eventClass);
+                if (typeName == null) {
+                    LOG.warn("Ignored event {} has no public constant 'TYPE' of type {} - It will be deserialized before it's skipped",
+                            eventClass.getName(), EventType.class.getSimpleName());
+                } else {
+                    set.add(typeName);
+                }
+            }
+            types = Set.copyOf(set);
+            aggregateIgnoredEventTypes = types;
+        }
+        return types;
+    }
+
+    /**
+     * Returns the name an event class is stored with. The name is taken from the public static constant <code>TYPE</code> of type
+     * {@link EventType} that events declare by convention.
+     *
+     * @param eventClass
+     *            Event class to inspect.
+     *
+     * @return Type name or <code>null</code> if the class has no such constant.
+     */
+    static TypeName eventTypeName(final Class<?> eventClass) {
+        try {
+            final Field field = eventClass.getField("TYPE");
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != EventType.class) {
+                return null;
+            }
+            final EventType eventType = (EventType) field.get(null);
+            if (eventType == null) {
+                return null;
+            }
+            return new TypeName(eventType.asBaseType());
+        } catch (final NoSuchFieldException ex) {
+            return null;
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to read the event type of: " + eventClass.getName(), ex);
+        }
+    }
+
+    /**
+     * Returns the number of events to read in a slice. This method may be overwritten by concrete implementation. Returns <code>100</code>
+     * as default if not overwritten in subclasses.
+     *
+     * @return Page size.
+     */
+    public int getReadPageSize() {
+        return 100;
+    }
+
+    /**
+     * Returns the policy that decides how many events are requested with one slice when an aggregate is read. Use an
+     * {@link AdaptiveReadPageSizePolicy} to size the slices based on the observed stream lengths. This method may be overwritten by
+     * concrete implementation. Returns a policy that always uses {@link #getReadPageSize()} as default if not overwritten in subclasses.
+     *
+     * @return Page size policy.
+     */
+    @NotNull
+    protected ReadPageSizePolicy getReadPageSizePolicy() {
+        return fixedReadPageSize;
+    }
+
+    /**
+     * Returns the parameter name for the unique identifier.
+     *
+     * @return Name to be used as parameter.
+     */
+    @NotNull
+    protected abstract String getIdParamName();
+
+}
@@ -0,0 +1,325 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Page size policy that learns the typical stream length per aggregate type and identifier class. Reading the latest version requests
+ * the expected number of remaining events plus some headroom, so most aggregates are read with one and nearly all with two round trips.
+ * Reading a given version requests exactly the remaining range. The maximum page size caps the number of events (and so the bytes) held
+ * in memory for one slice. The chosen page sizes and the observed stream lengths are available as {@link #getStatistics() statistics}.
+ */
+@ThreadSafe
+public final class AdaptiveReadPageSizePolicy implements ReadPageSizePolicy {
+
+    /** Default minimum number of events in a slice. */
+    public static final int DEFAULT_MIN_PAGE_SIZE = 10;
+
+    /** Default number of events in a slice if nothing is known about the stream length. */
+    public static final int DEFAULT_INITIAL_PAGE_SIZE = 100;
+
+    /** Default maximum number of events in a slice. */
+    public static final int DEFAULT_MAX_PAGE_SIZE = 1000;
+
+    /** Weight of a new stream length for the moving average. */
+    private static final double ALPHA = 0.2;
+
+    /** Factor applied to the average stream length, so streams that are a bit longer than usual still need only one round trip. */
+    private static final double HEADROOM = 1.25;
+
+    private final int minPageSize;
+
+    private final int initialPageSize;
+
+    private final int maxPageSize;
+
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Constructor with default page sizes.
+     */
+    public AdaptiveReadPageSizePolicy() {
+        this(DEFAULT_MIN_PAGE_SIZE, DEFAULT_INITIAL_PAGE_SIZE, DEFAULT_MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Constructor with all data.
+     *
+     * @param minPageSize
+     *            Minimum number of events in a slice (Minimum 1).
+     * @param initialPageSize
+     *            Number of events in a slice if nothing is known about the stream length (Minimum is the minimum page size).
+     * @param maxPageSize
+     *            Maximum number of events in a slice (Minimum is the initial page size).
+     */
+    public AdaptiveReadPageSizePolicy(final int minPageSize, final int initialPageSize, final int maxPageSize) {
+        super();
+        Contract.requireArgMin("minPageSize", minPageSize, 1);
+        Contract.requireArgMin("initialPageSize", initialPageSize, minPageSize);
+        Contract.requireArgMin("maxPageSize", maxPageSize, initialPageSize);
+        this.minPageSize = minPageSize;
+        this.initialPageSize = initialPageSize;
+        this.maxPageSize = maxPageSize;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int pageSize(final EntityType aggregateType, final Class<?> idClass, final int startVersion, final int targetVersion) {
+        if (targetVersion < Integer.MAX_VALUE) {
+            return limit((long) targetVersion - startVersion);
+        }
+        final Entry entry = entries.get(new Key(aggregateType.asString(), idClass));
+        if (entry == null) {
+            return initialPageSize;
+        }
+        final double averageStreamLength = entry.averageStreamLength();
+        if (averageStreamLength < 0) {
+            return initialPageSize;
+        }
+        // One more event than expected, so the end of the stream is detected with the same slice
+        return limit((long) Math.ceil(averageStreamLength * HEADROOM) - (startVersion + 1) + 1);
+    }
+
+    @Override
+    public void loaded(final EntityType aggregateType, final Class<?> idClass, final int pageSize, final int eventCount,
+            final int sliceCount, final int streamLength) {
+        entries.computeIfAbsent(new Key(aggregateType.asString(), idClass), key -> new Entry()).loaded(pageSize, eventCount, sliceCount,
+                streamLength);
+    }
+
+    private int limit(final long pageSize) {
+        return (int) Math.max(minPageSize, Math.min(maxPageSize, pageSize));
+    }
+
+    /**
+     * Returns the statistics for all aggregate types read so far.
+     *
+     * @return Snapshot of the current statistics.
+     */
+    @NotNull
+    public List<Statistics> getStatistics() {
+        final List<Statistics> list = new ArrayList<>();
+        entries.forEach((key, entry) -> list.add(entry.statistics(key)));
+        return list;
+    }
+
+    /**
+     * Returns the statistics for one aggregate type.
+     *
+     * @param aggregateType
+     *            Type of the aggregate.
+     * @param idClass
+     *            Class of the aggregate identifier.
+     *
+     * @return Snapshot of the current statistics or {@literal null} if no such aggregate was read so far.
+     */
+    public Statistics getStatistics(@NotNull final EntityType aggregateType, @NotNull final Class<?> idClass) {
+        Contract.requireArgNotNull("aggregateType", aggregateType);
+        Contract.requireArgNotNull("idClass", idClass);
+        final Key key = new Key(aggregateType.asString(), idClass);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        return entry.statistics(key);
+    }
+
+    /**
+     * Read statistics for one aggregate type and identifier class.
+     */
+    @Immutable
+    public static final class Statistics {
+
+        private final String aggregateType;
+
+        private final Class<?> idClass;
+
+        private final long loadCount;
+
+        private final long eventCount;
+
+        private final long sliceCount;
+
+        private final long pageSizeSum;
+
+        private final int lastPageSize;
+
+        private final double averageStreamLength;
+
+        private Statistics(final String aggregateType, final Class<?> idClass, final long loadCount, final long eventCount,
+                final long sliceCount, final long pageSizeSum, final int lastPageSize, final double averageStreamLength) {
+            super();
+            this.aggregateType = aggregateType;
+            this.idClass = idClass;
+            this.loadCount = loadCount;
+            this.eventCount = eventCount;
+            this.sliceCount = sliceCount;
+            this.pageSizeSum = pageSizeSum;
+            this.lastPageSize = lastPageSize;
+            this.averageStreamLength = averageStreamLength;
+        }
+
+        /**
+         * Returns the aggregate type.
+         *
+         * @return Name of the aggregate type.
+         */
+        @NotNull
+        public String getAggregateType() {
+            return aggregateType;
+        }
+
+        /**
+         * Returns the class of the aggregate identifier.
+         *
+         * @return Identifier class.
+         */
+        @NotNull
+        public Class<?> getIdClass() {
+            return idClass;
+        }
+
+        /**
+         * Returns the number of aggregates read.
+         *
+         * @return Number of reads.
+         */
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        /**
+         * Returns the number of events read.
+         *
+         * @return Number of events.
+         */
+        public long getEventCount() {
+            return eventCount;
+        }
+
+        /**
+         * Returns the number of slices read.
+         *
+         * @return Number of round trips to the event store.
+         */
+        public long getSliceCount() {
+            return sliceCount;
+        }
+
+        /**
+         * Returns the page size chosen for the latest read.
+         *
+         * @return Page size.
+         */
+        public int getLastPageSize() {
+            return lastPageSize;
+        }
+
+        /**
+         * Returns the average page size chosen.
+         *
+         * @return Page size or <code>0</code> if nothing was read yet.
+         */
+        public double getAveragePageSize() {
+            return loadCount == 0 ? 0 : (double) pageSizeSum / loadCount;
+        }
+
+        /**
+         * Returns the average number of slices needed to read an aggregate.
+         *
+         * @return Round trips per read or <code>0</code> if nothing was read yet.
+         */
+        public double getAverageSlicesPerLoad() {
+            return loadCount == 0 ? 0 : (double) sliceCount / loadCount;
+        }
+
+        /**
+         * Returns the moving average of the stream length.
+         *
+         * @return Number of events or <code>-1</code> if the latest version was never read.
+         */
+        public double getAverageStreamLength() {
+            return averageStreamLength;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics [aggregateType=" + aggregateType + ", idClass=" + idClass.getName() + ", loadCount=" + loadCount
+                    + ", eventCount=" + eventCount + ", sliceCount=" + sliceCount + ", lastPageSize=" + lastPageSize
+                    + ", averageStreamLength=" + averageStreamLength + "]";
+        }
+
+    }
+
+    private record Key(String aggregateType, Class<?> idClass) {
+    }
+
+    /**
+     * Mutable counters for one key.
+     */
+    private static final class Entry {
+
+        private long loadCount;
+
+        private long eventCount;
+
+        private long sliceCount;
+
+        private long pageSizeSum;
+
+        private int lastPageSize;
+
+        private double averageStreamLength = -1;
+
+        synchronized void loaded(final int pageSize, final int events, final int slices, final int streamLength) {
+            loadCount++;
+            eventCount += events;
+            sliceCount += slices;
+            pageSizeSum += pageSize;
+            lastPageSize = pageSize;
+            if (streamLength >= 0) {
+                if (averageStreamLength < 0) {
+                    averageStreamLength = streamLength;
+                } else {
+                    averageStreamLength += ALPHA * (streamLength - averageStreamLength);
+                }
+            }
+        }
+
+        synchronized double averageStreamLength() {
+            return averageStreamLength;
+        }
+
+        synchronized Statistics statistics(final Key key) {
+            return new Statistics(key.aggregateType(), key.idClass(), loadCount, eventCount, sliceCount, pageSizeSum, lastPageSize,
+                    averageStreamLength);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AggregateRootId;
+import org.fuin.ddd4j.core.EntityType;
+
+import java.io.Serial;
+
+/**
+ * Signals that the thread was interrupted while waiting to store the changes of an aggregate again after a version conflict. The
+ * interrupted flag of the thread is restored before this exception is thrown. The changes of the aggregate were not stored.
+ */
+public final class AggregateUpdateInterruptedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1000L;
+
+    /**
+     * Constructor with all data.
+     *
+     * @param type
+     *            Type of the aggregate.
+     * @param id
+     *            Unique identifier of the aggregate.
+     * @param cause
+     *            Interruption while waiting.
+     */
+    public AggregateUpdateInterruptedException(@NotNull final EntityType type, @NotNull final AggregateRootId id,
+            @NotNull final InterruptedException cause) {
+        super("Interrupted while waiting to retry the update of " + type.asString() + " (" + id.asString() + ")", cause);
+    }
+
+}
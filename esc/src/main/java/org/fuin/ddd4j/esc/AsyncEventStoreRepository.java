@@ -0,0 +1,492 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AggregateAlreadyExistsException;
+import org.fuin.ddd4j.core.AggregateDeletedException;
+import org.fuin.ddd4j.core.AggregateNotFoundException;
+import org.fuin.ddd4j.core.AggregateRoot;
+import org.fuin.ddd4j.core.AggregateRootId;
+import org.fuin.ddd4j.core.AggregateVersionConflictException;
+import org.fuin.ddd4j.core.AggregateVersionNotFoundException;
+import org.fuin.ddd4j.core.AsyncRepository;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.esc.api.CommonEvent;
+import org.fuin.esc.api.EventStoreAsync;
+import org.fuin.esc.api.StreamDeletedException;
+import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.api.StreamNotFoundException;
+import org.fuin.esc.api.TypeName;
+import org.fuin.esc.api.WrongExpectedVersionException;
+import org.fuin.objects4j.common.Contract;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Non-blocking event store based repository. Works exactly like the {@link EventStoreRepository} regarding paging, version conflicts,
+ * caching and snapshots, but never blocks a thread while waiting for the event store. Snapshots are loaded and saved by the
+ * {@link #getSnapshotExecutor() snapshot executor}, so the blocking snapshot store is neither used by the calling thread nor by the
+ * event store's completion threads.
+ *
+ * @param <ID>
+ *            Type of the aggregate root identifier.
+ * @param <AGGREGATE>
+ *            Type of the aggregate root.
+ */
+public abstract class AsyncEventStoreRepository<ID extends AggregateRootId, AGGREGATE extends AggregateRoot<ID>>
+        extends AbstractEventStoreRepository<ID, AGGREGATE> implements AsyncRepository<ID, AGGREGATE> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventStoreRepository.class);
+
+    private final EventStoreAsync eventStore;
+
+    /**
+     * Constructor with all mandatory data.
+     *
+     * @param eventStore
+     *            Event store.
+     */
+    protected AsyncEventStoreRepository(@NotNull final EventStoreAsync eventStore) {
+        super();
+
+        Contract.requireArgNotNull("eventStore", eventStore);
+
+        this.eventStore = eventStore;
+    }
+
+    @Override
+    public final CompletableFuture<AGGREGATE> readAsync(final ID aggregateId) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+        return initialAggregateAsync(aggregateId, Integer.MAX_VALUE)
+                .thenCompose(aggregate -> readAsync(aggregate, aggregateId, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public final CompletableFuture<AGGREGATE> readAsync(final ID aggregateId, final int version) {
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+        return initialAggregateAsync(aggregateId, version).thenCompose(aggregate -> {
+            if (aggregate.getVersion() == version) {
+                return CompletableFuture.completedFuture(aggregate);
+            }
+            return readAsync(aggregate, aggregateId, version);
+        });
+    }
+
+    /**
+     * Returns the aggregate to start reading with. The cache is used directly, a snapshot is loaded with the
+     * {@link #getSnapshotExecutor() snapshot executor}.
+     *
+     * @param aggregateId
+     *            Unique identifier of the aggregate.
+     * @param version
+     *            Requested version or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Future with an aggregate that may already have the requested version.
+     */
+    private CompletableFuture<AGGREGATE> initialAggregateAsync(final ID aggregateId, final int version) {
+        final AGGREGATE cached = cachedAggregate(aggregateId, version);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (!hasSnapshotStore()) {
+            return CompletableFuture.completedFuture(snapshotAggregate(aggregateId, version));
+        }
+        return CompletableFuture.supplyAsync(() -> snapshotAggregate(aggregateId, version), getSnapshotExecutor());
+    }
+
+    /**
+     * Reads an aggregate.
+     *
+     * @param aggregate
+     *            Aggregate to load.
+     * @param id
+     *            Unique identifier of the aggregate.
+     * @param targetAggregateVersion
+     *            Version of the aggregate to load or {@link Integer#MAX_VALUE} to read the latest version.
+     *
+     * @return Future with the aggregate in target version.
+     */
+    private CompletableFuture<AGGREGATE> readAsync(final AGGREGATE aggregate, final ID id, final int targetAggregateVersion) {
+
+        if (aggregate.hasUncommitedChanges()) {
+            return CompletableFuture.failedFuture(uncommittedChanges(aggregate));
+        }
+
+        LOG.info("Read aggregate: id={}, targetVersion={}", id.asTypedString(), targetAggregateVersion);
+
+        final AggregateStreamId streamId = streamId(id);
+        final int startVersion = aggregate.getVersion();
+        final int readPageSize = readPageSize(id, startVersion, targetAggregateVersion);
+        final long startTime = System.nanoTime();
+        final AtomicInteger sliceNumber = new AtomicInteger();
+
+        return mapReadExceptions(readSlices(aggregate, streamId, startVersion + 1, targetAggregateVersion, readPageSize,
+                ignoredEventTypes(), sliceNumber).thenCompose(loaded -> {
+                    if ((loaded.getVersion() != targetAggregateVersion) && (targetAggregateVersion < Integer.MAX_VALUE)) {
+                        return CompletableFuture.failedFuture(
+                                new AggregateVersionNotFoundException(getAggregateType(), id, targetAggregateVersion));
+                    }
+                    readCompleted(loaded, readPageSize, startVersion, targetAggregateVersion, sliceNumber.get());
+                    getAggregateCache().put(loaded.getId(), loaded);
+                    return saveSnapshotAsync(loaded, startVersion, Duration.ofNanos(System.nanoTime() - startTime))
+                            .thenApply(v -> loaded);
+                }), id);
+    }
+
+    /**
+     * Reads one slice after the other and applies the events to the aggregate until the target version or the end of the stream is
+     * reached.
+     */
+    private CompletableFuture<AGGREGATE> readSlices(final AGGREGATE aggregate, final AggregateStreamId streamId, final int sliceStart,
+            final int targetAggregateVersion, final int readPageSize, final Set<TypeName> ignoredEventTypes,
+            final AtomicInteger sliceNumber) {
+
+        return readForward(streamId, sliceStart, start -> sliceCount(readPageSize, start, targetAggregateVersion), currentSlice -> {
+            sliceNumber.incrementAndGet();
+            aggregate.loadFromHistory(new HistoricEventIterator(currentSlice.getEvents(), ignoredEventTypes, aggregate));
+            if ((aggregate.getVersion() != targetAggregateVersion) && !currentSlice.isEndOfStream()) {
+                return intVersion(currentSlice.getNextEventNumber());
+            }
+            return -1;
+        }).thenApply(v -> aggregate);
+    }
+
+    /**
+     * Reads the stream forward slice by slice in a loop. The next slice is requested only after the previous one was handled. Slices that
+     * are already available are handled by the current thread without nesting futures or calls, so long streams neither build a chain of
+     * dependent futures nor a deep stack.
+     *
+     * @param streamId
+     *            Stream to read.
+     * @param sliceStart
+     *            Event number of the first slice.
+     * @param sliceCount
+     *            Returns the number of events to read for a given slice start.
+     * @param sliceHandler
+     *            Handles a slice and returns the start of the next slice or a negative value if no more slices are required. May throw a
+     *            {@link CompletionException} to fail the read.
+     *
+     * @return Future that completes after the last slice was handled.
+     */
+    private CompletableFuture<Void> readForward(final AggregateStreamId streamId, final int sliceStart, final IntUnaryOperator sliceCount,
+            final ToIntFunction<StreamEventsSlice> sliceHandler) {
+
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        readForward(streamId, sliceStart, sliceCount, sliceHandler, result);
+        return result;
+
+    }
+
+    private void readForward(final AggregateStreamId streamId, final int sliceStart, final IntUnaryOperator sliceCount,
+            final ToIntFunction<StreamEventsSlice> sliceHandler, final CompletableFuture<Void> result) {
+
+        int nextSliceStart = sliceStart;
+        while (nextSliceStart >= 0) {
+            final int count = sliceCount.applyAsInt(nextSliceStart);
+            LOG.debug("Read slice: streamId={}, sliceStart={}, sliceCount={}", streamId, nextSliceStart, count);
+            final CompletableFuture<StreamEventsSlice> future = eventStore.readEventsForward(streamId, nextSliceStart, count);
+            if (!future.isDone()) {
+                future.whenComplete((slice, t) -> {
+                    final int next = handleSlice(slice, t, sliceHandler, result);
+                    if (next >= 0) {
+                        readForward(streamId, next, sliceCount, sliceHandler, result);
+                    }
+                });
+                return;
+            }
+            nextSliceStart = future.handle((slice, t) -> handleSlice(slice, t, sliceHandler, result)).join();
+        }
+
+    }
+
+    /**
+     * Handles the outcome of reading a slice and completes the result if no more slices are required.
+     *
+     * @return Start of the next slice or a negative value if the result was completed.
+     */
+    private static int handleSlice(final StreamEventsSlice slice, final Throwable t, final ToIntFunction<StreamEventsSlice> sliceHandler,
+            final CompletableFuture<Void> result) {
+
+        if (t != null) {
+            result.completeExceptionally(unwrap(t));
+            return -1;
+        }
+        LOG.debug("Result slice: {}", slice);
+        final int next;
+        try {
+            next = sliceHandler.applyAsInt(slice);
+        } catch (final RuntimeException ex) {
+            result.completeExceptionally(unwrap(ex));
+            return -1;
+        }
+        if (next < 0) {
+            result.complete(null);
+        }
+        return next;
+
+    }
+
+    /**
+     * Saves a snapshot with the {@link #getSnapshotExecutor() snapshot executor} if the policy requires it.
+     *
+     * @return Future that completes after the snapshot was saved or immediately if no snapshot is required.
+     */
+    private CompletableFuture<Void> saveSnapshotAsync(final AGGREGATE aggregate, final int previousVersion, final Duration replayDuration) {
+        if (!snapshotRequired(aggregate, previousVersion, replayDuration)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> saveSnapshot(aggregate), getSnapshotExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<Void> updateAsync(final AGGREGATE aggregate) {
+        return updateAsync(aggregate, null, null);
+    }
+
+    @Override
+    public final CompletableFuture<Void> updateAsync(final AGGREGATE aggregate, final String metaType, final Object metaData) {
+
+        Contract.requireArgNotNull("aggregate", aggregate);
+
+        LOG.info("Update aggregate: id={}, version={}, nextVersion={}", aggregate.getId().asTypedString(), aggregate.getVersion(),
+                aggregate.getNextVersion());
+
+        final AggregateStreamId streamId = streamId(aggregate.getId());
+        final List<CommonEvent> eventDataList = asCommonEvents(aggregate.getUncommittedChanges(), metaType, metaData);
+        final int previousVersion = aggregate.getVersion();
+
+        return append(aggregate, streamId, eventDataList, expectedVersion(aggregate), 0)
+                .thenCompose(v -> saveSnapshotAsync(aggregate, previousVersion, Duration.ZERO));
+
+    }
+
+    /**
+     * Appends the events to the stream and retries with a new expected version if a version conflict could be resolved.
+     */
+    private CompletableFuture<Void> append(final AGGREGATE aggregate, final AggregateStreamId streamId,
+            final List<CommonEvent> eventDataList, final long expectedVersion, final int retryCount) {
+
+        return eventStore.appendToStream(streamId, expectedVersion, eventDataList).thenAccept(nextVersion -> {
+            final int eventStoreNextVersion = intVersion(nextVersion);
+            if ((expectedVersion + eventDataList.size()) != eventStoreNextVersion) {
+                throw new IllegalStateException(
+                        "Aggregate next version is " + aggregate.getNextVersion() + " but event store's is " + eventStoreNextVersion);
+            }
+            aggregate.markChangesAsCommitted();
+        }).exceptionallyCompose(t -> {
+            final Throwable cause = unwrap(t);
+            if (cause instanceof WrongExpectedVersionException ex) {
+                LOG.debug("Version conflict: id={}, expected={}, actual={}, retryCount={}", aggregate.getId().asTypedString(),
+                        ex.getExpected(), ex.getActual(), retryCount);
+                return resolveConflicts(aggregate, expectedVersion, integerVersion(ex.getActual()), retryCount).thenCompose(
+                        newExpectedVersion -> append(aggregate, streamId, eventDataList, newExpectedVersion, retryCount + 1));
+            }
+            if (cause instanceof StreamDeletedException || cause instanceof StreamNotFoundException) {
+                return CompletableFuture.failedFuture(new AggregateNotFoundException(getAggregateType(), aggregate.getId()));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    /**
+     * Verifies if the changes conflict and returns a new expected number if not. Only the events after the expected version are read, so
+     * events checked during a previous try are not read again. Waits a random time before the unseen events are read.
+     *
+     * @param aggregate
+     *            Aggregate to failed to be saved.
+     * @param expectedVersion
+     *            Version that was expected when storing the changes. All events up to this version are already known.
+     * @param actualVersion
+     *            Latest version from the event store or {@literal null} if unknown.
+     * @param retryCount
+     *            Retry counter.
+     *
+     * @return Future with the new expected version. Completes exceptionally with an {@link AggregateVersionConflictException} if the
+     *         conflict cannot be resolved.
+     */
+    private CompletableFuture<Integer> resolveConflicts(final AGGREGATE aggregate, final long expectedVersion, final Integer actualVersion,
+            final int retryCount) {
+
+        try {
+            conflictOccurred(aggregate, actualVersion, retryCount);
+        } catch (final AggregateVersionConflictException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        final ID aggregateId = aggregate.getId();
+        final Duration delay = retryDelay(retryCount);
+        final Executor executor;
+        if (delay.isZero()) {
+            executor = Runnable::run;
+        } else {
+            LOG.debug("Wait before retry: id={}, delay={}", aggregateId.asTypedString(), delay);
+            executor = CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return CompletableFuture.supplyAsync(() -> intVersion(expectedVersion + 1), executor).thenCompose(startVersion -> {
+            LOG.info("Read unseen events: id={}, startVersion={}", aggregateId.asTypedString(), startVersion);
+            return mapReadExceptions(
+                    checkUnseenEvents(aggregate, streamId(aggregateId), startVersion, getReadPageSize(), ignoredEventTypes()),
+                    aggregateId);
+        }).thenApply(latestVersion -> {
+            conflictResolved();
+            return latestVersion;
+        });
+
+    }
+
+    /**
+     * Reads the unseen events slice by slice and checks each slice for conflicts.
+     *
+     * @return Future with the latest version. Completes exceptionally with an {@link AggregateVersionConflictException} if there are
+     *         conflicting changes.
+     */
+    private CompletableFuture<Integer> checkUnseenEvents(final AGGREGATE aggregate, final AggregateStreamId streamId, final int sliceStart,
+            final int sliceCount, final Set<TypeName> ignoredEventTypes) {
+
+        final AtomicInteger latestVersion = new AtomicInteger(sliceStart - 1);
+        return readForward(streamId, sliceStart, start -> sliceCount, currentSlice -> {
+            final List<DomainEvent<?>> unseenEvents = new ArrayList<>();
+            addDomainEvents(currentSlice, ignoredEventTypes, unseenEvents);
+            final int nextSliceStart = intVersion(currentSlice.getNextEventNumber());
+            latestVersion.set(nextSliceStart - 1);
+            if (!unseenEvents.isEmpty() && !conflictsResolved(aggregate.getUncommittedChanges(), unseenEvents)) {
+                throw new CompletionException(conflictUnresolved(aggregate, nextSliceStart - 1));
+            }
+            if (currentSlice.isEndOfStream()) {
+                return -1;
+            }
+            return nextSliceStart;
+        }).thenApply(v -> latestVersion.get());
+    }
+
+    @Override
+    public final CompletableFuture<Void> addAsync(final AGGREGATE aggregate) {
+        return addAsync(aggregate, null, null);
+    }
+
+    @Override
+    public final CompletableFuture<Void> addAsync(final AGGREGATE aggregate, final String metaType, final Object metaData) {
+
+        return updateAsync(aggregate, metaType, metaData).exceptionallyCompose(t -> {
+            final Throwable cause = unwrap(t);
+            if (cause instanceof AggregateVersionConflictException ex) {
+                return CompletableFuture
+                        .failedFuture(new AggregateAlreadyExistsException(getAggregateType(), aggregate.getId(), ex.getActual()));
+            }
+            if (cause instanceof AggregateNotFoundException) {
+                return CompletableFuture.failedFuture(new IllegalStateException(cause));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+
+    }
+
+    @Override
+    public final CompletableFuture<Void> deleteAsync(final ID aggregateId, final int expectedVersion) {
+
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+
+        LOG.info("Delete aggregate: id={}, expectedVersion={}", aggregateId.asTypedString(), expectedVersion);
+
+        return eventStore.deleteStream(streamId(aggregateId), expectedVersion, false).thenCompose(v -> removeSnapshotsAsync(aggregateId))
+                .exceptionallyCompose(t -> {
+                    final Throwable cause = unwrap(t);
+                    if (cause instanceof WrongExpectedVersionException ex) {
+                        return CompletableFuture.failedFuture(new AggregateVersionConflictException(getAggregateType(), aggregateId,
+                                integerVersion(ex.getExpected()), integerVersion(ex.getActual())));
+                    }
+                    if (cause instanceof StreamDeletedException) {
+                        LOG.debug("Aggregate {} was already deleted: {}", aggregateId, cause.getMessage());
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    /**
+     * Removes the snapshots of a deleted aggregate with the {@link #getSnapshotExecutor() snapshot executor}.
+     */
+    private CompletableFuture<Void> removeSnapshotsAsync(final ID aggregateId) {
+        if (!hasSnapshotStore()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> removeSnapshots(aggregateId), getSnapshotExecutor());
+    }
+
+    /**
+     * Replaces the event store exceptions of a read operation with the corresponding aggregate exceptions.
+     */
+    private <T> CompletableFuture<T> mapReadExceptions(final CompletableFuture<T> future, final ID aggregateId) {
+        return future.exceptionallyCompose(t -> {
+            final Throwable cause = unwrap(t);
+            if (cause instanceof StreamNotFoundException) {
+                return CompletableFuture.failedFuture(new AggregateNotFoundException(getAggregateType(), aggregateId));
+            }
+            if (cause instanceof StreamDeletedException) {
+                return CompletableFuture.failedFuture(new AggregateDeletedException(getAggregateType(), aggregateId));
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private static Throwable unwrap(final Throwable t) {
+        Throwable cause = t;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Returns the executor used to load, save and remove snapshots, as the {@link org.fuin.ddd4j.core.SnapshotStore} blocks. Only used if a
+     * {@link #getSnapshotStore() snapshot store} is configured. This method may be overwritten by concrete implementation. Returns the
+     * common fork join pool as default if not overwritten in subclasses.
+     *
+     * @return Executor for snapshot operations.
+     */
+    @NotNull
+    protected Executor getSnapshotExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Returns the underlying event store.
+     *
+     * @return Event store.
+     */
+    @NotNull
+    protected final EventStoreAsync getEventStore() {
+        return eventStore;
+    }
+
+}
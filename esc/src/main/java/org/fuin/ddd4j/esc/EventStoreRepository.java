@@ -18,22 +18,19 @@
 package org.fuin.ddd4j.esc;
 
 import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AbstractAggregateException;
 import org.fuin.ddd4j.core.AggregateAlreadyExistsException;
-import org.fuin.ddd4j.core.AggregateCache;
 import org.fuin.ddd4j.core.AggregateDeletedException;
-import org.fuin.ddd4j.core.AggregateNoCache;
 import org.fuin.ddd4j.core.AggregateNotFoundException;
 import org.fuin.ddd4j.core.AggregateRoot;
 import org.fuin.ddd4j.core.AggregateRootId;
 import org.fuin.ddd4j.core.AggregateVersionConflictException;
 import org.fuin.ddd4j.core.AggregateVersionNotFoundException;
+import org.fuin.ddd4j.core.BulkReadResult;
 import org.fuin.ddd4j.core.DomainEvent;
 import org.fuin.ddd4j.core.Repository;
 import org.fuin.esc.api.CommonEvent;
-import org.fuin.esc.api.EventId;
 import org.fuin.esc.api.EventStore;
-import org.fuin.esc.api.ExpectedVersion;
-import org.fuin.esc.api.SimpleCommonEvent;
 import org.fuin.esc.api.StreamDeletedException;
 import org.fuin.esc.api.StreamEventsSlice;
 import org.fuin.esc.api.StreamNotFoundException;
@@ -43,11 +40,30 @@ import org.fuin.objects4j.common.Contract;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Event store based repository.
+ * Event store based repository. If a {@link #getSnapshotStore() snapshot store} is configured, reading an aggregate that is not in the
+ * cache starts with the newest snapshot at or below the requested version and replays only the events after it. The
+ * {@link #getSnapshotPolicy() snapshot policy} decides when new snapshots are taken after reading or updating an aggregate.
  *
  * @param <ID>
  *            Type of the aggregate root identifier.
@@ -55,16 +71,18 @@ import java.util.List;
  *            Type of the aggregate root.
  */
 public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE extends AggregateRoot<ID>>
-        implements Repository<ID, AGGREGATE> {
-
-    private static final String MAX_AGGREGATE_VERSION_EXCEEDED = "Exceeded maximum number of aggregate versions."
-            + " The Event Store operates with 'long' versions but aggregates only can handle 'int' versions.";
+        extends AbstractEventStoreRepository<ID, AGGREGATE> implements Repository<ID, AGGREGATE> {
 
     private static final Logger LOG = LoggerFactory.getLogger(EventStoreRepository.class);
 
-    private final EventStore eventStore;
+    private static final int DEFAULT_POOL_SIZE = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final ExecutorService READ_ALL_EXECUTOR = boundedPool("ddd4j-read-all-", new ThreadPoolExecutor.AbortPolicy());
 
-    private final AggregateCache<AGGREGATE> noCache;
+    // Separate from the read all pool, as the read all workers wait for the prefetched slices
+    private static final ExecutorService PREFETCH_EXECUTOR = boundedPool("ddd4j-prefetch-", new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private final EventStore eventStore;
 
     /**
      * Constructor with all mandatory data.
@@ -78,7 +96,6 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
         Contract.requireArgNotNull("eventStore", eventStore);
 
         this.eventStore = eventStore;
-        noCache = new AggregateNoCache<>();
     }
 
     @Override
@@ -86,12 +103,7 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
 
         Contract.requireArgNotNull("aggregateId", aggregateId);
         try {
-            AGGREGATE aggregate = getAggregateCache().get(aggregateId, null);
-            if (aggregate == null) {
-                LOG.debug("Aggregate {} not found in cache", aggregateId.asTypedString());
-                aggregate = create();
-            }
-            return read(aggregate, aggregateId, Integer.MAX_VALUE);
+            return read(initialAggregate(aggregateId, Integer.MAX_VALUE), aggregateId, Integer.MAX_VALUE);
         } catch (final AggregateVersionNotFoundException ex) {
             // Cannot happen because we requested the latest version
             throw new RuntimeException(ex);
@@ -104,21 +116,133 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
 
         Contract.requireArgNotNull("aggregateId", aggregateId);
 
-        AGGREGATE aggregate = getAggregateCache().get(aggregateId, version);
-        if (aggregate == null) {
-            LOG.debug("Aggregate {} not found in cache", aggregateId.asTypedString());
-            aggregate = create();
-        } else if (aggregate.getVersion() > version) {
-            LOG.debug("Aggregate {} found in cache - Requested version {}, but found: {}", aggregateId.asTypedString(), version,
-                    aggregate.getVersion());
-            aggregate = create();
-        } else if (aggregate.getVersion() == version) {
-            LOG.debug("Aggregate {} found in cache with requested version: {}", aggregateId.asTypedString(), version);
+        final AGGREGATE aggregate = initialAggregate(aggregateId, version);
+        if (aggregate.getVersion() == version) {
             return aggregate;
         }
         return read(aggregate, aggregateId, version);
     }
 
+    /**
+     * Reads the latest version of multiple aggregates in parallel. At most {@link #getReadAllParallelism()} aggregates are read at the
+     * same time using the {@link #getReadAllExecutor() executor} and the calling thread. All reads share the aggregate cache. Runtime
+     * exceptions are not reported per aggregate, but the first one is re-thrown after all running reads finished.
+     */
+    @Override
+    public final BulkReadResult<ID, AGGREGATE> readAll(final Collection<ID> aggregateIds) {
+
+        Contract.requireArgNotNull("aggregateIds", aggregateIds);
+
+        final List<ID> ids = new ArrayList<>(new LinkedHashSet<>(aggregateIds));
+        final int workerCount = Math.min(Math.max(1, getReadAllParallelism()), ids.size());
+
+        LOG.info("Read all aggregates: count={}, workers={}", ids.size(), workerCount);
+
+        final Map<ID, AGGREGATE> aggregates = new ConcurrentHashMap<>();
+        final Map<ID, AbstractAggregateException> failures = new ConcurrentHashMap<>();
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < ids.size()) {
+                final ID id = ids.get(index);
+                try {
+                    aggregates.put(id, read(id));
+                } catch (final AggregateNotFoundException | AggregateDeletedException ex) {
+                    failures.put(id, ex);
+                } catch (final RuntimeException ex) {
+                    // Stop all other workers
+                    next.set(ids.size());
+                    throw ex;
+                }
+            }
+        };
+
+        // The calling thread is one of the workers
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            for (int i = 1; i < workerCount; i++) {
+                futures.add(CompletableFuture.runAsync(worker, getReadAllExecutor()));
+            }
+        } catch (final RejectedExecutionException ex) {
+            LOG.debug("Executor rejected worker - Continue with {} workers", futures.size() + 1);
+        }
+        boolean callerCompleted = false;
+        try {
+            worker.run();
+            callerCompleted = true;
+        } finally {
+            // Also wait if the calling thread failed, so no read is running after this method returned
+            awaitWorkers(futures, callerCompleted);
+        }
+
+        final Map<ID, AGGREGATE> orderedAggregates = new LinkedHashMap<>();
+        final Map<ID, AbstractAggregateException> orderedFailures = new LinkedHashMap<>();
+        for (final ID id : ids) {
+            if (aggregates.containsKey(id)) {
+                orderedAggregates.put(id, aggregates.get(id));
+            } else {
+                orderedFailures.put(id, failures.get(id));
+            }
+        }
+        return new BulkReadResult<>(orderedAggregates, orderedFailures);
+
+    }
+
+    /**
+     * Waits until all workers of {@link #readAll(Collection)} finished.
+     *
+     * @param futures
+     *            Futures of the workers.
+     * @param rethrow
+     *            {@literal true} if the first failure of a worker should be thrown, {@literal false} if it should only be logged, as
+     *            another exception is already thrown.
+     */
+    private static void awaitWorkers(final List<CompletableFuture<Void>> futures, final boolean rethrow) {
+        RuntimeException failure = null;
+        for (final CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (final CompletionException ex) {
+                final RuntimeException cause = ex.getCause() instanceof RuntimeException rex ? rex : ex;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure == null) {
+            return;
+        }
+        if (rethrow) {
+            throw failure;
+        }
+        LOG.warn("Worker failed after the calling thread already failed", failure);
+    }
+
+    /**
+     * Creates a pool of daemon threads with at most {@link #DEFAULT_POOL_SIZE} threads that are shared by all repositories. Idle threads
+     * are terminated. Tasks are not queued, so the handler is called if all threads are busy.
+     *
+     * @param namePrefix
+     *            Prefix for the name of the threads.
+     * @param handler
+     *            Decides what happens with a task if all threads are busy.
+     *
+     * @return New executor.
+     */
+    private static ExecutorService boundedPool(final String namePrefix, final RejectedExecutionHandler handler) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, handler);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Reads an aggregate.
      *
@@ -145,54 +269,55 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
 
         LOG.info("Read aggregate: id={}, targetVersion={}", id.asTypedString(), targetAggregateVersion);
 
-        final AggregateStreamId streamId = new AggregateStreamId(getAggregateType(), getIdParamName(), id);
-        final int readPageSize = getReadPageSize();
+        final AggregateStreamId streamId = streamId(id);
+        final Set<TypeName> ignoredEventTypes = ignoredEventTypes();
+        final int startVersion = aggregate.getVersion();
+        final int readPageSize = readPageSize(id, startVersion, targetAggregateVersion);
+        final long startTime = System.nanoTime();
+        int sliceNumber = 0;
+
+        final int readAheadSlices = getReadAheadSlices();
+        try (final SlicePrefetcher prefetcher = readAheadSlices > 0 ? new SlicePrefetcher(getEventStore(), streamId, readPageSize,
+                targetAggregateVersion, readAheadSlices, getPrefetchExecutor()) : null) {
+
+            int sliceStart = startVersion + 1;
+            StreamEventsSlice currentSlice;
+            do {
+                final int sliceCount = sliceCount(readPageSize, sliceStart, targetAggregateVersion);
+
+                try {
+                    LOG.debug("Read slice: streamId={}, sliceStart={}, sliceCount={}", streamId, sliceStart, sliceCount);
+                    if (prefetcher == null) {
+                        currentSlice = getEventStore().readEventsForward(streamId, sliceStart, sliceCount);
+                    } else {
+                        currentSlice = prefetcher.next(sliceStart);
+                    }
+                    LOG.debug("Result slice: {}", currentSlice);
+                } catch (final StreamNotFoundException ex) {
+                    throw new AggregateNotFoundException(getAggregateType(), id);
+                } catch (final StreamDeletedException ex) {
+                    throw new AggregateDeletedException(getAggregateType(), id);
+                }
 
-        int sliceStart = aggregate.getVersion() + 1;
-        StreamEventsSlice currentSlice;
-        do {
-            final int sliceCount;
-            if (readPageSize <= targetAggregateVersion) {
-                sliceCount = readPageSize;
-            } else {
-                sliceCount = targetAggregateVersion - sliceStart + 1;
-            }
+                aggregate.loadFromHistory(new HistoricEventIterator(currentSlice.getEvents(), ignoredEventTypes, aggregate));
 
-            try {
-                LOG.debug("Read slice: streamId={}, sliceStart={}, sliceCount={}", streamId, sliceStart, sliceCount);
-                currentSlice = getEventStore().readEventsForward(streamId, sliceStart, sliceCount);
-                LOG.debug("Result slice: {}", currentSlice);
-            } catch (final StreamNotFoundException ex) {
-                throw new AggregateNotFoundException(getAggregateType(), id);
-            } catch (final StreamDeletedException ex) {
-                throw new AggregateDeletedException(getAggregateType(), id);
-            }
+                sliceStart = intVersion(currentSlice.getNextEventNumber());
+                sliceNumber++;
 
-            for (final CommonEvent commonEvent : currentSlice.getEvents()) {
-                final DomainEvent<?> event = (DomainEvent<?>) commonEvent.getData();
-                aggregate.loadFromHistory(event);
-            }
-
-            sliceStart = intVersion(currentSlice.getNextEventNumber());
+            } while ((aggregate.getVersion() != targetAggregateVersion) && !currentSlice.isEndOfStream());
 
-        } while ((aggregate.getVersion() != targetAggregateVersion) && !currentSlice.isEndOfStream());
+        }
 
         if ((aggregate.getVersion() != targetAggregateVersion) && (targetAggregateVersion < Integer.MAX_VALUE)) {
             throw new AggregateVersionNotFoundException(getAggregateType(), id, targetAggregateVersion);
         }
 
-        getAggregateCache().put(aggregate.getId(), aggregate);
+        readCompleted(aggregate, readPageSize, startVersion, targetAggregateVersion, sliceNumber);
+        afterRead(aggregate, startVersion, startTime);
 
         return aggregate;
     }
 
-    private void requireNoUncommittedChanges(final AGGREGATE aggregate) {
-        if (aggregate.hasUncommitedChanges()) {
-            throw new IllegalArgumentException(
-                    "The aggregate '" + getAggregateType() + "' (" + aggregate.getId() + ") has uncommitted changes");
-        }
-    }
-
     @Override
     public final void update(final AGGREGATE aggregate)
             throws AggregateVersionConflictException, AggregateNotFoundException, AggregateDeletedException {
@@ -208,11 +333,12 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
         LOG.info("Update aggregate: id={}, version={}, nextVersion={}", aggregate.getId().asTypedString(), aggregate.getVersion(),
                 aggregate.getNextVersion());
 
-        final AggregateStreamId streamId = new AggregateStreamId(getAggregateType(), getIdParamName(), aggregate.getId());
+        final AggregateStreamId streamId = streamId(aggregate.getId());
 
         final List<DomainEvent<?>> events = aggregate.getUncommittedChanges();
         final List<CommonEvent> eventDataList = asCommonEvents(events, metaType, metaData);
 
+        final int previousVersion = aggregate.getVersion();
         long expectedVersion = expectedVersion(aggregate);
         int retryCount = 0;
         boolean unsaved = true;
@@ -228,13 +354,15 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
             } catch (final WrongExpectedVersionException ex) {
                 LOG.debug("Version conflict: id={}, expected={}, actual={}, retryCount={}", aggregate.getId().asTypedString(),
                         ex.getExpected(), ex.getActual(), retryCount);
-                expectedVersion = resolveConflicts(aggregate, integerVersion(ex.getActual()), retryCount++);
+                expectedVersion = resolveConflicts(aggregate, expectedVersion, integerVersion(ex.getActual()), retryCount++);
             } catch (final StreamDeletedException | StreamNotFoundException ex) {
                 throw new AggregateNotFoundException(getAggregateType(), aggregate.getId());
             }
 
         } while (unsaved);
 
+        saveSnapshotIfRequired(aggregate, previousVersion, Duration.ZERO);
+
     }
 
     @Override
@@ -256,20 +384,16 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
 
     }
 
-    private int expectedVersion(final AGGREGATE aggregate) {
-        if (aggregate.getVersion() == -1) {
-            return intVersion(ExpectedVersion.NO_OR_EMPTY_STREAM.getNo());
-        }
-        return aggregate.getVersion();
-    }
-
     /**
-     * Verifies if the changes conflict and returns a new expected number if not.
+     * Verifies if the changes conflict and returns a new expected number if not. Only the events after the expected version are read, so
+     * events checked during a previous try are not read again. Waits a random time before the changes are stored again.
      *
      * @param aggregate
      *            Aggregate to failed to be saved.
+     * @param expectedVersion
+     *            Version that was expected when storing the changes. All events up to this version are already known.
      * @param actualVersion
-     *            Latest version from the event store.
+     *            Latest version from the event store or {@literal null} if unknown.
      * @param retryCount
      *            Retry counter.
      *
@@ -281,76 +405,24 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
      *             The aggregate with the given identifier was already deleted.
      * @throws AggregateNotFoundException
      *             An aggregate with the given identifier was not found.
+     * @throws AggregateUpdateInterruptedException
+     *             The thread was interrupted while waiting.
      */
-    private int resolveConflicts(final AGGREGATE aggregate, final Integer actualVersion, final int retryCount)
+    private int resolveConflicts(final AGGREGATE aggregate, final long expectedVersion, final Integer actualVersion, final int retryCount)
             throws AggregateVersionConflictException, AggregateNotFoundException, AggregateDeletedException {
 
-        final int latestVersion;
-        if (actualVersion == null || actualVersion < 0) {
-            // TODO Remove workaround if event store returns latest version.
-            // See https://github.com/EventStore/EventStore/issues/1052
-            latestVersion = read(aggregate.getId()).getVersion();
-        } else {
-            latestVersion = actualVersion;
-        }
-
-        // Check how many times we should try
-        if (retryCount == getMaxTryCount()) {
-            throw new AggregateVersionConflictException(getAggregateType(), aggregate.getId(), aggregate.getVersion(), latestVersion);
-        }
-
-        // Load unseen events and try to resolve the conflict
-        final List<DomainEvent<?>> unseenEvents = readEvents(aggregate.getId(), aggregate.getVersion() + 1);
-        if (conflictsResolved(aggregate.getUncommittedChanges(), unseenEvents)) {
-            return latestVersion;
-        }
-        throw new AggregateVersionConflictException(getAggregateType(), aggregate.getId(), aggregate.getVersion(), latestVersion);
-
-    }
+        conflictOccurred(aggregate, actualVersion, retryCount);
+        backoff(aggregate, retryCount);
 
-    @Override
-    public final void delete(final ID aggregateId, final int expectedVersion) throws AggregateVersionConflictException {
-
-        Contract.requireArgNotNull("aggregateId", aggregateId);
-
-        LOG.info("Delete aggregate: id={}, expectedVersion={}", aggregateId.asTypedString(), expectedVersion);
-
-        try {
-            final AggregateStreamId streamId = new AggregateStreamId(getAggregateType(), getIdParamName(), aggregateId);
-            getEventStore().deleteStream(streamId, expectedVersion, false);
-        } catch (final WrongExpectedVersionException ex) {
-            throw new AggregateVersionConflictException(getAggregateType(), aggregateId, integerVersion(ex.getExpected()),
-                    integerVersion(ex.getActual()));
-        } catch (final StreamDeletedException ex) {
-            LOG.debug("Aggregate {} was already deleted: {}", aggregateId, ex.getMessage());
-        }
-    }
+        final ID aggregateId = aggregate.getId();
+        LOG.info("Read unseen events: id={}, startVersion={}", aggregateId.asTypedString(), expectedVersion + 1);
 
-    /**
-     * Reads all events for the given aggregate starting with a given number.
-     *
-     * @param aggregateId
-     *            Unique identifier of the aggregate to read the events for.
-     * @param startVersion
-     *            First event number to read.
-     *
-     * @return List of events.
-     *
-     * @throws AggregateNotFoundException
-     *             An aggregate with the given identifier was not found.
-     * @throws AggregateDeletedException
-     *             The aggregate with the given identifier was already deleted.
-     */
-    private List<DomainEvent<?>> readEvents(final ID aggregateId, final int startVersion)
-            throws AggregateNotFoundException, AggregateDeletedException {
-
-        LOG.info("Read events: id={}, startVersion={}", aggregateId.asTypedString(), startVersion);
-
-        final List<DomainEvent<?>> list = new ArrayList<>();
-        final AggregateStreamId streamId = new AggregateStreamId(getAggregateType(), getIdParamName(), aggregateId);
+        final AggregateStreamId streamId = streamId(aggregateId);
         final int sliceCount = getReadPageSize();
+        final Set<TypeName> ignoredEventTypes = ignoredEventTypes();
+        final List<DomainEvent<?>> uncommittedChanges = aggregate.getUncommittedChanges();
 
-        int sliceStart = startVersion;
+        int sliceStart = intVersion(expectedVersion + 1);
         StreamEventsSlice currentSlice;
         do {
 
@@ -364,99 +436,113 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
                 throw new AggregateDeletedException(getAggregateType(), aggregateId);
             }
 
-            for (final CommonEvent commonEvent : currentSlice.getEvents()) {
-                final DomainEvent<?> event = (DomainEvent<?>) commonEvent.getData();
-                list.add(event);
-            }
-
+            final List<DomainEvent<?>> unseenEvents = new ArrayList<>();
+            addDomainEvents(currentSlice, ignoredEventTypes, unseenEvents);
             sliceStart = intVersion(currentSlice.getNextEventNumber());
+            if (!unseenEvents.isEmpty() && !conflictsResolved(uncommittedChanges, unseenEvents)) {
+                throw conflictUnresolved(aggregate, sliceStart - 1);
+            }
 
         } while (!currentSlice.isEndOfStream());
 
-        return list;
-    }
+        conflictResolved();
+        return sliceStart - 1;
 
-    private List<CommonEvent> asCommonEvents(final List<DomainEvent<?>> events, final String metaType, final Object metaData) {
-        final List<CommonEvent> list = new ArrayList<>();
-        for (final DomainEvent<?> event : events) {
-            final SimpleCommonEvent sce;
-            if (metaData == null) {
-                sce = new SimpleCommonEvent(new EventId(event.getEventId().asBaseType()), new TypeName(event.getEventType().asBaseType()),
-                        event);
-            } else {
-                if (metaType == null) {
-                    throw new IllegalArgumentException("Argument 'metaType' cannot be null if 'metaData' is provided (non-null)");
-                }
-                sce = new SimpleCommonEvent(new EventId(event.getEventId().asBaseType()), new TypeName(event.getEventType().asBaseType()),
-                        event, new TypeName(metaType), metaData);
-            }
-            list.add(sce);
-        }
-        return list;
     }
 
-    private int intVersion(final long version) {
-        if (version > Integer.MAX_VALUE) {
-            throw new IllegalStateException(MAX_AGGREGATE_VERSION_EXCEEDED);
+    /**
+     * Waits before the next try to store the changes.
+     *
+     * @param aggregate
+     *            Aggregate to failed to be saved.
+     * @param retryCount
+     *            Retry counter.
+     *
+     * @throws AggregateUpdateInterruptedException
+     *             The thread was interrupted while waiting. The interrupted flag is restored.
+     */
+    private void backoff(final AGGREGATE aggregate, final int retryCount) {
+        final Duration delay = retryDelay(retryCount);
+        if (delay.isZero()) {
+            return;
+        }
+        LOG.debug("Wait before retry: id={}, delay={}", aggregate.getId().asTypedString(), delay);
+        try {
+            Thread.sleep(delay.toMillis(), delay.toNanosPart() % 1_000_000);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AggregateUpdateInterruptedException(getAggregateType(), aggregate.getId(), ex);
         }
-        return (int) version;
     }
 
-    private Integer integerVersion(final Long version) {
-        if (version == null) {
-            return null;
-        }
-        if (version > Integer.MAX_VALUE) {
-            throw new IllegalStateException(MAX_AGGREGATE_VERSION_EXCEEDED);
+    @Override
+    public final void delete(final ID aggregateId, final int expectedVersion) throws AggregateVersionConflictException {
+
+        Contract.requireArgNotNull("aggregateId", aggregateId);
+
+        LOG.info("Delete aggregate: id={}, expectedVersion={}", aggregateId.asTypedString(), expectedVersion);
+
+        try {
+            final AggregateStreamId streamId = streamId(aggregateId);
+            getEventStore().deleteStream(streamId, expectedVersion, false);
+            removeSnapshots(aggregateId);
+        } catch (final WrongExpectedVersionException ex) {
+            throw new AggregateVersionConflictException(getAggregateType(), aggregateId, integerVersion(ex.getExpected()),
+                    integerVersion(ex.getActual()));
+        } catch (final StreamDeletedException ex) {
+            LOG.debug("Aggregate {} was already deleted: {}", aggregateId, ex.getMessage());
         }
-        return version.intValue();
     }
 
     /**
-     * Checks if the uncommitted changes conflicts with unseen changes from the event store and tries to solve the problem. This method may
-     * be overwritten by concrete implementation. Returns FALSE as default if not overwritten in subclasses.
-     *
-     * @param uncommittedChanges
-     *            Uncommitted changes.
-     * @param unseenEvents
-     *            Unseen changes from the event store.
+     * Returns the executor used by {@link #readAll(Collection)} to read aggregates in parallel. Replace it for example with a virtual
+     * thread per task executor on Java 21 or with a managed executor in an application server. A worker that is rejected by the
+     * executor is not started, so the calling thread reads more aggregates itself. This method may be overwritten by concrete
+     * implementation. Returns a pool of daemon threads shared by all repositories as default if not overwritten in subclasses. It limits
+     * the number of threads to twice the number of processors (At least 8) over all concurrent calls and rejects workers if all threads
+     * are busy.
      *
-     * @return TRUE if there are no conflicting changes, else FALSE (conflict couldn't be resolved).
+     * @return Executor.
      */
-    protected boolean conflictsResolved(final List<DomainEvent<?>> uncommittedChanges, final List<DomainEvent<?>> unseenEvents) {
-        return false;
+    @NotNull
+    protected Executor getReadAllExecutor() {
+        return READ_ALL_EXECUTOR;
     }
 
     /**
-     * Returns the number of tries that should be done to resolve a version conflict. This method may be overwritten by concrete
-     * implementation. Returns <code>3</code> as default if not overwritten in subclasses.
+     * Returns the maximum number of aggregates that {@link #readAll(Collection)} reads at the same time. This method may be overwritten
+     * by concrete implementation. Returns <code>8</code> as default if not overwritten in subclasses.
      *
-     * @return Number of tries.
+     * @return Number of parallel reads (Minimum 1).
      */
-    // integer).
-    protected int getMaxTryCount() {
-        return 3;
+    protected int getReadAllParallelism() {
+        return 8;
     }
 
     /**
-     * Returns the aggregate cache. This method may be overwritten by concrete implementation. Returns no cache as default if not
-     * overwritten in subclasses.
+     * Returns the number of slices that are requested in advance while reading an aggregate. With a value greater than zero, the next
+     * slices are already read from the event store while the events of the current slice are applied, so latency of the store and the
+     * time to apply the events overlap. At most this number of slices (each {@link #getReadPageSize()} events) is held in memory in
+     * addition to the current one. This method may be overwritten by concrete implementation. Returns <code>0</code> (no prefetching) as
+     * default if not overwritten in subclasses.
      *
-     * @return Cache.
+     * @return Number of slices to read ahead.
      */
-    @NotNull
-    protected AggregateCache<AGGREGATE> getAggregateCache() {
-        return noCache;
+    protected int getReadAheadSlices() {
+        return 0;
     }
 
     /**
-     * Returns the number of events to read in a slice. This method may be overwritten by concrete implementation. Returns <code>100</code>
-     * as default if not overwritten in subclasses.
+     * Returns the executor used to read slices in advance. Only used if {@link #getReadAheadSlices()} is greater than zero. This method
+     * may be overwritten by concrete implementation. Returns a pool of daemon threads shared by all repositories as default if not
+     * overwritten in subclasses. It limits the number of threads to twice the number of processors (At least 8) over all concurrent reads.
+     * If all threads are busy, the reading thread requests the slice itself, so reads are not slowed down by waiting for the pool.
      *
-     * @return Page size.
+     * @return Executor.
      */
-    public int getReadPageSize() {
-        return 100;
+    @NotNull
+    protected Executor getPrefetchExecutor() {
+        return PREFETCH_EXECUTOR;
     }
 
     /**
@@ -469,12 +555,4 @@ public abstract class EventStoreRepository<ID extends AggregateRootId, AGGREGATE
         return eventStore;
     }
 
-    /**
-     * Returns the parameter name for the unique identifier.
-     *
-     * @return Name to be used as parameter.
-     */
-    @NotNull
-    protected abstract String getIdParamName();
-
 }
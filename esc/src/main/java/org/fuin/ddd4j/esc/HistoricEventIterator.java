@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.AggregateRoot;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.esc.api.CommonEvent;
+import org.fuin.esc.api.TypeName;
+import org.fuin.objects4j.common.Contract;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Iterates over the domain events of a slice read from the event store. Events with an ignored type name are not returned and their
+ * payload is never accessed. Instead the aggregate is told to skip them when they are passed, so the version stays in sync with the
+ * stream.
+ */
+final class HistoricEventIterator implements Iterator<DomainEvent<?>> {
+
+    private final Iterator<CommonEvent> events;
+
+    private final Set<TypeName> ignoredEventTypes;
+
+    private final AggregateRoot<?> aggregate;
+
+    private CommonEvent next;
+
+    /**
+     * Constructor with all mandatory data.
+     *
+     * @param events
+     *            Events of the slice.
+     * @param ignoredEventTypes
+     *            Names of the event types to skip.
+     * @param aggregate
+     *            Aggregate that is loaded with the events.
+     */
+    HistoricEventIterator(@NotNull final List<CommonEvent> events, @NotNull final Set<TypeName> ignoredEventTypes,
+            @NotNull final AggregateRoot<?> aggregate) {
+        super();
+        Contract.requireArgNotNull("events", events);
+        Contract.requireArgNotNull("ignoredEventTypes", ignoredEventTypes);
+        Contract.requireArgNotNull("aggregate", aggregate);
+        this.events = events.iterator();
+        this.ignoredEventTypes = ignoredEventTypes;
+        this.aggregate = aggregate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && events.hasNext()) {
+            final CommonEvent commonEvent = events.next();
+            if (ignoredEventTypes.contains(commonEvent.getDataType())) {
+                aggregate.skipHistory(1);
+            } else {
+                next = commonEvent;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public DomainEvent<?> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final CommonEvent commonEvent = next;
+        next = null;
+        return (DomainEvent<?>) commonEvent.getData();
+    }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.objects4j.common.Contract;
+
+/**
+ * Decides how many events a repository requests with one slice when an aggregate is read. The number is determined once per read and the
+ * repository never requests more events than required to reach a requested version.
+ */
+@FunctionalInterface
+public interface ReadPageSizePolicy {
+
+    /**
+     * Returns the maximum number of events to read with one slice.
+     *
+     * @param aggregateType
+     *            Type of the aggregate to read.
+     * @param idClass
+     *            Class of the aggregate identifier.
+     * @param startVersion
+     *            Version of the aggregate the replay starts with or <code>-1</code> if all events are read.
+     * @param targetVersion
+     *            Version to read or {@link Integer#MAX_VALUE} for the latest one.
+     *
+     * @return Page size (Minimum 1).
+     */
+    int pageSize(@NotNull EntityType aggregateType, @NotNull Class<?> idClass, int startVersion, int targetVersion);
+
+    /**
+     * Informs the policy about an aggregate that was read. Does nothing by default.
+     *
+     * @param aggregateType
+     *            Type of the aggregate that was read.
+     * @param idClass
+     *            Class of the aggregate identifier.
+     * @param pageSize
+     *            Page size that was used.
+     * @param eventCount
+     *            Number of events read from the event store.
+     * @param sliceCount
+     *            Number of slices (round trips) it took to read the events.
+     * @param streamLength
+     *            Number of events in the stream or <code>-1</code> if unknown, because not the latest version was read.
+     */
+    default void loaded(@NotNull final EntityType aggregateType, @NotNull final Class<?> idClass, final int pageSize, final int eventCount,
+            final int sliceCount, final int streamLength) {
+        // Do nothing
+    }
+
+    /**
+     * Returns a policy that always uses the same page size.
+     *
+     * @param pageSize
+     *            Page size (Minimum 1).
+     *
+     * @return New policy.
+     */
+    @NotNull
+    static ReadPageSizePolicy fixed(final int pageSize) {
+        Contract.requireArgMin("pageSize", pageSize, 1);
+        return (aggregateType, idClass, startVersion, targetVersion) -> pageSize;
+    }
+
+}
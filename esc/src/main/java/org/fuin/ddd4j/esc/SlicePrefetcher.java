@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import jakarta.validation.constraints.NotNull;
+import org.fuin.esc.api.EventStore;
+import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.api.StreamId;
+import org.fuin.objects4j.common.Contract;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads the slices of a stream ahead of time, so the next slices are already requested from the event store while the current one is
+ * applied to the aggregate. The number of requested but not yet consumed slices is limited to keep the memory usage bounded. Not thread
+ * safe - Use one instance per read operation.
+ */
+final class SlicePrefetcher implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlicePrefetcher.class);
+
+    private final EventStore eventStore;
+
+    private final StreamId streamId;
+
+    private final int readPageSize;
+
+    private final int targetVersion;
+
+    private final int readAhead;
+
+    private final Executor executor;
+
+    private final Deque<Request> requests;
+
+    private int nextRequestStart;
+
+    /**
+     * Constructor with all mandatory data.
+     *
+     * @param eventStore
+     *            Event store to read from.
+     * @param streamId
+     *            Stream to read.
+     * @param readPageSize
+     *            Maximum number of events in a slice.
+     * @param targetVersion
+     *            Last event number to read or {@link Integer#MAX_VALUE} to read until the end of the stream.
+     * @param readAhead
+     *            Maximum number of slices requested in addition to the one that is currently consumed.
+     * @param executor
+     *            Executor used to read the slices.
+     */
+    SlicePrefetcher(@NotNull final EventStore eventStore, @NotNull final StreamId streamId, final int readPageSize, final int targetVersion,
+            final int readAhead, @NotNull final Executor executor) {
+        super();
+        Contract.requireArgNotNull("eventStore", eventStore);
+        Contract.requireArgNotNull("streamId", streamId);
+        Contract.requireArgMin("readPageSize", readPageSize, 1);
+        Contract.requireArgMin("readAhead", readAhead, 1);
+        Contract.requireArgNotNull("executor", executor);
+        this.eventStore = eventStore;
+        this.streamId = streamId;
+        this.readPageSize = readPageSize;
+        this.targetVersion = targetVersion;
+        this.readAhead = readAhead;
+        this.executor = executor;
+        this.requests = new ArrayDeque<>();
+        this.nextRequestStart = -1;
+    }
+
+    /**
+     * Returns the slice starting with the given event number. Requests the following slices before returning.
+     *
+     * @param sliceStart
+     *            First event number of the slice. Usually the next event number of the previous slice.
+     *
+     * @return Slice.
+     */
+    @NotNull
+    StreamEventsSlice next(final int sliceStart) {
+        if (requests.isEmpty() || requests.peekFirst().start() != sliceStart) {
+            // First call or the store returned less events than requested
+            cancelAll();
+            nextRequestStart = sliceStart;
+        }
+        requestAhead(readAhead + 1);
+        final StreamEventsSlice slice = join(requests.removeFirst().future());
+        if (slice.isEndOfStream()) {
+            cancelAll();
+        } else {
+            requestAhead(readAhead);
+        }
+        return slice;
+    }
+
+    private void requestAhead(final int maxRequests) {
+        while (requests.size() < maxRequests && nextRequestStart <= targetVersion) {
+            final int start = nextRequestStart;
+            final int count = AbstractEventStoreRepository.sliceCount(readPageSize, start, targetVersion);
+            LOG.debug("Request slice: streamId={}, sliceStart={}, sliceCount={}", streamId, start, count);
+            requests.addLast(new Request(start,
+                    CompletableFuture.supplyAsync(() -> eventStore.readEventsForward(streamId, start, count), executor)));
+            nextRequestStart = start + count;
+        }
+    }
+
+    private static StreamEventsSlice join(final CompletableFuture<StreamEventsSlice> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void cancelAll() {
+        for (final Request request : requests) {
+            request.future().cancel(false);
+        }
+        requests.clear();
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    /**
+     * Requested slice.
+     *
+     * @param start
+     *            First event number of the slice.
+     * @param future
+     *            Future result.
+     */
+    private record Request(int start, CompletableFuture<StreamEventsSlice> future) {
+    }
+
+}
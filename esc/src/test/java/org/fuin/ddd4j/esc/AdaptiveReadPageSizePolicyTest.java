@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.StringBasedEntityType;
+import org.fuin.ddd4j.esc.AdaptiveReadPageSizePolicy.Statistics;
+import org.fuin.ddd4j.jsonbtestmodel.VendorId;
+import org.fuin.objects4j.common.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdaptiveReadPageSizePolicyTest {
+
+    private static final EntityType TYPE = new StringBasedEntityType("Test");
+
+    @Test
+    public void testInitialPageSize() {
+
+        // PREPARE
+        final AdaptiveReadPageSizePolicy testee = new AdaptiveReadPageSizePolicy(5, 50, 500);
+
+        // TEST & VERIFY
+        assertThat(testee.pageSize(TYPE, VendorId.class, -1, Integer.MAX_VALUE)).isEqualTo(50);
+        assertThat(testee.getStatistics()).isEmpty();
+        assertThat(testee.getStatistics(TYPE, VendorId.class)).isNull();
+
+    }
+
+    @Test
+    public void testVersionedReadRequestsRemainingRange() {
+
+        // PREPARE
+        final AdaptiveReadPageSizePolicy testee = new AdaptiveReadPageSizePolicy(5, 50, 500);
+
+        // TEST & VERIFY
+        assertThat(testee.pageSize(TYPE, VendorId.class, -1, 199)).isEqualTo(200);
+        assertThat(testee.pageSize(TYPE, VendorId.class, 150, 199)).isEqualTo(49);
+        assertThat(testee.pageSize(TYPE, VendorId.class, 198, 199)).isEqualTo(5);
+        assertThat(testee.pageSize(TYPE, VendorId.class, -1, 9999)).isEqualTo(500);
+
+    }
+
+    @Test
+    public void testLearnsStreamLength() {
+
+        // PREPARE
+        final AdaptiveReadPageSizePolicy testee = new AdaptiveReadPageSizePolicy(5, 50, 500);
+
+        // TEST
+        testee.loaded(TYPE, VendorId.class, 50, 200, 4, 200);
+
+        // VERIFY
+        assertThat(testee.pageSize(TYPE, VendorId.class, -1, Integer.MAX_VALUE)).isEqualTo(251);
+        assertThat(testee.pageSize(TYPE, VendorId.class, 99, Integer.MAX_VALUE)).isEqualTo(151);
+        assertThat(testee.pageSize(TYPE, VendorId.class, 499, Integer.MAX_VALUE)).isEqualTo(5);
+        assertThat(testee.pageSize(new StringBasedEntityType("Other"), VendorId.class, -1, Integer.MAX_VALUE)).isEqualTo(50);
+
+        // TEST
+        testee.loaded(TYPE, VendorId.class, 251, 100, 1, 100);
+        testee.loaded(TYPE, VendorId.class, 20, 20, 1, -1);
+
+        // VERIFY
+        assertThat(testee.pageSize(TYPE, VendorId.class, -1, Integer.MAX_VALUE)).isEqualTo(226);
+        final Statistics statistics = testee.getStatistics(TYPE, VendorId.class);
+        assertThat(statistics.getAggregateType()).isEqualTo("Test");
+        assertThat(statistics.getIdClass()).isEqualTo(VendorId.class);
+        assertThat(statistics.getLoadCount()).isEqualTo(3);
+        assertThat(statistics.getEventCount()).isEqualTo(320);
+        assertThat(statistics.getSliceCount()).isEqualTo(6);
+        assertThat(statistics.getLastPageSize()).isEqualTo(20);
+        assertThat(statistics.getAveragePageSize()).isEqualTo(107.0);
+        assertThat(statistics.getAverageSlicesPerLoad()).isEqualTo(2.0);
+        assertThat(statistics.getAverageStreamLength()).isEqualTo(180.0);
+        assertThat(testee.getStatistics()).hasSize(1);
+
+    }
+
+    @Test
+    public void testInvalidPageSizes() {
+        assertThatThrownBy(() -> new AdaptiveReadPageSizePolicy(0, 50, 500)).isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> new AdaptiveReadPageSizePolicy(10, 5, 500)).isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> new AdaptiveReadPageSizePolicy(10, 50, 20)).isInstanceOf(ConstraintViolationException.class);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.fuin.ddd4j.esc;
+
+import org.fuin.ddd4j.jsonbtestmodel.VendorId;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the {@link AggregateUpdateInterruptedException} class.
+ */
+public class AggregateUpdateInterruptedExceptionTest {
+
+    @Test
+    void testCreate() {
+
+        final VendorId vendorId = new VendorId(UUID.fromString("54a8f1e5-7b76-4a16-a3e2-2f63a4b2d0c1"));
+        final InterruptedException cause = new InterruptedException();
+
+        final AggregateUpdateInterruptedException testee = new AggregateUpdateInterruptedException(VendorId.TYPE, vendorId, cause);
+
+        assertThat(testee.getMessage())
+                .isEqualTo("Interrupted while waiting to retry the update of Vendor (54a8f1e5-7b76-4a16-a3e2-2f63a4b2d0c1)");
+        assertThat(testee.getCause()).isSameAs(cause);
+
+    }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import org.fuin.ddd4j.core.AggregateAlreadyExistsException;
+import org.fuin.ddd4j.core.AggregateNotFoundException;
+import org.fuin.ddd4j.core.AggregateRootId;
+import org.fuin.ddd4j.core.AggregateVersionConflictException;
+import org.fuin.ddd4j.core.AggregateVersionNotFoundException;
+import org.fuin.ddd4j.core.BoundedAggregateCache;
+import org.fuin.ddd4j.core.FileSnapshotStore;
+import org.fuin.ddd4j.core.SnapshotPolicy;
+import org.fuin.ddd4j.core.SnapshotStore;
+import org.fuin.ddd4j.jsonbtestmodel.DuplicateVendorKeyException;
+import org.fuin.ddd4j.jsonbtestmodel.PersonCreatedEvent;
+import org.fuin.ddd4j.jsonbtestmodel.PersonName;
+import org.fuin.ddd4j.jsonbtestmodel.Vendor;
+import org.fuin.ddd4j.jsonbtestmodel.VendorId;
+import org.fuin.ddd4j.jsonbtestmodel.VendorKey;
+import org.fuin.ddd4j.jsonbtestmodel.VendorName;
+import org.fuin.esc.api.DelegatingAsyncEventStore;
+import org.fuin.esc.api.EventStore;
+import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.mem.InMemoryEventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncEventStoreRepositoryTest {
+
+    private ExecutorService executor;
+
+    private EventStore eventStore;
+
+    private VendorAsyncRepository repo;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        eventStore = new InMemoryEventStore(executor);
+        eventStore.open();
+        repo = new VendorAsyncRepository(new DelegatingAsyncEventStore(executor, eventStore));
+    }
+
+    @AfterEach
+    public void teardown() {
+        eventStore.close();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testAddAndReadAggregate() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        final Vendor vendor = createVendor(vendorId);
+        vendor.addPerson(new PersonName("Peter Parker"));
+        vendor.addPerson(new PersonName("Mary Jane Watson"));
+        vendor.addPerson(new PersonName("Harry Osborn"));
+
+        // TEST
+        repo.addAsync(vendor).get();
+
+        // VERIFY
+        final AggregateStreamId streamId = new AggregateStreamId(VendorId.TYPE, "vendorId", vendorId);
+        final StreamEventsSlice slice = eventStore.readEventsForward(streamId, 0, 100);
+        assertThat(slice.getEvents()).hasSize(4);
+        assertThat(vendor.hasUncommitedChanges()).isFalse();
+        assertThat(repo.readAsync(vendorId).get().getVersion()).isEqualTo(3);
+        assertThat(repo.readAsync(vendorId, 2).get().getVersion()).isEqualTo(2);
+        assertThatThrownBy(() -> repo.readAsync(vendorId, 4).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateVersionNotFoundException.class);
+
+    }
+
+    @Test
+    public void testAddExistingAggregate() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        repo.addAsync(createVendor(vendorId)).get();
+
+        // TEST & VERIFY
+        assertThatThrownBy(() -> repo.addAsync(createVendor(vendorId)).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateAlreadyExistsException.class);
+
+    }
+
+    @Test
+    public void testReadUnknownAggregate() {
+        assertThatThrownBy(() -> repo.readAsync(new VendorId()).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateNotFoundException.class);
+    }
+
+    @Test
+    public void testUpdateAggregate() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        repo.addAsync(createVendor(vendorId)).get();
+        final Vendor vendor = repo.readAsync(vendorId).get();
+        vendor.addPerson(new PersonName("Peter Parker"));
+
+        // TEST
+        repo.updateAsync(vendor).get();
+
+        // VERIFY
+        assertThat(repo.readAsync(vendorId).get().getVersion()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testConflictsResolved() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        repo.addAsync(createVendor(vendorId)).get(); // VERSION 0
+
+        // The first user adds a person with a typo in the name
+        final Vendor vendorUser1 = repo.readAsync(vendorId).get();
+        vendorUser1.addPerson(new PersonName("Peter Parrker"));
+        final PersonCreatedEvent pce = (PersonCreatedEvent) vendorUser1.getUncommittedChanges().get(0);
+        repo.updateAsync(vendorUser1).get(); // VERSION 1
+
+        // The second user loads the data and realizes the typo
+        final Vendor vendorUser2 = repo.readAsync(vendorId, 1).get();
+
+        // The first user continues adding more persons
+        vendorUser1.addPerson(new PersonName("Mary Jane Watson"));
+        vendorUser1.addPerson(new PersonName("Harry Osborn"));
+        repo.updateAsync(vendorUser1).get(); // VERSION 3
+
+        // TEST
+        vendorUser2.changePersonName(pce.getPersonId(), new PersonName("Peter Parker"));
+        repo.updateAsync(vendorUser2).get(); // VERSION 4
+
+        // VERIFY
+        assertThat(repo.readAsync(vendorId).get().getVersion()).isEqualTo(4);
+        assertThat(repo.getConflictCount()).isEqualTo(1);
+        assertThat(repo.getRetryCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testConflictNotResolved() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        repo.addAsync(createVendor(vendorId)).get(); // VERSION 0
+        final Vendor vendorUser1 = repo.readAsync(vendorId).get();
+        final Vendor vendorUser2 = repo.readAsync(vendorId).get();
+        vendorUser1.addPerson(new PersonName("Peter Parker"));
+        repo.updateAsync(vendorUser1).get(); // VERSION 1
+
+        // TEST & VERIFY
+        vendorUser2.addPerson(new PersonName("Mary Jane Watson"));
+        assertThatThrownBy(() -> repo.updateAsync(vendorUser2).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateVersionConflictException.class);
+        assertThat(repo.getConflictCount()).isEqualTo(1);
+        assertThat(repo.getUnresolvedConflictCount()).isEqualTo(1);
+
+    }
+
+    @Test
+    public void testDeleteAggregate() throws Exception {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+        repo.addAsync(createVendor(vendorId)).get();
+
+        // TEST
+        assertThatThrownBy(() -> repo.deleteAsync(vendorId, 5).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateVersionConflictException.class);
+        repo.deleteAsync(vendorId, 0).get();
+        repo.deleteAsync(vendorId, 0).get();
+
+        // VERIFY
+        final AggregateStreamId streamId = new AggregateStreamId(VendorId.TYPE, "vendorId", vendorId);
+        assertThat(eventStore.streamExists(streamId)).isFalse();
+        assertThatThrownBy(() -> repo.readAsync(vendorId).get()).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AggregateNotFoundException.class);
+
+    }
+
+    @Test
+    public void testReadManySlices() throws Exception {
+
+        // PREPARE
+        final VendorAsyncRepository syncCompletingRepo = new VendorAsyncRepository(new DelegatingAsyncEventStore(Runnable::run, eventStore));
+        final VendorId vendorId = new VendorId();
+        final Vendor vendor = createVendor(vendorId);
+        for (int i = 1; i <= 5000; i++) {
+            vendor.addPerson(new PersonName("Person " + i));
+        }
+        syncCompletingRepo.addAsync(vendor).get();
+
+        // TEST
+        final Vendor latest = syncCompletingRepo.readAsync(vendorId).get();
+        final Vendor version = syncCompletingRepo.readAsync(vendorId, 4001).get();
+
+        // VERIFY
+        assertThat(latest.getVersion()).isEqualTo(5000);
+        assertThat(version.getVersion()).isEqualTo(4001);
+
+    }
+
+    @Test
+    public void testReadWithUncommittedChangesFails() throws Exception {
+
+        // PREPARE
+        final VendorAsyncRepository cachingRepo = new VendorAsyncRepository(new DelegatingAsyncEventStore(executor, eventStore),
+                new BoundedAggregateCache<>(), null, null, null);
+        final VendorId vendorId = new VendorId();
+        cachingRepo.addAsync(createVendor(vendorId)).get();
+        final Vendor shared = cachingRepo.readAsync(vendorId).get();
+        shared.addPerson(new PersonName("Peter Parker"));
+
+        // TEST
+        final CompletableFuture<Vendor> future = cachingRepo.readAsync(vendorId);
+
+        // VERIFY
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    @Test
+    public void testSnapshotsUseExecutor(@TempDir final Path dir) throws Exception {
+
+        // PREPARE
+        final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "snapshot-thread"));
+        try {
+            final FileSnapshotStore<Vendor> snapshotStore = new FileSnapshotStore<>(dir, 2, Runnable::run);
+            final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+            final SnapshotStore<Vendor> recordingStore = new SnapshotStore<>() {
+                @Override
+                public Vendor load(final AggregateRootId aggregateId, final int maxVersion) {
+                    calls.add("load@" + Thread.currentThread().getName());
+                    return snapshotStore.load(aggregateId, maxVersion);
+                }
+
+                @Override
+                public void save(final Vendor aggregate) {
+                    calls.add("save@" + Thread.currentThread().getName());
+                    snapshotStore.save(aggregate);
+                }
+
+                @Override
+                public void remove(final AggregateRootId aggregateId) {
+                    calls.add("remove@" + Thread.currentThread().getName());
+                    snapshotStore.remove(aggregateId);
+                }
+            };
+            final VendorAsyncRepository snapshotRepo = new VendorAsyncRepository(new DelegatingAsyncEventStore(executor, eventStore), null,
+                    recordingStore, SnapshotPolicy.everyEvents(1), snapshotExecutor);
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = createVendor(vendorId);
+            vendor.addPerson(new PersonName("Peter Parker"));
+
+            // TEST
+            snapshotRepo.addAsync(vendor).get();
+            final Vendor loaded = snapshotRepo.readAsync(vendorId).get();
+            snapshotRepo.deleteAsync(vendorId, 1).get();
+
+            // VERIFY
+            assertThat(loaded.getVersion()).isEqualTo(1);
+            assertThat(calls).containsExactly("save@snapshot-thread", "load@snapshot-thread", "remove@snapshot-thread");
+            assertThat(snapshotStore.load(vendorId, Integer.MAX_VALUE)).isNull();
+        } finally {
+            snapshotExecutor.shutdown();
+        }
+
+    }
+
+    private static Vendor createVendor(final VendorId vendorId) throws DuplicateVendorKeyException {
+        return new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+            // Do nothing
+        });
+    }
+
+}
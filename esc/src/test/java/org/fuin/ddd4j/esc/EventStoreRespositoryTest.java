@@ -18,21 +18,47 @@
 package org.fuin.ddd4j.esc;
 
 import org.assertj.core.api.Assertions;
+import org.fuin.ddd4j.core.AggregateCache;
+import org.fuin.ddd4j.core.AggregateDeletedException;
 import org.fuin.ddd4j.core.AggregateNotFoundException;
+import org.fuin.ddd4j.core.AggregateRootId;
+import org.fuin.ddd4j.core.AggregateVersionConflictException;
+import org.fuin.ddd4j.core.BoundedAggregateCache;
+import org.fuin.ddd4j.core.BulkReadResult;
+import org.fuin.ddd4j.core.CopyingAggregateCache;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.FileSnapshotStore;
+import org.fuin.ddd4j.core.SnapshotPolicy;
+import org.fuin.ddd4j.core.SnapshotStore;
 import org.fuin.ddd4j.jsonbtestmodel.PersonCreatedEvent;
+import org.fuin.ddd4j.jsonbtestmodel.PersonId;
 import org.fuin.ddd4j.jsonbtestmodel.PersonName;
 import org.fuin.ddd4j.jsonbtestmodel.Vendor;
 import org.fuin.ddd4j.jsonbtestmodel.VendorId;
 import org.fuin.ddd4j.jsonbtestmodel.VendorKey;
 import org.fuin.ddd4j.jsonbtestmodel.VendorName;
+import org.fuin.esc.api.EventId;
 import org.fuin.esc.api.EventStore;
+import org.fuin.esc.api.SimpleCommonEvent;
 import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.api.TypeName;
 import org.fuin.esc.mem.InMemoryEventStore;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class EventStoreRespositoryTest {
@@ -179,7 +205,504 @@ public class EventStoreRespositoryTest {
             assertThat(repo.read(vendorId).getVersion()).isEqualTo(4);
 
             // VERIFY
+            assertThat(repo.getConflictCount()).isEqualTo(1);
+            assertThat(repo.getRetryCount()).isEqualTo(1);
+            assertThat(repo.getUnresolvedConflictCount()).isZero();
+
+        }
+
+    }
+
+    @Test
+    public void testConflictInterrupted() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final VendorRepository repo = new VendorRepository(eventStore);
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            vendor.addPerson(new PersonName("Peter Parrker"));
+            final PersonCreatedEvent pce = (PersonCreatedEvent) vendor.getUncommittedChanges().get(1);
+            repo.update(vendor); // VERSION 1
+            final Vendor vendorUser1 = repo.read(vendorId);
+            final Vendor vendorUser2 = repo.read(vendorId);
+            vendorUser1.addPerson(new PersonName("Mary Jane Watson"));
+            repo.update(vendorUser1); // VERSION 2
+            vendorUser2.changePersonName(pce.getPersonId(), new PersonName("Peter Parker"));
+
+            // TEST
+            Thread.currentThread().interrupt();
+            try {
+                assertThatThrownBy(() -> repo.update(vendorUser2)).isInstanceOf(AggregateUpdateInterruptedException.class)
+                        .hasCauseInstanceOf(InterruptedException.class);
+
+                // VERIFY
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(vendorUser2.hasUncommitedChanges()).isTrue();
+            assertThat(repo.getConflictCount()).isEqualTo(1);
+            assertThat(repo.getRetryCount()).isZero();
+            assertThat(repo.getUnresolvedConflictCount()).isZero();
+
+        }
+
+    }
+
+    @Test
+    public void testConflictNotResolved() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final VendorRepository repo = new VendorRepository(eventStore);
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            repo.update(vendor); // VERSION 0
+            final Vendor vendorUser1 = repo.read(vendorId);
+            final Vendor vendorUser2 = repo.read(vendorId);
+            vendorUser1.addPerson(new PersonName("Peter Parker"));
+            repo.update(vendorUser1); // VERSION 1
+            vendorUser2.addPerson(new PersonName("Mary Jane Watson"));
+
+            // TEST & VERIFY
+            assertThatThrownBy(() -> repo.update(vendorUser2)).isInstanceOf(AggregateVersionConflictException.class);
+            assertThat(repo.getConflictCount()).isEqualTo(1);
+            assertThat(repo.getRetryCount()).isZero();
+            assertThat(repo.getUnresolvedConflictCount()).isEqualTo(1);
+
+        }
+
+    }
+
+    @Test
+    public void testRetryDelay() {
+
+        // PREPARE
+        final VendorRepository repo = new VendorRepository(new InMemoryEventStore(Executors.newCachedThreadPool()));
+
+        // TEST & VERIFY
+        for (int i = 0; i < 100; i++) {
+            assertThat(repo.retryDelay(0)).isBetween(Duration.ZERO, Duration.ofMillis(5));
+            assertThat(repo.retryDelay(2)).isBetween(Duration.ZERO, Duration.ofMillis(20));
+            assertThat(repo.retryDelay(10)).isBetween(Duration.ZERO, Duration.ofMillis(200));
+            assertThat(repo.retryDelay(Integer.MAX_VALUE)).isBetween(Duration.ZERO, Duration.ofMillis(200));
+        }
+
+    }
+
+    @Test
+    public void testReadFromSnapshot(@TempDir final Path dir) throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final FileSnapshotStore<Vendor> snapshotStore = new FileSnapshotStore<>(dir, 2, Runnable::run);
+            final List<Integer> loadedVersions = new ArrayList<>();
+            final SnapshotStore<Vendor> recordingStore = new SnapshotStore<>() {
+                @Override
+                public Vendor load(final AggregateRootId aggregateId, final int maxVersion) {
+                    final Vendor vendor = snapshotStore.load(aggregateId, maxVersion);
+                    if (vendor != null) {
+                        loadedVersions.add(vendor.getVersion());
+                    }
+                    return vendor;
+                }
+
+                @Override
+                public void save(final Vendor aggregate) {
+                    snapshotStore.save(aggregate);
+                }
+
+                @Override
+                public void remove(final AggregateRootId aggregateId) {
+                    snapshotStore.remove(aggregateId);
+                }
+            };
+            final VendorRepository repo = new VendorRepository(eventStore, recordingStore, SnapshotPolicy.everyEvents(2));
+
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            repo.update(vendor); // VERSION 0
+            vendor.addPerson(new PersonName("Peter Parker"));
+            repo.update(vendor); // VERSION 1 - Snapshot
+            vendor.addPerson(new PersonName("Mary Jane Watson"));
+            vendor.addPerson(new PersonName("Harry Osborn"));
+            repo.update(vendor); // VERSION 3 - Snapshot
+            vendor.addPerson(new PersonName("May Parker"));
+            repo.update(vendor); // VERSION 4
+
+            // TEST
+            final Vendor latest = repo.read(vendorId);
+            final Vendor version2 = repo.read(vendorId, 2);
+            final Vendor version1 = repo.read(vendorId, 1);
+
+            // VERIFY
+            assertThat(loadedVersions).containsExactly(3, 1, 1);
+            assertThat(latest.getVersion()).isEqualTo(4);
+            assertThat(version2.getVersion()).isEqualTo(2);
+            assertThat(version1.getVersion()).isEqualTo(1);
+            latest.addPerson(new PersonName("Ben Parker"));
+            final PersonCreatedEvent event = (PersonCreatedEvent) latest.getUncommittedChanges().get(0);
+            assertThat(event.getPersonId()).isEqualTo(new PersonId(5));
+
+            // TEST
+            repo.delete(vendorId, 4);
+
+            // VERIFY
+            assertThat(snapshotStore.load(vendorId, Integer.MAX_VALUE)).isNull();
+
+        }
+
+    }
+
+    @Test
+    public void testReadFromCopyingCache() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final BoundedAggregateCache<Vendor> masters = new BoundedAggregateCache<>();
+            final VendorRepository repo = new VendorRepository(eventStore, new CopyingAggregateCache<>(masters));
+
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            repo.update(vendor); // VERSION 0
+            repo.read(vendorId);
+
+            // TEST
+            final Vendor vendorUser1 = repo.read(vendorId);
+            vendorUser1.addPerson(new PersonName("Peter Parker"));
+            final Vendor vendorUser2 = repo.read(vendorId);
+            vendorUser2.addPerson(new PersonName("Mary Jane Watson"));
+            repo.update(vendorUser1); // VERSION 1
+            final Vendor latest = repo.read(vendorId);
+
+            // VERIFY
+            assertThat(vendorUser1).isNotSameAs(vendorUser2);
+            assertThat(vendorUser2.getVersion()).isEqualTo(0);
+            assertThat(vendorUser2.getUncommittedChanges()).hasSize(1);
+            assertThat(latest.getVersion()).isEqualTo(1);
+            assertThat(masters.get(vendorId, null).getVersion()).isEqualTo(1);
+            assertThat(masters.get(vendorId, null).hasUncommitedChanges()).isFalse();
+            assertThat(masters.getHitCount()).isEqualTo(5);
+
+        }
+
+    }
+
+    @Test
+    public void testReadAll() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final VendorRepository repo = new VendorRepository(eventStore);
+            final List<VendorId> vendorIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final VendorId vendorId = new VendorId();
+                final Vendor vendor = new Vendor(vendorId, new VendorKey(String.format("V%05d", i)), new VendorName("Vendor " + i), key -> {
+                    // Do nothing
+                });
+                for (int j = 0; j < i; j++) {
+                    vendor.addPerson(new PersonName("Person " + j));
+                }
+                repo.add(vendor);
+                vendorIds.add(vendorId);
+            }
+            final VendorId deletedId = vendorIds.get(3);
+            repo.delete(deletedId, 3);
+            final VendorId unknownId = new VendorId();
+            final List<VendorId> requested = new ArrayList<>(vendorIds);
+            requested.add(0, unknownId);
+            requested.add(vendorIds.get(5));
+
+            // TEST
+            final BulkReadResult<VendorId, Vendor> result = repo.readAll(requested);
+
+            // VERIFY
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.getAggregates()).hasSize(19);
+            assertThat(result.getFailures().keySet()).containsExactly(unknownId, deletedId);
+            assertThat(result.getFailure(unknownId)).isInstanceOf(AggregateNotFoundException.class);
+            assertThat(result.getFailure(deletedId)).isInstanceOfAny(AggregateNotFoundException.class, AggregateDeletedException.class);
+            for (final Map.Entry<VendorId, Vendor> entry : result.getAggregates().entrySet()) {
+                assertThat(entry.getValue().getId()).isEqualTo(entry.getKey());
+                assertThat(entry.getValue().getVersion()).isEqualTo(vendorIds.indexOf(entry.getKey()));
+            }
+            assertThat(result.getAggregates().keySet()).containsExactlyElementsOf(
+                    vendorIds.stream().filter(id -> !id.equals(deletedId)).toList());
+
+        }
+
+    }
+
+    @Test
+    public void testReadAllWaitsForWorkersIfCallerFails() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final Thread caller = Thread.currentThread();
+            final AtomicInteger running = new AtomicInteger();
+            final AggregateCache<Vendor> cache = new AggregateCache<>() {
+                @Override
+                public Vendor get(final AggregateRootId aggregateId, final Integer version) {
+                    if (Thread.currentThread() == caller) {
+                        throw new IllegalStateException("Caller failed");
+                    }
+                    running.incrementAndGet();
+                    try {
+                        Thread.sleep(100);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return null;
+                }
+
+                @Override
+                public void put(final AggregateRootId aggregateId, final Vendor aggregate) {
+                    // Not used
+                }
+
+                @Override
+                public void remove(final AggregateRootId aggregateId) {
+                    // Not used
+                }
+            };
+            final VendorRepository repo = new VendorRepository(eventStore, cache);
+            final List<VendorId> vendorIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                vendorIds.add(new VendorId());
+            }
+
+            // TEST & VERIFY
+            assertThatThrownBy(() -> repo.readAll(vendorIds)).isInstanceOf(IllegalStateException.class).hasMessage("Caller failed");
+            assertThat(running.get()).isZero();
+
+        }
+
+    }
+
+    @Test
+    public void testReadWithPrefetch() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final VendorRepository repo = new VendorRepository(eventStore, 3, 2);
+
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            for (int i = 0; i < 10; i++) {
+                vendor.addPerson(new PersonName("Person " + i));
+            }
+            repo.add(vendor); // VERSION 10
+
+            // TEST
+            final Vendor latest = repo.read(vendorId);
+            final Vendor version5 = repo.read(vendorId, 5);
+
+            // VERIFY
+            assertThat(latest.getVersion()).isEqualTo(10);
+            assertThat(version5.getVersion()).isEqualTo(5);
+            latest.addPerson(new PersonName("Ben Parker"));
+            final PersonCreatedEvent event = (PersonCreatedEvent) latest.getUncommittedChanges().get(0);
+            assertThat(event.getPersonId()).isEqualTo(new PersonId(11));
+
+        }
+
+    }
+
+    @Test
+    public void testDefaultExecutorsBounded() {
+
+        // PREPARE
+        final VendorRepository repo = new VendorRepository(new InMemoryEventStore(Executors.newCachedThreadPool()));
+
+        // TEST & VERIFY
+        assertThat(repo.getPrefetchExecutor()).isNotSameAs(repo.getReadAllExecutor());
+        assertThat(repo.getPrefetchExecutor()).isInstanceOfSatisfying(ThreadPoolExecutor.class, executor -> {
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(Math.max(8, 2 * Runtime.getRuntime().availableProcessors()));
+            assertThat(executor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.CallerRunsPolicy.class);
+        });
+        assertThat(repo.getReadAllExecutor()).isInstanceOfSatisfying(ThreadPoolExecutor.class, executor -> {
+            assertThat(executor.getMaximumPoolSize()).isEqualTo(Math.max(8, 2 * Runtime.getRuntime().availableProcessors()));
+            assertThat(executor.getRejectedExecutionHandler()).isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+        });
+
+    }
+
+    @Test
+    public void testReadWithAdaptivePageSize() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final AdaptiveReadPageSizePolicy policy = new AdaptiveReadPageSizePolicy(2, 2, 100);
+            final VendorRepository repo = new VendorRepository(eventStore, policy);
+
+            final VendorId vendorId = new VendorId();
+            final Vendor vendor = new Vendor(vendorId, new VendorKey("V00001"), new VendorName("Hazards International Inc."), key -> {
+                // Do nothing
+            });
+            for (int i = 0; i < 9; i++) {
+                vendor.addPerson(new PersonName("Person " + i));
+            }
+            repo.add(vendor); // VERSION 9
+
+            // TEST
+            final Vendor first = repo.read(vendorId);
+            final Vendor second = repo.read(vendorId);
+            final Vendor version5 = repo.read(vendorId, 5);
+
+            // VERIFY
+            assertThat(first.getVersion()).isEqualTo(9);
+            assertThat(second.getVersion()).isEqualTo(9);
+            assertThat(version5.getVersion()).isEqualTo(5);
+            final AdaptiveReadPageSizePolicy.Statistics statistics = policy.getStatistics(VendorId.TYPE, VendorId.class);
+            assertThat(statistics.getLoadCount()).isEqualTo(3);
+            // 6 slices with the initial page size (The last one is empty and only detects the end of the stream), then one slice each
+            assertThat(statistics.getSliceCount()).isEqualTo(8);
+            assertThat(statistics.getLastPageSize()).isEqualTo(6);
+            assertThat(statistics.getAverageStreamLength()).isEqualTo(10.0);
+
+        }
+
+    }
+
+    @Test
+    public void testReadSkipsIgnoredEventTypes() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final TypeName auditType = new TypeName("VendorAuditedEvent");
+            final VendorRepository repo = new VendorRepository(eventStore, Set.of(auditType));
+
+            final VendorId vendorId = new VendorId();
+            final VendorKey vendorKey = new VendorKey("V00001");
+            final VendorName vendorName = new VendorName("Hazards International Inc.");
+            final Vendor vendor = new Vendor(vendorId, vendorKey, vendorName, key -> {
+                // Do nothing
+            });
+            repo.update(vendor); // VERSION 0
+
+            // The payload is no domain event and would fail if it was accessed
+            final AggregateStreamId streamId = new AggregateStreamId(VendorId.TYPE, "vendorId", vendorId);
+            eventStore.appendToStream(streamId, 0, new SimpleCommonEvent(new EventId(), auditType, "audit-1"),
+                    new SimpleCommonEvent(new EventId(), auditType, "audit-2")); // VERSION 2
+
+            final Vendor vendorUser = repo.read(vendorId);
+            vendorUser.addPerson(new PersonName("Peter Parker"));
+            repo.update(vendorUser); // VERSION 3
+
+            // TEST
+            final Vendor latest = repo.read(vendorId);
+            final Vendor version2 = repo.read(vendorId, 2);
+
+            // VERIFY
+            assertThat(latest.getVersion()).isEqualTo(3);
+            assertThat(latest.getRef().getId()).isEqualTo(vendorId);
+            assertThat(version2.getVersion()).isEqualTo(2);
+
+        }
+
+    }
+
+    @Test
+    public void testIgnoredEventTypesDerivedFromAggregate() throws Exception {
+
+        // PREPARE
+        try (final EventStore eventStore = new InMemoryEventStore(Executors.newCachedThreadPool())) {
+            eventStore.open();
+
+            final TypeName auditType = new TypeName("VendorAuditedEvent");
+            final IgnoringVendorRepository repo = new IgnoringVendorRepository(eventStore, Set.of(auditType));
+
+            // TEST
+            final Set<TypeName> types = repo.ignoredEventTypes();
+
+            // VERIFY
+            assertThat(types).containsExactlyInAnyOrder(new TypeName(PersonCreatedEvent.TYPE.asBaseType()), auditType);
+            assertThat(repo.ignoredEventTypes()).isSameAs(types);
+            assertThat(repo.createCalls).isEqualTo(1);
+
+        }
+
+    }
+
+    @Test
+    public void testEventTypeName() {
+        assertThat(AbstractEventStoreRepository.eventTypeName(PersonCreatedEvent.class))
+                .isEqualTo(new TypeName(PersonCreatedEvent.TYPE.asBaseType()));
+        assertThat(AbstractEventStoreRepository.eventTypeName(String.class)).isNull();
+    }
+
+    private static final class IgnoringVendorRepository extends EventStoreRepository<VendorId, Vendor> {
+
+        private final Set<TypeName> additional;
+
+        private int createCalls;
+
+        IgnoringVendorRepository(final EventStore eventStore, final Set<TypeName> additional) {
+            super(eventStore);
+            this.additional = additional;
+        }
+
+        @Override
+        public Class<Vendor> getAggregateClass() {
+            return Vendor.class;
+        }
+
+        @Override
+        public EntityType getAggregateType() {
+            return VendorId.TYPE;
+        }
+
+        @Override
+        public Vendor create() {
+            createCalls++;
+            return new Vendor() {
+                @Override
+                protected Set<Class<? extends DomainEvent<?>>> getIgnoredEvents() {
+                    return Set.of(PersonCreatedEvent.class);
+                }
+            };
+        }
+
+        @Override
+        protected String getIdParamName() {
+            return "vendorId";
+        }
 
+        @Override
+        protected Set<TypeName> getIgnoredEventTypes() {
+            // Does not call super - The types derived from the aggregate are kept anyway
+            return additional;
         }
 
     }
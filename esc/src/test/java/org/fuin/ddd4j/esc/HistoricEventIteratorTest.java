@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.jsonbtestmodel.Vendor;
+import org.fuin.ddd4j.jsonbtestmodel.VendorCreatedEvent;
+import org.fuin.ddd4j.jsonbtestmodel.VendorId;
+import org.fuin.ddd4j.jsonbtestmodel.VendorKey;
+import org.fuin.ddd4j.jsonbtestmodel.VendorName;
+import org.fuin.ddd4j.jsonbtestmodel.VendorRef;
+import org.fuin.esc.api.CommonEvent;
+import org.fuin.esc.api.EventId;
+import org.fuin.esc.api.SimpleCommonEvent;
+import org.fuin.esc.api.TypeName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HistoricEventIteratorTest {
+
+    private static final TypeName AUDIT_TYPE = new TypeName("VendorAuditedEvent");
+
+    @Test
+    void testSkipsIgnoredEvents() {
+
+        // PREPARE
+        final VendorCreatedEvent created = new VendorCreatedEvent(
+                new VendorRef(new VendorId(), new VendorKey("V00001"), new VendorName("Hazards International Inc.")));
+        final List<CommonEvent> events = List.of(audit(), common(created), audit(), audit());
+        final Vendor vendor = new Vendor();
+        final HistoricEventIterator testee = new HistoricEventIterator(events, Set.of(AUDIT_TYPE), vendor);
+
+        // TEST
+        final DomainEvent<?> first = testee.next();
+        final boolean more = testee.hasNext();
+
+        // VERIFY
+        assertThat(first).isSameAs(created);
+        assertThat(more).isFalse();
+        assertThat(vendor.getVersion()).isEqualTo(-1 + 3);
+        assertThatThrownBy(testee::next).isInstanceOf(NoSuchElementException.class);
+
+    }
+
+    @Test
+    void testLoadFromHistory() {
+
+        // PREPARE
+        final VendorCreatedEvent created = new VendorCreatedEvent(
+                new VendorRef(new VendorId(), new VendorKey("V00001"), new VendorName("Hazards International Inc.")));
+        final List<CommonEvent> events = List.of(common(created), audit());
+        final Vendor vendor = new Vendor();
+
+        // TEST
+        vendor.loadFromHistory(new HistoricEventIterator(events, Set.of(AUDIT_TYPE), vendor));
+
+        // VERIFY
+        assertThat(vendor.getVersion()).isEqualTo(1);
+        assertThat(vendor.getRef()).isEqualTo(created.getVendorRef());
+
+    }
+
+    private static CommonEvent common(final VendorCreatedEvent event) {
+        return new SimpleCommonEvent(new EventId(event.getEventId().asBaseType()), new TypeName(event.getEventType().asBaseType()), event);
+    }
+
+    private static CommonEvent audit() {
+        // The payload is no domain event and would fail if it was accessed
+        return new SimpleCommonEvent(new EventId(), AUDIT_TYPE, "audit");
+    }
+
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import org.fuin.esc.api.CommonEvent;
+import org.fuin.esc.api.EventId;
+import org.fuin.esc.api.EventStore;
+import org.fuin.esc.api.SimpleCommonEvent;
+import org.fuin.esc.api.SimpleStreamId;
+import org.fuin.esc.api.StreamEventsSlice;
+import org.fuin.esc.api.StreamId;
+import org.fuin.esc.api.StreamNotFoundException;
+import org.fuin.esc.api.TypeName;
+import org.fuin.esc.mem.InMemoryEventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SlicePrefetcherTest {
+
+    private static final StreamId STREAM_ID = new SimpleStreamId("prefetch");
+
+    private EventStore eventStore;
+
+    private AtomicInteger requestCount;
+
+    private Executor executor;
+
+    @BeforeEach
+    public void setup() {
+        eventStore = new InMemoryEventStore(Executors.newCachedThreadPool());
+        eventStore.open();
+        final List<CommonEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new SimpleCommonEvent(new EventId(), new TypeName("MyEvent"), "event-" + i));
+        }
+        eventStore.appendToStream(STREAM_ID, events);
+        requestCount = new AtomicInteger();
+        executor = runnable -> {
+            requestCount.incrementAndGet();
+            runnable.run();
+        };
+    }
+
+    @AfterEach
+    public void teardown() {
+        eventStore.close();
+    }
+
+    @Test
+    public void testReadAhead() {
+
+        try (final SlicePrefetcher testee = new SlicePrefetcher(eventStore, STREAM_ID, 3, Integer.MAX_VALUE, 2, executor)) {
+
+            // TEST & VERIFY
+            final StreamEventsSlice slice0 = testee.next(0);
+            assertThat(slice0.getEvents()).extracting(CommonEvent::getData).containsExactly("event-0", "event-1", "event-2");
+            assertThat(requestCount.get()).isEqualTo(3);
+
+            final StreamEventsSlice slice1 = testee.next(3);
+            assertThat(slice1.getFromEventNumber()).isEqualTo(3);
+            assertThat(requestCount.get()).isEqualTo(4);
+
+            assertThat(testee.next(6).getFromEventNumber()).isEqualTo(6);
+            final StreamEventsSlice last = testee.next(9);
+            assertThat(last.getEvents()).extracting(CommonEvent::getData).containsExactly("event-9");
+            assertThat(last.isEndOfStream()).isTrue();
+
+        }
+
+    }
+
+    @Test
+    public void testNoRequestBeyondTargetVersion() {
+
+        try (final SlicePrefetcher testee = new SlicePrefetcher(eventStore, STREAM_ID, 3, 4, 5, executor)) {
+
+            // TEST
+            final StreamEventsSlice slice0 = testee.next(0);
+            final StreamEventsSlice slice1 = testee.next(3);
+
+            // VERIFY
+            assertThat(requestCount.get()).isEqualTo(2);
+            assertThat(slice0.getEvents()).hasSize(3);
+            assertThat(slice1.getEvents()).extracting(CommonEvent::getData).containsExactly("event-3", "event-4");
+
+        }
+
+    }
+
+    @Test
+    public void testUnexpectedStartRestarts() {
+
+        try (final SlicePrefetcher testee = new SlicePrefetcher(eventStore, STREAM_ID, 3, Integer.MAX_VALUE, 1, executor)) {
+
+            // PREPARE
+            testee.next(0);
+
+            // TEST
+            final StreamEventsSlice slice = testee.next(5);
+
+            // VERIFY
+            assertThat(slice.getEvents()).extracting(CommonEvent::getData).containsExactly("event-5", "event-6", "event-7");
+
+        }
+
+    }
+
+    @Test
+    public void testStreamNotFound() {
+
+        try (final SlicePrefetcher testee = new SlicePrefetcher(eventStore, new SimpleStreamId("unknown"), 3, Integer.MAX_VALUE, 1,
+                executor)) {
+
+            // TEST & VERIFY
+            assertThatThrownBy(() -> testee.next(0)).isInstanceOf(StreamNotFoundException.class);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.esc;
+
+import org.fuin.ddd4j.core.AggregateCache;
+import org.fuin.ddd4j.core.DomainEvent;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.SnapshotPolicy;
+import org.fuin.ddd4j.core.SnapshotStore;
+import org.fuin.ddd4j.jsonbtestmodel.PersonCreatedEvent;
+import org.fuin.ddd4j.jsonbtestmodel.PersonNameChangedEvent;
+import org.fuin.ddd4j.jsonbtestmodel.Vendor;
+import org.fuin.ddd4j.jsonbtestmodel.VendorId;
+import org.fuin.esc.api.EventStoreAsync;
+import org.fuin.utils4j.TestOmitted;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Implements a non-blocking repository that is capable of storing vendors.
+ */
+@TestOmitted("Only a test class")
+public final class VendorAsyncRepository extends AsyncEventStoreRepository<VendorId, Vendor> {
+
+    private final AggregateCache<Vendor> aggregateCache;
+
+    private final SnapshotStore<Vendor> snapshotStore;
+
+    private final SnapshotPolicy snapshotPolicy;
+
+    private final Executor snapshotExecutor;
+
+    /**
+     * Constructor all mandatory data.
+     *
+     * @param eventStore Event store.
+     */
+    public VendorAsyncRepository(final EventStoreAsync eventStore) {
+        this(eventStore, null, null, null, null);
+    }
+
+    /**
+     * Constructor with cache and snapshot support.
+     *
+     * @param eventStore Event store.
+     * @param aggregateCache Aggregate cache or {@literal null} for no cache.
+     * @param snapshotStore Snapshot store or {@literal null} for no snapshots.
+     * @param snapshotPolicy Decides when snapshots are taken or {@literal null} for the default.
+     * @param snapshotExecutor Executor for snapshot operations or {@literal null} for the default.
+     */
+    public VendorAsyncRepository(final EventStoreAsync eventStore, final AggregateCache<Vendor> aggregateCache,
+            final SnapshotStore<Vendor> snapshotStore, final SnapshotPolicy snapshotPolicy, final Executor snapshotExecutor) {
+        super(eventStore);
+        this.aggregateCache = aggregateCache;
+        this.snapshotStore = snapshotStore;
+        this.snapshotPolicy = snapshotPolicy;
+        this.snapshotExecutor = snapshotExecutor;
+    }
+
+    @Override
+    public Class<Vendor> getAggregateClass() {
+        return Vendor.class;
+    }
+
+    @Override
+    public final EntityType getAggregateType() {
+        return VendorId.TYPE;
+    }
+
+    @Override
+    public final Vendor create() {
+        return new Vendor();
+    }
+
+    @Override
+    protected final String getIdParamName() {
+        return "vendorId";
+    }
+
+    @Override
+    protected final AggregateCache<Vendor> getAggregateCache() {
+        if (aggregateCache == null) {
+            return super.getAggregateCache();
+        }
+        return aggregateCache;
+    }
+
+    @Override
+    protected final SnapshotStore<Vendor> getSnapshotStore() {
+        if (snapshotStore == null) {
+            return super.getSnapshotStore();
+        }
+        return snapshotStore;
+    }
+
+    @Override
+    protected final SnapshotPolicy getSnapshotPolicy() {
+        if (snapshotPolicy == null) {
+            return super.getSnapshotPolicy();
+        }
+        return snapshotPolicy;
+    }
+
+    @Override
+    protected final Executor getSnapshotExecutor() {
+        if (snapshotExecutor == null) {
+            return super.getSnapshotExecutor();
+        }
+        return snapshotExecutor;
+    }
+
+    @Override
+    public final int getReadPageSize() {
+        // Small pages to read more than one slice
+        return 2;
+    }
+
+    @Override
+    protected final boolean conflictsResolved(final List<DomainEvent<?>> uncommittedChanges, final List<DomainEvent<?>> unseenEvents) {
+
+        // Example code allows only "PersonCreatedEvent" and
+        // "PersonNameChangedEvent" in parallel
+        for (final DomainEvent<?> uncommitedEvent : uncommittedChanges) {
+            for (final DomainEvent<?> unseenEvent : unseenEvents) {
+                if (!((uncommitedEvent instanceof PersonNameChangedEvent) && (unseenEvent instanceof PersonCreatedEvent))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+
+    }
+
+}
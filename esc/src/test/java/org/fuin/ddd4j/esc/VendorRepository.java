@@ -17,16 +17,21 @@
  */
 package org.fuin.ddd4j.esc;
 
+import org.fuin.ddd4j.core.AggregateCache;
 import org.fuin.ddd4j.core.DomainEvent;
 import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.SnapshotPolicy;
+import org.fuin.ddd4j.core.SnapshotStore;
 import org.fuin.ddd4j.jsonbtestmodel.PersonCreatedEvent;
 import org.fuin.ddd4j.jsonbtestmodel.PersonNameChangedEvent;
 import org.fuin.ddd4j.jsonbtestmodel.Vendor;
 import org.fuin.ddd4j.jsonbtestmodel.VendorId;
 import org.fuin.esc.api.EventStore;
+import org.fuin.esc.api.TypeName;
 import org.fuin.utils4j.TestOmitted;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Implements a repository that is capable of storing vendors.
@@ -34,13 +39,114 @@ import java.util.List;
 @TestOmitted("Only a test class")
 public final class VendorRepository extends EventStoreRepository<VendorId, Vendor> {
 
+    private final Set<TypeName> ignoredEventTypes;
+
+    private final SnapshotStore<Vendor> snapshotStore;
+
+    private final SnapshotPolicy snapshotPolicy;
+
+    private final AggregateCache<Vendor> aggregateCache;
+
+    private final int readPageSize;
+
+    private final int readAheadSlices;
+
+    private final ReadPageSizePolicy readPageSizePolicy;
+
     /**
      * Constructor all mandatory data.
      *
      * @param eventStore Event store.
      */
     public VendorRepository(final EventStore eventStore) {
+        this(eventStore, Set.of());
+    }
+
+    /**
+     * Constructor with event types to ignore.
+     *
+     * @param eventStore Event store.
+     * @param ignoredEventTypes Event types to skip when reading a vendor.
+     */
+    public VendorRepository(final EventStore eventStore, final Set<TypeName> ignoredEventTypes) {
+        super(eventStore);
+        this.ignoredEventTypes = ignoredEventTypes;
+        this.snapshotStore = null;
+        this.snapshotPolicy = null;
+        this.aggregateCache = null;
+        this.readPageSize = 0;
+        this.readAheadSlices = 0;
+        this.readPageSizePolicy = null;
+    }
+
+    /**
+     * Constructor with snapshot support.
+     *
+     * @param eventStore Event store.
+     * @param snapshotStore Snapshot store.
+     * @param snapshotPolicy Decides when snapshots are taken.
+     */
+    public VendorRepository(final EventStore eventStore, final SnapshotStore<Vendor> snapshotStore, final SnapshotPolicy snapshotPolicy) {
+        super(eventStore);
+        this.ignoredEventTypes = Set.of();
+        this.snapshotStore = snapshotStore;
+        this.snapshotPolicy = snapshotPolicy;
+        this.aggregateCache = null;
+        this.readPageSize = 0;
+        this.readAheadSlices = 0;
+        this.readPageSizePolicy = null;
+    }
+
+    /**
+     * Constructor with cache.
+     *
+     * @param eventStore Event store.
+     * @param aggregateCache Aggregate cache.
+     */
+    public VendorRepository(final EventStore eventStore, final AggregateCache<Vendor> aggregateCache) {
+        super(eventStore);
+        this.ignoredEventTypes = Set.of();
+        this.snapshotStore = null;
+        this.snapshotPolicy = null;
+        this.aggregateCache = aggregateCache;
+        this.readPageSize = 0;
+        this.readAheadSlices = 0;
+        this.readPageSizePolicy = null;
+    }
+
+    /**
+     * Constructor with paging options.
+     *
+     * @param eventStore Event store.
+     * @param readPageSize Number of events in a slice.
+     * @param readAheadSlices Number of slices to read in advance.
+     */
+    public VendorRepository(final EventStore eventStore, final int readPageSize, final int readAheadSlices) {
         super(eventStore);
+        this.ignoredEventTypes = Set.of();
+        this.snapshotStore = null;
+        this.snapshotPolicy = null;
+        this.aggregateCache = null;
+        this.readPageSize = readPageSize;
+        this.readAheadSlices = readAheadSlices;
+        this.readPageSizePolicy = null;
+    }
+
+    /**
+     * Constructor with page size policy.
+     *
+     * @param eventStore Event store.
+     * @param readPageSizePolicy Decides about the number of events in a slice.
+     */
+    public VendorRepository(final EventStore eventStore, final ReadPageSizePolicy readPageSizePolicy) {
+        super(eventStore);
+        this.ignoredEventTypes = Set.of();
+        this.snapshotStore = null;
+        this.snapshotPolicy = null;
+        this.aggregateCache = null;
+        this.readPageSize = 0;
+        this.readAheadSlices = 0;
+        this.readPageSizePolicy = readPageSizePolicy;
     }
 
     @Override
@@ -63,6 +169,56 @@ public final class VendorRepository extends EventStoreRepository<VendorId, Vendo
         return "vendorId";
     }
 
+    @Override
+    protected final AggregateCache<Vendor> getAggregateCache() {
+        if (aggregateCache == null) {
+            return super.getAggregateCache();
+        }
+        return aggregateCache;
+    }
+
+    @Override
+    protected final SnapshotStore<Vendor> getSnapshotStore() {
+        if (snapshotStore == null) {
+            return super.getSnapshotStore();
+        }
+        return snapshotStore;
+    }
+
+    @Override
+    protected final SnapshotPolicy getSnapshotPolicy() {
+        if (snapshotPolicy == null) {
+            return super.getSnapshotPolicy();
+        }
+        return snapshotPolicy;
+    }
+
+    @Override
+    public final int getReadPageSize() {
+        if (readPageSize == 0) {
+            return super.getReadPageSize();
+        }
+        return readPageSize;
+    }
+
+    @Override
+    protected final ReadPageSizePolicy getReadPageSizePolicy() {
+        if (readPageSizePolicy == null) {
+            return super.getReadPageSizePolicy();
+        }
+        return readPageSizePolicy;
+    }
+
+    @Override
+    protected final int getReadAheadSlices() {
+        return readAheadSlices;
+    }
+
+    @Override
+    protected final Set<TypeName> getIgnoredEventTypes() {
+        return ignoredEventTypes;
+    }
+
     @Override
     protected final boolean conflictsResolved(final List<DomainEvent<?>> uncommittedChanges, final List<DomainEvent<?>> unseenEvents) {
 
@@ -121,6 +121,15 @@ public abstract class AbstractDomainEvent<ID extends EntityId> extends AbstractE
         return aggregateVersion.asBaseType();
     }
 
+    @Override
+    @JsonIgnore
+    public final int getAggregateVersionInt() {
+        if (aggregateVersion == null) {
+            return -1;
+        }
+        return aggregateVersion.intValue();
+    }
+
     /**
      * Base class for event builders.
      *
@@ -19,9 +19,11 @@ package org.fuin.ddd4j.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import org.fuin.ddd4j.core.Event;
+import org.fuin.ddd4j.core.EventClock;
 import org.fuin.ddd4j.core.EventId;
 import org.fuin.objects4j.common.Contract;
 import org.fuin.objects4j.ui.Label;
@@ -40,6 +42,9 @@ public abstract class AbstractEvent implements Event {
     @Serial
     private static final long serialVersionUID = 1000L;
 
+    /** Name of the time stamp property. */
+    static final String EVENT_TIMESTAMP = "event-timestamp";
+
     @NotNull(message = "event-id must not be null")
     @JsonProperty("event-id")
     private EventId eventId;
@@ -49,7 +54,8 @@ public abstract class AbstractEvent implements Event {
     @Tooltip("Date/Time the event was created")
     @Prompt("2016-12-31T23:59:59+02:00")
     @NotNull(message = "event-timestamp must not be null")
-    @JsonProperty("event-timestamp")
+    @JsonProperty(EVENT_TIMESTAMP)
+    @JsonDeserialize(using = EventTimestampJacksonDeserializer.class)
     private ZonedDateTime eventTimestamp;
 
     @Label("Correlation Identifier")
@@ -91,7 +97,7 @@ public abstract class AbstractEvent implements Event {
     public AbstractEvent(@Nullable final EventId correlationId, @Nullable final EventId causationId) {
         super();
         this.eventId = new EventId();
-        this.eventTimestamp = ZonedDateTime.now();
+        this.eventTimestamp = EventClock.now();
         this.correlationId = correlationId;
         this.causationId = causationId;
     }
@@ -43,7 +43,7 @@ public final class AggregateVersionJacksonSerializer extends StdSerializer<Aggre
         if (value == null) {
             gen.writeNull();
         } else {
-            gen.writeNumber(value.asBaseType());
+            gen.writeNumber(value.intValue());
         }
     }
 
@@ -1,13 +1,19 @@
 package org.fuin.ddd4j.jackson;
 
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.module.SimpleDeserializers;
 import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.fuin.ddd4j.core.AggregateVersion;
 import org.fuin.ddd4j.core.EntityIdFactory;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.ddd4j.core.EventId;
 import org.fuin.ddd4j.core.EventType;
 import org.fuin.objects4j.jackson.ValueObjectStringJacksonDeserializer;
@@ -25,6 +31,10 @@ public class Ddd4JacksonModule extends Module {
 
     private final EntityIdFactory entityIdFactory;
 
+    private final EntityIdPathCache entityIdPathCache;
+
+    private boolean compactEventTimestamps;
+
     /**
      * Constructor with entity identifier factory.
      *
@@ -32,6 +42,29 @@ public class Ddd4JacksonModule extends Module {
      */
     public Ddd4JacksonModule(EntityIdFactory entityIdFactory) {
         this.entityIdFactory = Objects.requireNonNull(entityIdFactory, "entityIdFactory==null");
+        this.entityIdPathCache = null;
+    }
+
+    /**
+     * Constructor with a cache for entity identifier paths.
+     *
+     * @param entityIdPathCache Cache used to convert entity identifier paths.
+     */
+    public Ddd4JacksonModule(EntityIdPathCache entityIdPathCache) {
+        this.entityIdPathCache = Objects.requireNonNull(entityIdPathCache, "entityIdPathCache==null");
+        this.entityIdFactory = entityIdPathCache.getFactory();
+    }
+
+    /**
+     * Writes the time stamp of all events derived from {@link AbstractEvent} as milliseconds since the epoch instead of the zoned
+     * date/time. Events are always read in both forms, so this can be enabled without converting already stored events. Should be
+     * called before the module is registered.
+     *
+     * @return This module.
+     */
+    public Ddd4JacksonModule compactEventTimestamps() {
+        this.compactEventTimestamps = true;
+        return this;
     }
 
     @Override
@@ -56,10 +89,18 @@ public class Ddd4JacksonModule extends Module {
 
         final SimpleDeserializers deserializers = new SimpleDeserializers();
         deserializers.addDeserializer(AggregateVersion.class, new AggregateVersionJacksonDeserializer());
-        deserializers.addDeserializer(EntityIdPath.class, new EntityIdPathJacksonDeserializer(entityIdFactory));
+        if (entityIdPathCache == null) {
+            deserializers.addDeserializer(EntityIdPath.class, new EntityIdPathJacksonDeserializer(entityIdFactory));
+        } else {
+            deserializers.addDeserializer(EntityIdPath.class, new EntityIdPathJacksonDeserializer(entityIdPathCache));
+        }
         deserializers.addDeserializer(EventId.class, new ValueObjectStringJacksonDeserializer<>(EventId.class, EventId::valueOf));
         deserializers.addDeserializer(EventType.class, new ValueObjectStringJacksonDeserializer<>(EventType.class, EventType::new));
         context.addDeserializers(deserializers);
+
+        if (compactEventTimestamps) {
+            context.addBeanSerializerModifier(new CompactEventTimestampModifier());
+        }
     }
 
     @Override
@@ -69,4 +110,27 @@ public class Ddd4JacksonModule extends Module {
             "org.fuin.ddd4j", "ddd-4-java-jackson");
     }
 
-}
\ No newline at end of file
+    /**
+     * Replaces the serializer of the event time stamp property.
+     */
+    private static final class CompactEventTimestampModifier extends BeanSerializerModifier {
+
+        @SuppressWarnings("unchecked")
+        private final JsonSerializer<Object> serializer = (JsonSerializer<Object>) (JsonSerializer<?>) new EventTimestampJacksonSerializer();
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(final SerializationConfig config, final BeanDescription beanDesc,
+                                                         final List<BeanPropertyWriter> beanProperties) {
+            if (AbstractEvent.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                for (final BeanPropertyWriter writer : beanProperties) {
+                    if (writer.getName().equals(AbstractEvent.EVENT_TIMESTAMP) && !writer.hasSerializer()) {
+                        writer.assignSerializer(serializer);
+                    }
+                }
+            }
+            return beanProperties;
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import org.fuin.ddd4j.core.EntityIdFactory;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.objects4j.common.ValueOfCapable;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -46,6 +47,16 @@ public final class EntityIdPathJacksonDeserializer extends StdDeserializer<Entit
         vop = str -> EntityIdPath.valueOf(factory, str);
     }
 
+    /**
+     * Constructor with a cache that returns already known paths without parsing them again.
+     *
+     * @param cache Cache to use.
+     */
+    public EntityIdPathJacksonDeserializer(final EntityIdPathCache cache) {
+        super(EntityIdPath.class);
+        vop = cache::valueOf;
+    }
+
     @Override
     public EntityIdPath deserialize(JsonParser parser, DeserializationContext context) throws IOException {
         final JsonToken currentToken = parser.getCurrentToken();
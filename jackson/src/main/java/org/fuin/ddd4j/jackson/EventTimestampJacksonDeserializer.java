@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.UnsupportedTypeDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Reads an event time stamp in all forms that were ever written (Jackson): An ISO zoned date/time string, milliseconds since the epoch
+ * (Compact form written by the {@link EventTimestampJacksonSerializer}) or seconds with fraction since the epoch (Default form of the
+ * <code>JavaTimeModule</code> if dates are written as time stamps). Numbers carry no time zone and are returned in UTC. The compact
+ * millisecond form has no sub-millisecond part, so the nanoseconds of such a time stamp are lost when it is written. Strings are passed
+ * to the <code>ZonedDateTime</code> deserializer of the context (For example the one of the <code>JavaTimeModule</code>), so the
+ * settings of the <code>ObjectMapper</code> like <code>ADJUST_DATES_TO_CONTEXT_TIME_ZONE</code> apply. If the context has no such
+ * deserializer, the default one of the <code>JavaTimeModule</code> is used.
+ */
+@ThreadSafe
+public final class EventTimestampJacksonDeserializer extends StdDeserializer<ZonedDateTime> implements ContextualDeserializer {
+
+    private final JsonDeserializer<?> stringDeserializer;
+
+    /**
+     * Default constructor.
+     */
+    public EventTimestampJacksonDeserializer() {
+        this(InstantDeserializer.ZONED_DATE_TIME);
+    }
+
+    private EventTimestampJacksonDeserializer(final JsonDeserializer<?> stringDeserializer) {
+        super(ZonedDateTime.class);
+        this.stringDeserializer = stringDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext context, final BeanProperty property)
+            throws JsonMappingException {
+        final JavaType type = context.constructType(ZonedDateTime.class);
+        // Not the contextual variant: This deserializer may be the one registered for the type
+        JsonDeserializer<?> deserializer = context.findNonContextualValueDeserializer(type);
+        if (deserializer instanceof EventTimestampJacksonDeserializer || deserializer instanceof UnsupportedTypeDeserializer) {
+            deserializer = InstantDeserializer.ZONED_DATE_TIME;
+        }
+        return new EventTimestampJacksonDeserializer(context.handleSecondaryContextualization(deserializer, property, type));
+    }
+
+    @Override
+    public ZonedDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        final JsonToken currentToken = parser.getCurrentToken();
+        if (currentToken.equals(JsonToken.VALUE_NUMBER_INT)) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+        }
+        if (currentToken.equals(JsonToken.VALUE_NUMBER_FLOAT)) {
+            final BigDecimal value = parser.getDecimalValue();
+            final long seconds = value.longValue();
+            final int nanos = value.subtract(BigDecimal.valueOf(seconds)).movePointRight(9).intValue();
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), ZoneOffset.UTC);
+        }
+        if (currentToken.equals(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return (ZonedDateTime) stringDeserializer.deserialize(parser, context);
+    }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+/**
+ * Writes an event time stamp in the compact form as milliseconds since the epoch (Jackson). The time zone is not stored, so
+ * the {@link EventTimestampJacksonDeserializer} returns the time stamp in UTC. Used by the {@link Ddd4JacksonModule} if
+ * compact event time stamps are enabled.
+ */
+@ThreadSafe
+public final class EventTimestampJacksonSerializer extends StdSerializer<ZonedDateTime> {
+
+    /**
+     * Default constructor.
+     */
+    public EventTimestampJacksonSerializer() {
+        super(ZonedDateTime.class);
+    }
+
+    @Override
+    public void serialize(ZonedDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.toInstant().toEpochMilli());
+        }
+    }
+
+}
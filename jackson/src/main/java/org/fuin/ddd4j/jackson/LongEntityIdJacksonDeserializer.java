@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.fuin.ddd4j.core.LongEntityId;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.util.function.LongFunction;
+
+/**
+ * Converts a JSON number into a long based entity identifier without boxing it (Jackson).
+ *
+ * @param <T> Type of the entity identifier.
+ */
+@ThreadSafe
+public final class LongEntityIdJacksonDeserializer<T extends LongEntityId> extends StdDeserializer<T> {
+
+    private final LongFunction<T> factory;
+
+    /**
+     * Constructor with target type and factory.
+     *
+     * @param clasz Entity ID class.
+     * @param factory Creates the identifier from the primitive value.
+     */
+    public LongEntityIdJacksonDeserializer(final Class<T> clasz, final LongFunction<T> factory) {
+        super(clasz);
+        Contract.requireArgNotNull("factory", factory);
+        this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        final JsonToken currentToken = parser.getCurrentToken();
+        if (currentToken.equals(JsonToken.VALUE_NUMBER_INT)) {
+            return factory.apply(parser.getLongValue());
+        }
+        if (currentToken.equals(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return (T) context.handleUnexpectedToken(handledType(), parser);
+    }
+
+}
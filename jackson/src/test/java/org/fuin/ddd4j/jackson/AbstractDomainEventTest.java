@@ -2,6 +2,7 @@ package org.fuin.ddd4j.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.fuin.ddd4j.core.AggregateVersion;
 import org.fuin.ddd4j.core.EntityIdPath;
 import org.fuin.ddd4j.core.Event;
 import org.fuin.ddd4j.core.EventId;
@@ -99,6 +100,25 @@ public class AbstractDomainEventTest {
 
     }
 
+    @Test
+    public final void testAggregateVersionPrimitive() {
+
+        // PREPARE
+        final VendorId vendorId = new VendorId();
+
+        // TEST
+        final MyEvent1 withVersion = new MyEvent1.Builder().entityIdPath(new EntityIdPath(vendorId))
+                .aggregateVersion(AggregateVersion.valueOf(5)).build();
+        final MyEvent1 withoutVersion = new MyEvent1.Builder().entityIdPath(new EntityIdPath(vendorId)).build();
+
+        // VERIFY
+        assertThat(withVersion.hasAggregateVersion()).isTrue();
+        assertThat(withVersion.getAggregateVersionInt()).isEqualTo(5);
+        assertThat(withoutVersion.hasAggregateVersion()).isFalse();
+        assertThat(withoutVersion.getAggregateVersionInt()).isEqualTo(-1);
+
+    }
+
     @Test
     public final void testSerializeDeserialize() {
 
@@ -5,10 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fuin.ddd4j.core.Event;
 import org.fuin.ddd4j.core.EventId;
 import org.fuin.ddd4j.core.EventType;
+import org.fuin.ddd4j.jacksontest.JacksonTestEntityIdFactory;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serial;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -147,6 +150,44 @@ public class AbstractEventTest {
 
     }
 
+    @Test
+    public final void testMarshalUnmarshalCompactTimestamp() throws Exception {
+
+        // PREPARE
+        final ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new Ddd4JacksonModule(new JacksonTestEntityIdFactory()).compactEventTimestamps());
+        final MyEvent1 original = new MyEvent1.Builder().eventId(new EventId())
+                .timestamp(ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"))).build();
+
+        // TEST
+        final String json = objectMapper.writeValueAsString(original);
+        final MyEvent1 copy = objectMapper.readValue(json, MyEvent1.class);
+
+        // VERIFY
+        assertThat(json).contains("\"event-timestamp\":1474187888123");
+        assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(original.getEventTimestamp().toInstant());
+        assertThat(copy.getEventTimestamp().getZone()).isEqualTo(ZoneOffset.UTC);
+
+    }
+
+    @Test
+    public final void testUnmarshalCompactTimestamp() throws Exception {
+
+        // PREPARE
+        final String json = """
+                {
+                  "event-id" : "f910c6d7-debc-46e1-ae02-9ca6f4658cf5",
+                  "event-timestamp" : 1474187888000
+                }""";
+
+        // TEST
+        final MyEvent1 copy = TestUtils.objectMapper().readValue(json, MyEvent1.class);
+
+        // VERIFY
+        assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(Instant.parse("2016-09-18T08:38:08Z"));
+
+    }
+
     public static class MyEvent1 extends AbstractEvent {
 
         @Serial
@@ -20,9 +20,11 @@ package org.fuin.ddd4j.jackson;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.fuin.ddd4j.core.EntityId;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.ddd4j.jacksontest.AId;
 import org.fuin.ddd4j.jacksontest.BId;
 import org.fuin.ddd4j.jacksontest.CId;
+import org.fuin.ddd4j.jacksontest.JacksonTestEntityIdFactory;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
@@ -78,6 +80,23 @@ public class EntityIdPathJacksonDeserializerTest {
         assertThat(it.hasNext()).isFalse();
     }
 
+    @Test
+    public void testUnmarshalWithCache() throws Exception {
+
+        // PREPARE
+        final EntityIdPathCache cache = new EntityIdPathCache(new JacksonTestEntityIdFactory());
+        final ObjectMapper objectMapper = new ObjectMapper().registerModule(new Ddd4JacksonModule(cache));
+
+        // TEST
+        final EntityIdPath path = objectMapper.readValue("\"A 1/B 2\"", EntityIdPath.class);
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(1), new BId(2)));
+        assertThat(objectMapper.readValue("\"A 1/B 2\"", EntityIdPath.class)).isSameAs(path);
+        assertThat(cache.size()).isEqualTo(1);
+
+    }
+
     private void assertValues(EntityId entityId, Class<?> typeClass, String type, long id) {
         assertThat(entityId).isInstanceOf(typeClass);
         assertThat(entityId.getType().asString()).isEqualTo(type);
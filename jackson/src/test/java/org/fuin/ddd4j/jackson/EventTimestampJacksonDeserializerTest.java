@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTimestampJacksonDeserializerTest {
+
+    private static final Instant INSTANT = Instant.parse("2016-09-18T08:38:08.123Z");
+
+    private static ZonedDateTime read(final String json) throws Exception {
+        return read(new ObjectMapper(), json);
+    }
+
+    private static ZonedDateTime read(final ObjectMapper mapper, final String json) throws Exception {
+        mapper.registerModule(new SimpleModule().addDeserializer(ZonedDateTime.class, new EventTimestampJacksonDeserializer()));
+        return mapper.readValue(json, ZonedDateTime.class);
+    }
+
+    @Test
+    public void testIsoString() throws Exception {
+        final ZonedDateTime result = read("\"2016-09-18T10:38:08.123+02:00[Europe/Berlin]\"");
+        assertThat(result.toInstant()).isEqualTo(INSTANT);
+        // Adjusted to the context time zone (Default setting of the mapper)
+        assertThat(result.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void testIsoStringUsesMapperSettings() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        final ZonedDateTime result = read(mapper, "\"2016-09-18T10:38:08.123+02:00[Europe/Berlin]\"");
+        assertThat(result.toInstant()).isEqualTo(INSTANT);
+        assertThat(result.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+    }
+
+    @Test
+    public void testIsoStringWithAnnotation() throws Exception {
+        final Event event = new ObjectMapper().disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+                .readValue("{\"timestamp\":\"2016-09-18T10:38:08.123+02:00[Europe/Berlin]\"}", Event.class);
+        assertThat(event.timestamp.toInstant()).isEqualTo(INSTANT);
+        assertThat(event.timestamp.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+    }
+
+    @Test
+    public void testEpochMillis() throws Exception {
+        final ZonedDateTime result = read("1474187888123");
+        assertThat(result.toInstant()).isEqualTo(INSTANT);
+        assertThat(result.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void testEpochSecondsWithFraction() throws Exception {
+        assertThat(read("1474187888.123000000").toInstant()).isEqualTo(INSTANT);
+    }
+
+    @Test
+    public void testNull() throws Exception {
+        assertThat(read("null")).isNull();
+    }
+
+    public static final class Event {
+
+        @JsonDeserialize(using = EventTimestampJacksonDeserializer.class)
+        public ZonedDateTime timestamp;
+
+    }
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTimestampJacksonSerializerTest {
+
+    @Test
+    public void testMarshal() throws Exception {
+
+        // PREPARE
+        final ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new EventTimestampJacksonSerializer()));
+        final ZonedDateTime timestamp = ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"));
+
+        // TEST & VERIFY
+        assertThat(mapper.writeValueAsString(timestamp)).isEqualTo("1474187888123");
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.LongEntityId;
+import org.fuin.ddd4j.core.StringBasedEntityType;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LongEntityIdJacksonDeserializerTest {
+
+    private static final EntityType TYPE = new StringBasedEntityType("Item");
+
+    private static LongEntityId itemId(final long id) {
+        return new LongEntityId(TYPE, id) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+    private static ObjectMapper mapper() {
+        return new ObjectMapper().registerModule(new SimpleModule().addDeserializer(LongEntityId.class,
+                new LongEntityIdJacksonDeserializer<>(LongEntityId.class, LongEntityIdJacksonDeserializerTest::itemId)));
+    }
+
+    @Test
+    public void testUnmarshal() throws Exception {
+        assertThat(mapper().readValue("9876543210", LongEntityId.class)).isEqualTo(itemId(9876543210L));
+        assertThat(mapper().readValue("null", LongEntityId.class)).isNull();
+    }
+
+    @Test
+    public void testUnmarshalString() {
+        assertThatThrownBy(() -> mapper().readValue("\"9876543210\"", LongEntityId.class)).isInstanceOf(MismatchedInputException.class);
+    }
+
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.fuin.ddd4j.core.EntityType;
+import org.fuin.ddd4j.core.LongEntityId;
+import org.fuin.ddd4j.core.StringBasedEntityType;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongEntityIdJacksonSerializerTest {
+
+    private static final EntityType TYPE = new StringBasedEntityType("Item");
+
+    private static LongEntityId itemId(final long id) {
+        return new LongEntityId(TYPE, id) {
+            @Serial
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+    @Test
+    public void testMarshal() throws Exception {
+
+        // PREPARE
+        final ObjectMapper mapper = new ObjectMapper().registerModule(
+                new SimpleModule().addSerializer(new LongEntityIdJacksonSerializer<>(LongEntityId.class)));
+
+        // TEST & VERIFY
+        assertThat(mapper.writeValueAsString(itemId(9876543210L))).isEqualTo("9876543210");
+
+    }
+
+}
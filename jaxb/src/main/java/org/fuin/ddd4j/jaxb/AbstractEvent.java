@@ -17,12 +17,12 @@
  */
 package org.fuin.ddd4j.jaxb;
 
-import io.github.threetenjaxb.core.ZonedDateTimeXmlAdapter;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.fuin.ddd4j.core.Event;
+import org.fuin.ddd4j.core.EventClock;
 import org.fuin.ddd4j.core.EventId;
 import org.fuin.objects4j.common.Contract;
 import org.fuin.objects4j.ui.Label;
@@ -51,7 +51,7 @@ public abstract class AbstractEvent implements Event {
     @Tooltip("Date/Time the event was created")
     @Prompt("2016-12-31T23:59:59+02:00")
     @NotNull(message = "event-timestamp must not be null")
-    @XmlJavaTypeAdapter(ZonedDateTimeXmlAdapter.class)
+    @XmlJavaTypeAdapter(EventTimestampXmlAdapter.class)
     @XmlElement(name = "event-timestamp")
     private ZonedDateTime eventTimestamp;
 
@@ -99,7 +99,7 @@ public abstract class AbstractEvent implements Event {
     public AbstractEvent(@Nullable final EventId correlationId, @Nullable final EventId causationId) {
         super();
         this.eventId = new EventId();
-        this.eventTimestamp = ZonedDateTime.now();
+        this.eventTimestamp = EventClock.now();
         this.correlationId = correlationId;
         this.causationId = causationId;
     }
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jaxb;
+
+import io.github.threetenjaxb.core.ZonedDateTimeXmlAdapter;
+import jakarta.xml.bind.annotation.adapters.XmlAdapter;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Converts an event time stamp into a string and back. Reading accepts the ISO-8601 form as well as the compact form
+ * (milliseconds since the epoch) that is returned in UTC. Writing uses the ISO-8601 form by default. The compact form can
+ * be enabled by setting an instance created with {@link #EventTimestampXmlAdapter(boolean)} on the marshaller using
+ * {@link jakarta.xml.bind.Marshaller#setAdapter(XmlAdapter)}.
+ */
+@ThreadSafe
+public final class EventTimestampXmlAdapter extends XmlAdapter<String, ZonedDateTime> {
+
+    private final ZonedDateTimeXmlAdapter iso = new ZonedDateTimeXmlAdapter();
+
+    private final boolean compact;
+
+    /**
+     * Default constructor that writes the ISO-8601 form.
+     */
+    public EventTimestampXmlAdapter() {
+        this(false);
+    }
+
+    /**
+     * Constructor with the output form.
+     *
+     * @param compact
+     *            TRUE if milliseconds since the epoch are written, FALSE for the ISO-8601 form.
+     */
+    public EventTimestampXmlAdapter(final boolean compact) {
+        super();
+        this.compact = compact;
+    }
+
+    @Override
+    public ZonedDateTime unmarshal(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String str = value.trim();
+        if (isEpochMillis(str)) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(str)), ZoneOffset.UTC);
+        }
+        return iso.unmarshal(str);
+    }
+
+    @Override
+    public String marshal(final ZonedDateTime value) {
+        if (value == null) {
+            return null;
+        }
+        if (compact) {
+            return String.valueOf(value.toInstant().toEpochMilli());
+        }
+        return iso.marshal(value);
+    }
+
+    private static boolean isEpochMillis(final String str) {
+        if (str.isEmpty()) {
+            return false;
+        }
+        final int start = str.charAt(0) == '-' ? 1 : 0;
+        if (start == str.length()) {
+            return false;
+        }
+        for (int i = start; i < str.length(); i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
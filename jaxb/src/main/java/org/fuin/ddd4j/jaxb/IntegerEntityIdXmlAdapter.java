@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jaxb;
+
+import jakarta.xml.bind.annotation.adapters.XmlAdapter;
+import org.fuin.ddd4j.core.IntegerEntityId;
+import org.fuin.objects4j.common.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.function.IntFunction;
+
+/**
+ * Converts a integer based entity identifier into a number and back (JAXB). Create a subclass with a default constructor to use it
+ * with the {@link jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter} annotation.
+ *
+ * @param <T> Type of the entity identifier.
+ */
+@ThreadSafe
+public class IntegerEntityIdXmlAdapter<T extends IntegerEntityId> extends XmlAdapter<Integer, T> {
+
+    private final IntFunction<T> factory;
+
+    /**
+     * Constructor with factory.
+     *
+     * @param factory Creates the identifier from the primitive value.
+     */
+    public IntegerEntityIdXmlAdapter(final IntFunction<T> factory) {
+        super();
+        Contract.requireArgNotNull("factory", factory);
+        this.factory = factory;
+    }
+
+    @Override
+    public final T unmarshal(final Integer value) throws Exception {
+        if (value == null) {
+            return null;
+        }
+        return factory.apply(value);
+    }
+
+    @Override
+    public final Integer marshal(final T id) throws Exception {
+        if (id == null) {
+            return null;
+        }
+        return id.intValue();
+    }
+
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.Serial;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -146,6 +147,27 @@ public class AbstractEventTest {
 
     }
 
+    @Test
+    public final void testMarshalUnmarshalCompactTimestamp() {
+
+        // PREPARE
+        final ZonedDateTime timestamp = ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"));
+        final MyEvent1 original = new MyEvent1.Builder().eventId(new EventId()).timestamp(timestamp).build();
+
+        // TEST
+        final Marshaller marshaller = new MarshallerBuilder().addClassesToBeBound(MyEvent1.class)
+                .addAdapter(new EventTimestampXmlAdapter(true)).build();
+        final String xml = marshal(marshaller, original);
+        final MyEvent1 copy = unmarshal(xml, MyEvent1.class);
+
+        // VERIFY
+        assertThat(xml).contains("<event-timestamp>1474187888123</event-timestamp>");
+        assertThat(copy.getEventId()).isEqualTo(original.getEventId());
+        assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(timestamp.toInstant());
+        assertThat(copy.getEventTimestamp().getZone()).isEqualTo(ZoneOffset.UTC);
+
+    }
+
     @XmlRootElement(name = "my-event-1")
     public static class MyEvent1 extends AbstractEvent {
 
@@ -19,6 +19,7 @@ package org.fuin.ddd4j.jaxb;
 
 import org.fuin.ddd4j.core.EntityId;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.ddd4j.jaxbtest.AId;
 import org.fuin.ddd4j.jaxbtest.BId;
 import org.fuin.ddd4j.jaxbtest.CId;
@@ -96,6 +97,24 @@ public class EntityIdPathXmlAdapterTest {
 
     }
 
+    @Test
+    public void testUnmarshalWithCache() {
+
+        // PREPARE
+        final EntityIdPathCache cache = new EntityIdPathCache(new JaxbTestEntityIdFactory());
+        final EntityIdPathXmlAdapter testee = new EntityIdPathXmlAdapter(cache);
+
+        // TEST
+        final EntityIdPath path = testee.unmarshal("A 1/B 2");
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(1), new BId(2)));
+        assertThat(testee.unmarshal("A 1/B 2")).isSameAs(path);
+        assertThat(testee.unmarshal(null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+    }
+
     private void assertValues(EntityId entityId, Class<?> typeClass, String type, long id) {
         assertThat(entityId).isInstanceOf(typeClass);
         assertThat(entityId.getType().asString()).isEqualTo(type);
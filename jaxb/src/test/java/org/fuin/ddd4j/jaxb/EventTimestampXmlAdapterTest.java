@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jaxb;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTimestampXmlAdapterTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"));
+
+    @Test
+    public void testUnmarshal() {
+
+        // PREPARE
+        final EventTimestampXmlAdapter testee = new EventTimestampXmlAdapter();
+
+        // TEST
+        final ZonedDateTime iso = testee.unmarshal("2016-09-18T10:38:08.123+02:00[Europe/Berlin]");
+        final ZonedDateTime compact = testee.unmarshal("1474187888123");
+
+        // VERIFY
+        assertThat(iso).isEqualTo(TIMESTAMP);
+        assertThat(iso.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(compact.toInstant()).isEqualTo(Instant.parse("2016-09-18T08:38:08.123Z"));
+        assertThat(compact.getZone()).isEqualTo(ZoneOffset.UTC);
+        assertThat(testee.unmarshal(null)).isNull();
+
+    }
+
+    @Test
+    public void testMarshal() {
+
+        // TEST & VERIFY
+        assertThat(new EventTimestampXmlAdapter().marshal(TIMESTAMP)).isEqualTo("2016-09-18T10:38:08.123+02:00[Europe/Berlin]");
+        assertThat(new EventTimestampXmlAdapter(true).marshal(TIMESTAMP)).isEqualTo("1474187888123");
+        assertThat(new EventTimestampXmlAdapter(true).marshal(null)).isNull();
+
+    }
+
+}
@@ -91,4 +91,13 @@ public class Person extends AbstractEntity<VendorId, Vendor, PersonId> {
         return id;
     }
 
+    /**
+     * Returns the name.
+     *
+     * @return Current name.
+     */
+    public final PersonName getName() {
+        return name;
+    }
+
 }
@@ -25,19 +25,28 @@ import org.fuin.ddd4j.core.EntityIdPath;
 import org.fuin.ddd4j.core.EntityType;
 import org.fuin.objects4j.common.Contract;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Vendor aggregate.
+ * Vendor aggregate. The aggregate is serializable, so it can be stored as a snapshot.
  */
-public class Vendor extends AbstractAggregateRoot<VendorId> {
+public class Vendor extends AbstractAggregateRoot<VendorId> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1000L;
 
     private VendorRef ref;
 
     private Integer lastPersonId;
 
-    private List<Person> persons;
+    // Entities are not serializable - The persons are written and recreated by the vendor
+    private transient List<Person> persons;
 
     /**
      * Default constructor used by the repositories. NEVER use in your application code!
@@ -180,6 +189,46 @@ public class Vendor extends AbstractAggregateRoot<VendorId> {
         return ref;
     }
 
+    @Override
+    protected Vendor copy() {
+        final Vendor copy = new Vendor();
+        copy.ref = ref;
+        copy.lastPersonId = lastPersonId;
+        if (persons != null) {
+            copy.persons = new ArrayList<>(persons.size());
+            for (final Person person : persons) {
+                copy.persons.add(new Person(copy, person.getId(), person.getName()));
+            }
+        }
+        return copy;
+    }
+
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (persons == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(persons.size());
+            for (final Person person : persons) {
+                out.writeObject(person.getId());
+                out.writeObject(person.getName());
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int count = in.readInt();
+        if (count >= 0) {
+            persons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                persons.add(new Person(this, (PersonId) in.readObject(), (PersonName) in.readObject()));
+            }
+        }
+    }
+
     /**
      * Interface for the constructor.
      */
@@ -20,8 +20,11 @@ package org.fuin.ddd4j.jsonb;
 import jakarta.annotation.Nullable;
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbTypeAdapter;
+import jakarta.json.bind.annotation.JsonbTypeDeserializer;
+import jakarta.json.bind.annotation.JsonbTypeSerializer;
 import jakarta.validation.constraints.NotNull;
 import org.fuin.ddd4j.core.Event;
+import org.fuin.ddd4j.core.EventClock;
 import org.fuin.ddd4j.core.EventId;
 import org.fuin.objects4j.common.Contract;
 import org.fuin.objects4j.ui.Label;
@@ -51,6 +54,8 @@ public abstract class AbstractEvent implements Event {
     @Prompt("2016-12-31T23:59:59+02:00")
     @NotNull(message = "event-timestamp must not be null")
     @JsonbProperty("event-timestamp")
+    @JsonbTypeSerializer(EventTimestampJsonbSerializer.class)
+    @JsonbTypeDeserializer(EventTimestampJsonbDeserializer.class)
     private ZonedDateTime eventTimestamp;
 
     @Label("Correlation Identifier")
@@ -94,7 +99,7 @@ public abstract class AbstractEvent implements Event {
     public AbstractEvent(@Nullable final EventId correlationId, @Nullable final EventId causationId) {
         super();
         this.eventId = new EventId();
-        this.eventTimestamp = ZonedDateTime.now();
+        this.eventTimestamp = EventClock.now();
         this.correlationId = correlationId;
         this.causationId = causationId;
     }
@@ -19,6 +19,7 @@ package org.fuin.ddd4j.jsonb;
 
 import org.fuin.ddd4j.core.EntityIdFactory;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.objects4j.jsonb.ValueObjectStringJsonbAdapter;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -38,4 +39,13 @@ public final class EntityIdPathJsonbAdapter extends ValueObjectStringJsonbAdapte
         super(str -> EntityIdPath.valueOf(factory, str));
     }
 
+    /**
+     * Constructor with a cache that returns already known paths without parsing them again.
+     *
+     * @param cache Cache to use.
+     */
+    public EntityIdPathJsonbAdapter(final EntityIdPathCache cache) {
+        super(cache::valueOf);
+    }
+
 }
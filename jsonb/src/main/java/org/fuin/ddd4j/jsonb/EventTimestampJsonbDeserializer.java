@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jsonb;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbDeserializer;
+import jakarta.json.stream.JsonParser;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Reads an event time stamp (JSON-B). Accepts the ISO-8601 form written by default as well as the compact form written by
+ * the {@link EventTimestampJsonbSerializer} (milliseconds since the epoch) and seconds since the epoch with a decimal
+ * fraction. Compact values are returned in UTC.
+ */
+@ThreadSafe
+public final class EventTimestampJsonbDeserializer implements JsonbDeserializer<ZonedDateTime> {
+
+    @Override
+    public ZonedDateTime deserialize(final JsonParser parser, final DeserializationContext ctx, final Type rtType) {
+        final JsonValue value = parser.getValue();
+        if (value == null || value.getValueType() == JsonValue.ValueType.NULL) {
+            return null;
+        }
+        try {
+            if (value instanceof JsonNumber number) {
+                if (number.isIntegral()) {
+                    return ZonedDateTime.ofInstant(Instant.ofEpochMilli(number.longValueExact()), ZoneOffset.UTC);
+                }
+                final BigDecimal seconds = number.bigDecimalValue();
+                final long epochSecond = seconds.longValue();
+                final long nanos = seconds.subtract(BigDecimal.valueOf(epochSecond)).movePointRight(9).longValue();
+                return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nanos), ZoneOffset.UTC);
+            }
+            if (value instanceof JsonString str) {
+                return ZonedDateTime.parse(str.getString());
+            }
+        } catch (final DateTimeException | ArithmeticException ex) {
+            throw new JsonbException("Cannot read event time stamp: " + value, ex);
+        }
+        throw new JsonbException("Expected a string or a number for an event time stamp, but was: " + value.getValueType());
+    }
+
+}
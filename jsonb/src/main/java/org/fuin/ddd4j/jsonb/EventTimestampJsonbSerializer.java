@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jsonb;
+
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the event time stamp of an {@link AbstractEvent} (JSON-B). By default, the ISO-8601 form is written as before. After
+ * {@link #setCompact(boolean)} was called with {@literal true}, the compact form is written as milliseconds since the epoch. The time
+ * zone is not stored then, so the {@link EventTimestampJsonbDeserializer} returns the time stamp in UTC. The serializer is bound to the
+ * event time stamp property only, so other {@link ZonedDateTime} values are not changed - Don't register it with
+ * {@link jakarta.json.bind.JsonbConfig#withSerializers(JsonbSerializer[])}.
+ */
+@ThreadSafe
+public final class EventTimestampJsonbSerializer implements JsonbSerializer<ZonedDateTime> {
+
+    private static volatile boolean compact;
+
+    /**
+     * Returns if event time stamps are written in the compact form.
+     *
+     * @return {@literal true} if milliseconds since the epoch are written, {@literal false} if the ISO-8601 form is written.
+     */
+    public static boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Sets the form of all event time stamps written from now on.
+     *
+     * @param compact
+     *            {@literal true} to write milliseconds since the epoch, {@literal false} to write the ISO-8601 form (Default).
+     */
+    public static void setCompact(final boolean compact) {
+        EventTimestampJsonbSerializer.compact = compact;
+    }
+
+    @Override
+    public void serialize(final ZonedDateTime value, final JsonGenerator generator, final SerializationContext ctx) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (compact) {
+            generator.write(value.toInstant().toEpochMilli());
+        } else {
+            generator.write(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+        }
+    }
+
+}
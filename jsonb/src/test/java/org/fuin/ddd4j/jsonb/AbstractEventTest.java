@@ -7,7 +7,9 @@ import org.fuin.ddd4j.core.EventType;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serial;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -149,6 +151,50 @@ public class AbstractEventTest {
 
     }
 
+    @Test
+    public final void testMarshalUnmarshalCompactTimestamp() throws Exception {
+
+        // PREPARE
+        final ZonedDateTime timestamp = ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"));
+        final MyEvent1 original = new MyEvent1.Builder().eventId(new EventId()).timestamp(timestamp).build();
+
+        // TEST
+        EventTimestampJsonbSerializer.setCompact(true);
+        try (final Jsonb jsonb = jsonb()) {
+            final String json = jsonb.toJson(original);
+            final MyEvent1 copy = jsonb.fromJson(json, MyEvent1.class);
+
+            // VERIFY
+            assertThat(json).contains("\"event-timestamp\":1474187888123");
+            assertThat(copy.getEventId()).isEqualTo(original.getEventId());
+            assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(timestamp.toInstant());
+            assertThat(copy.getEventTimestamp().getZone()).isEqualTo(ZoneOffset.UTC);
+        } finally {
+            EventTimestampJsonbSerializer.setCompact(false);
+        }
+
+    }
+
+    @Test
+    public final void testUnmarshalCompactTimestamp() throws Exception {
+
+        // PREPARE
+        final String json = """
+                {
+                  "event-id" : "f910c6d7-debc-46e1-ae02-9ca6f4658cf5",
+                  "event-timestamp" : 1474187888000
+                }""";
+
+        // TEST
+        try (final Jsonb jsonb = jsonb()) {
+            final MyEvent1 copy = jsonb.fromJson(json, MyEvent1.class);
+
+            // VERIFY
+            assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(Instant.parse("2016-09-18T08:38:08Z"));
+        }
+
+    }
+
     public static class MyEvent1 extends AbstractEvent {
 
         @Serial
@@ -19,6 +19,7 @@ package org.fuin.ddd4j.jsonb;
 
 import org.fuin.ddd4j.core.EntityId;
 import org.fuin.ddd4j.core.EntityIdPath;
+import org.fuin.ddd4j.core.EntityIdPathCache;
 import org.fuin.ddd4j.jsonbtest.AId;
 import org.fuin.ddd4j.jsonbtest.BId;
 import org.fuin.ddd4j.jsonbtest.CId;
@@ -96,6 +97,24 @@ public class EntityIdPathJsonbAdapterTest {
 
     }
 
+    @Test
+    public void testUnmarshalWithCache() throws Exception {
+
+        // PREPARE
+        final EntityIdPathCache cache = new EntityIdPathCache(new JsonbTestEntityIdFactory());
+        final EntityIdPathJsonbAdapter testee = new EntityIdPathJsonbAdapter(cache);
+
+        // TEST
+        final EntityIdPath path = testee.adaptFromJson("A 1/B 2");
+
+        // VERIFY
+        assertThat(path).isEqualTo(new EntityIdPath(new AId(1), new BId(2)));
+        assertThat(testee.adaptFromJson("A 1/B 2")).isSameAs(path);
+        assertThat(testee.adaptFromJson(null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+    }
+
     private void assertValues(EntityId entityId, Class<?> typeClass, String type, long id) {
         assertThat(entityId).isInstanceOf(typeClass);
         assertThat(entityId.getType().asString()).isEqualTo(type);
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 Michael Schnell. All rights reserved.
+ * http://www.fuin.org/
+ * <p>
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 3 of the License, or (at your option) any
+ * later version.
+ * <p>
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. If not, see http://www.gnu.org/licenses/.
+ */
+package org.fuin.ddd4j.jsonb;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTimestampJsonbDeserializerTest {
+
+    private static final Instant INSTANT = Instant.parse("2016-09-18T08:38:08.123Z");
+
+    private static ZonedDateTime read(final String json) {
+        try (final JsonParser parser = Json.createParser(new StringReader(json))) {
+            parser.next();
+            return new EventTimestampJsonbDeserializer().deserialize(parser, null, ZonedDateTime.class);
+        }
+    }
+
+    @Test
+    public void testIsoString() {
+        final ZonedDateTime result = read("\"2016-09-18T10:38:08.123+02:00[Europe/Berlin]\"");
+        assertThat(result.toInstant()).isEqualTo(INSTANT);
+        assertThat(result.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+    }
+
+    @Test
+    public void testEpochMillis() {
+        final ZonedDateTime result = read("1474187888123");
+        assertThat(result.toInstant()).isEqualTo(INSTANT);
+        assertThat(result.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void testEpochSecondsWithFraction() {
+        assertThat(read("1474187888.123000000").toInstant()).isEqualTo(INSTANT);
+    }
+
+    @Test
+    public void testNull() {
+        assertThat(read("null")).isNull();
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.fuin.ddd4j.jsonb;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.annotation.JsonbProperty;
+import org.fuin.ddd4j.core.EventId;
+import org.fuin.ddd4j.core.EventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fuin.ddd4j.jsonb.TestUtils.jsonb;
+
+public class EventTimestampJsonbSerializerTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2016, 9, 18, 10, 38, 8, 123000000, ZoneId.of("Europe/Berlin"));
+
+    @AfterEach
+    public void teardown() {
+        EventTimestampJsonbSerializer.setCompact(false);
+    }
+
+    @Test
+    public void testMarshalIsoByDefault() throws Exception {
+
+        // PREPARE
+        final TimedEvent event = new TimedEvent(TIMESTAMP);
+
+        // TEST
+        try (final Jsonb jsonb = jsonb()) {
+            final String json = jsonb.toJson(event);
+
+            // VERIFY
+            assertThat(EventTimestampJsonbSerializer.isCompact()).isFalse();
+            assertThat(json).contains("\"event-timestamp\":" + jsonb.toJson(TIMESTAMP));
+            assertThat(json).contains("\"other-timestamp\":" + jsonb.toJson(TIMESTAMP));
+            assertThat(jsonb.fromJson(json, TimedEvent.class).getEventTimestamp()).isEqualTo(TIMESTAMP);
+        }
+
+    }
+
+    @Test
+    public void testMarshalCompactOnlyEventTimestamp() throws Exception {
+
+        // PREPARE
+        final TimedEvent event = new TimedEvent(TIMESTAMP);
+        EventTimestampJsonbSerializer.setCompact(true);
+
+        // TEST
+        try (final Jsonb jsonb = jsonb()) {
+            final String json = jsonb.toJson(event);
+            final TimedEvent copy = jsonb.fromJson(json, TimedEvent.class);
+
+            // VERIFY
+            assertThat(json).contains("\"event-timestamp\":1474187888123");
+            assertThat(json).contains("\"other-timestamp\":" + jsonb.toJson(TIMESTAMP));
+            assertThat(jsonb.toJson(TIMESTAMP)).isNotEqualTo("1474187888123");
+            assertThat(copy.getEventTimestamp().toInstant()).isEqualTo(TIMESTAMP.toInstant());
+            assertThat(copy.otherTimestamp).isEqualTo(TIMESTAMP);
+        }
+
+    }
+
+    public static class TimedEvent extends AbstractEvent {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private static final EventType TYPE = new EventType("TimedEvent");
+
+        @JsonbProperty("other-timestamp")
+        private ZonedDateTime otherTimestamp;
+
+        public TimedEvent() {
+            super();
+        }
+
+        public TimedEvent(final ZonedDateTime timestamp) {
+            super();
+            new Builder(this).eventId(new EventId()).timestamp(timestamp);
+            this.otherTimestamp = timestamp;
+        }
+
+        @Override
+        public EventType getEventType() {
+            return TYPE;
+        }
+
+        private static final class Builder extends AbstractEvent.Builder<TimedEvent, Builder> {
+
+            private Builder(final TimedEvent event) {
+                super(event);
+            }
+
+        }
+
+    }
+
+}